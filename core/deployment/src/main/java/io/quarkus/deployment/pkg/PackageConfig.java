@@ -150,6 +150,17 @@ public class PackageConfig {
     @ConfigItem(defaultValue = "true")
     public boolean includeDependencyList;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true then, in addition to the
+     * jars, the uncompressed bytes of all the application and library classes are packed into a single pre-indexed
+     * file that is memory mapped at startup. Classes are then loaded straight from that file, without inflating jar
+     * entries or contending on the jars, at the expense of a larger distribution.
+     * <p>
+     * Classes from multi-release jars are not packed, and are still loaded from their jar.
+     */
+    @ConfigItem
+    public boolean mappedClassIndex;
+
     /**
      * Fernflower Decompiler configuration
      */
@@ -705,7 +705,7 @@ public class JarResultBuildStep {
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, parentFirst,
-                    nonExistentResources);
+                    nonExistentResources, packageConfig.mappedClassIndex);
         }
 
         runnerJar.toFile().setReadable(true, false);
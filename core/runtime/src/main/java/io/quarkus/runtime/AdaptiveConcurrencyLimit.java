@@ -0,0 +1,129 @@
+package io.quarkus.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * A concurrency limit driven by the queue latency of the tasks, based on the gradient algorithm.
+ * <p>
+ * The latency samples are aggregated over an interval. At the end of an interval the gradient
+ * {@code target / observed} (bounded to {@code [0.5, 1.0]}) is computed. If the target is met and at least half of the limit
+ * was in use, the limit grows by its square root. Otherwise the limit is multiplied by the smoothed gradient, i.e. it shrinks
+ * by up to 10% per interval.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final int minLimit;
+    private final int maxLimit;
+    private final IntConsumer limitListener;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong nextUpdate;
+    private final LongAdder sampleSum = new LongAdder();
+    private final LongAdder sampleCount = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+    private volatile int maxInFlight;
+
+    AdaptiveConcurrencyLimit(long targetNanos, long intervalNanos, int minLimit, int maxLimit, int initialLimit,
+            IntConsumer limitListener) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    "Invalid concurrency limit bounds: min " + minLimit + ", max " + maxLimit);
+        }
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limitListener = limitListener;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.nextUpdate = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+
+    /**
+     *
+     * @return {@code true} if the task may be submitted, {@code false} if the limit is reached
+     */
+    boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 > maxInFlight) {
+                    // Racy, but it is only a hint for the next update
+                    maxInFlight = current + 1;
+                }
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     *
+     * @param queueNanos the time a task spent in the queue
+     * @param now the current value of {@link System#nanoTime()}
+     */
+    void onSample(long queueNanos, long now) {
+        sampleSum.add(queueNanos);
+        sampleCount.increment();
+        long next = nextUpdate.get();
+        if (now - next >= 0 && nextUpdate.compareAndSet(next, now + intervalNanos)) {
+            update();
+        }
+    }
+
+    void update() {
+        long count = sampleCount.sumThenReset();
+        long sum = sampleSum.sumThenReset();
+        int used = maxInFlight;
+        maxInFlight = inFlight.get();
+        if (count == 0) {
+            return;
+        }
+        int current = limit;
+        double observed = (double) sum / count;
+        int newLimit;
+        if (observed <= targetNanos) {
+            if (used * 2 < current) {
+                // The limit is not the bottleneck - there is no point in growing it
+                return;
+            }
+            newLimit = current + Math.max(1, (int) Math.sqrt(current));
+        } else {
+            double gradient = Math.max(0.5, targetNanos / observed);
+            newLimit = (int) (current * (1 - SMOOTHING + SMOOTHING * gradient));
+        }
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if (newLimit != current) {
+            limit = newLimit;
+            limitListener.accept(newLimit);
+        }
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getRejected() {
+        return rejected.sum();
+    }
+
+}
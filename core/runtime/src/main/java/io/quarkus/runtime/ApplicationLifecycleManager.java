@@ -4,11 +4,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.stream.Collectors;
 
@@ -20,7 +20,9 @@ import javax.enterprise.inject.spi.CDI;
 
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logging.Logger;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.wildfly.common.lock.Locks;
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
@@ -28,6 +30,7 @@ import io.quarkus.bootstrap.runner.RunnerClassLoader;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.ProfileManager;
 import io.quarkus.runtime.graal.DiagnosticPrinter;
+import io.quarkus.runtime.logging.RingBufferAsyncHandler;
 import sun.misc.Signal;
 import sun.misc.SignalHandler;
 
@@ -219,34 +222,30 @@ public class ApplicationLifecycleManager {
 
     // this is needed only when async console logging is enabled
     private static void ensureConsoleLogsDrained() {
-        AsyncHandler asyncHandler = null;
         for (Handler handler : InitialConfigurator.DELAYED_HANDLER.getHandlers()) {
-            if (handler instanceof AsyncHandler) {
-                asyncHandler = (AsyncHandler) handler;
-                Handler[] nestedHandlers = asyncHandler.getHandlers();
-                boolean foundNestedConsoleHandler = false;
-                for (Handler nestedHandler : nestedHandlers) {
-                    if (nestedHandler instanceof ConsoleHandler) {
-                        foundNestedConsoleHandler = true;
-                        break;
-                    }
-                }
-                if (!foundNestedConsoleHandler) {
-                    asyncHandler = null;
-                }
+            if (handler instanceof RingBufferAsyncHandler && hasNestedConsoleHandler((RingBufferAsyncHandler) handler)) {
+                ((RingBufferAsyncHandler) handler).drain(1, TimeUnit.SECONDS);
+                return;
             }
-            if (asyncHandler != null) {
-                break;
+            if (handler instanceof AsyncHandler && hasNestedConsoleHandler((AsyncHandler) handler)) {
+                try {
+                    // all we can do is wait because the thread that takes records off the queue is a daemon thread and there is no way to interact with its lifecycle
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
             }
         }
-        if (asyncHandler != null) {
-            try {
-                // all we can do is wait because the thread that takes records off the queue is a daemon thread and there is no way to interact with its lifecycle
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    }
+
+    private static boolean hasNestedConsoleHandler(ExtHandler handler) {
+        for (Handler nestedHandler : handler.getHandlers()) {
+            if (nestedHandler instanceof ConsoleHandler) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
@@ -0,0 +1,64 @@
+package io.quarkus.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Enforces the adaptive concurrency limit on the tasks submitted through this executor, which are run by the core thread
+ * pool. The tasks submitted directly to the core thread pool are not limited.
+ *
+ * @see ThreadPoolAdaptiveConfig
+ * @see ExecutorRecorder#getBlockingDispatchExecutor()
+ */
+final class ConcurrencyLimitedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final AdaptiveConcurrencyLimit limit;
+
+    ConcurrencyLimitedExecutor(Executor delegate, AdaptiveConcurrencyLimit limit) {
+        this.delegate = delegate;
+        this.limit = limit;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!limit.tryAcquire()) {
+            throw new RejectedExecutionException(
+                    "The concurrency limit of the blocking dispatch has been reached: " + limit.getLimit());
+        }
+        try {
+            delegate.execute(new LimitedTask(command, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            limit.release();
+            throw e;
+        }
+    }
+
+    AdaptiveConcurrencyLimit getLimit() {
+        return limit;
+    }
+
+    private final class LimitedTask implements Runnable {
+
+        private final Runnable task;
+        private final long submitted;
+
+        LimitedTask(Runnable task, long submitted) {
+            this.task = task;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            limit.onSample(start - submitted, start);
+            try {
+                task.run();
+            } finally {
+                limit.release();
+            }
+        }
+
+    }
+
+}
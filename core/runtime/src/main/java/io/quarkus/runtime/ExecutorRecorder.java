@@ -7,6 +7,9 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 import org.jboss.threads.ContextHandler;
@@ -16,6 +19,7 @@ import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 /**
  *
@@ -25,7 +29,14 @@ public class ExecutorRecorder {
 
     private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
 
+    static final String QUEUE_TIME_METRIC_NAME = "thread.pool.queue.time";
+    static final String EXECUTION_TIME_METRIC_NAME = "thread.pool.execution.time";
+    static final String LIMIT_METRIC_NAME = "thread.pool.concurrency.limit";
+    static final String IN_FLIGHT_METRIC_NAME = "thread.pool.concurrency.in.flight";
+    static final String REJECTED_METRIC_NAME = "thread.pool.concurrency.rejected";
+
     private static volatile Executor current;
+    private static volatile Executor blockingDispatch;
 
     final ThreadPoolConfig threadPoolConfig;
 
@@ -46,7 +57,9 @@ public class ExecutorRecorder {
                         thread.start();
                     }
                     current = null;
-
+                    blockingDispatch = null;
+                    MonitoredExecutorService.queueTimer = null;
+                    MonitoredExecutorService.executionTimer = null;
                 }
             });
         } else {
@@ -56,8 +69,80 @@ public class ExecutorRecorder {
         if (threadPoolConfig.prefill) {
             underlying.prestartAllCoreThreads();
         }
-        current = underlying;
-        return underlying;
+        ExecutorService executor = underlying;
+        if (threadPoolConfig.metricsEnabled) {
+            executor = new MonitoredExecutorService(underlying);
+        }
+        current = executor;
+        // Only the blocking dispatch of the HTTP requests is limited, the other tasks of the core thread pool are not
+        blockingDispatch = threadPoolConfig.adaptive.enabled
+                ? new ConcurrencyLimitedExecutor(executor, createLimit(threadPoolConfig, underlying))
+                : executor;
+        return executor;
+    }
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (threadPoolConfig.metricsEnabled) {
+                    MonitoredExecutorService.queueTimer = metricsFactory.builder(QUEUE_TIME_METRIC_NAME)
+                            .description("Time the tasks spent in the queue of the core thread pool").buildTimer();
+                    MonitoredExecutorService.executionTimer = metricsFactory.builder(EXECUTION_TIME_METRIC_NAME)
+                            .description("Execution time of the tasks run by the core thread pool").buildTimer();
+                }
+                if (threadPoolConfig.adaptive.enabled) {
+                    metricsFactory.builder(LIMIT_METRIC_NAME)
+                            .description("Current adaptive concurrency limit of the blocking dispatch")
+                            .buildGauge(new Supplier<Number>() {
+                                @Override
+                                public Number get() {
+                                    AdaptiveConcurrencyLimit limit = currentLimit();
+                                    return limit != null ? limit.getLimit() : 0;
+                                }
+                            });
+                    metricsFactory.builder(IN_FLIGHT_METRIC_NAME)
+                            .description("Number of blocking dispatches queued or running in the core thread pool")
+                            .buildGauge(new Supplier<Number>() {
+                                @Override
+                                public Number get() {
+                                    AdaptiveConcurrencyLimit limit = currentLimit();
+                                    return limit != null ? limit.getInFlight() : 0;
+                                }
+                            });
+                    metricsFactory.builder(REJECTED_METRIC_NAME)
+                            .description("Number of blocking dispatches rejected because the concurrency limit was reached")
+                            .buildCounter(new Supplier<Number>() {
+                                @Override
+                                public Number get() {
+                                    AdaptiveConcurrencyLimit limit = currentLimit();
+                                    return limit != null ? limit.getRejected() : 0;
+                                }
+                            });
+                }
+            }
+        };
+    }
+
+    private static AdaptiveConcurrencyLimit currentLimit() {
+        Executor executor = blockingDispatch;
+        return executor instanceof ConcurrencyLimitedExecutor ? ((ConcurrencyLimitedExecutor) executor).getLimit() : null;
+    }
+
+    private static AdaptiveConcurrencyLimit createLimit(ThreadPoolConfig threadPoolConfig, EnhancedQueueExecutor executor) {
+        ThreadPoolAdaptiveConfig adaptive = threadPoolConfig.adaptive;
+        if (!adaptive.enabled) {
+            return null;
+        }
+        int maxLimit = adaptive.maxLimit.orElse(2 * executor.getMaximumPoolSize());
+        return new AdaptiveConcurrencyLimit(adaptive.targetQueueLatency.toNanos(), adaptive.adjustmentInterval.toNanos(),
+                adaptive.minLimit, maxLimit, maxLimit, new IntConsumer() {
+                    @Override
+                    public void accept(int limit) {
+                        // The size of the pool is left as is, it is shared with the tasks that are not limited
+                        log.debugf("Concurrency limit of the blocking dispatch changed to %d", limit);
+                    }
+                });
     }
 
     private static Runnable createShutdownTask(ThreadPoolConfig threadPoolConfig, EnhancedQueueExecutor executor) {
@@ -175,4 +260,13 @@ public class ExecutorRecorder {
     public static Executor getCurrent() {
         return current;
     }
+
+    /**
+     * @return the executor used to dispatch the HTTP requests to blocking handlers, it runs the tasks on the core thread
+     *         pool and enforces the adaptive concurrency limit if enabled
+     * @see ThreadPoolAdaptiveConfig
+     */
+    public static Executor getBlockingDispatchExecutor() {
+        return blockingDispatch;
+    }
 }
@@ -0,0 +1,87 @@
+package io.quarkus.runtime;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Wraps the core thread pool in order to record the queue time and the execution time of the tasks.
+ *
+ * @see ThreadPoolConfig#metricsEnabled
+ */
+final class MonitoredExecutorService extends AbstractExecutorService {
+
+    // Set once the metrics are registered, which may happen after the executor is created
+    static volatile TimeRecorder queueTimer;
+    static volatile TimeRecorder executionTimer;
+
+    private final EnhancedQueueExecutor delegate;
+
+    MonitoredExecutorService(EnhancedQueueExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(new MonitoredTask(command, System.nanoTime()));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    private final class MonitoredTask implements Runnable {
+
+        private final Runnable task;
+        private final long submitted;
+
+        MonitoredTask(Runnable task, long submitted) {
+            this.task = task;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            TimeRecorder queue = queueTimer;
+            if (queue != null) {
+                queue.update(start - submitted, TimeUnit.NANOSECONDS);
+            }
+            try {
+                task.run();
+            } finally {
+                TimeRecorder execution = executionTimer;
+                if (execution != null) {
+                    execution.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.quarkus.runtime;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * The adaptive concurrency limit of the requests dispatched by RESTEasy Reactive to the core thread pool.
+ * <p>
+ * The limit bounds the number of blocking dispatches that are either queued or running. It is periodically adjusted so
+ * that the average time a dispatch spends in the queue stays close to the target queue latency: it grows while the
+ * target is met and the limit is actually used, and it shrinks proportionally when the queue latency exceeds the target.
+ * Requests dispatched once the limit is reached get a {@code 503 Service Unavailable} response. The other tasks of the
+ * core thread pool are not limited, and the size of the pool is not changed.
+ */
+@ConfigGroup
+public class ThreadPoolAdaptiveConfig {
+
+    /**
+     * Whether the adaptive concurrency limit is enabled.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The average time a task may spend in the queue before the limit is decreased.
+     */
+    @ConfigItem(defaultValue = "0.050S")
+    public Duration targetQueueLatency;
+
+    /**
+     * The interval at which the limit is adjusted.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration adjustmentInterval;
+
+    /**
+     * The minimum value of the limit.
+     */
+    @ConfigItem(defaultValue = "8")
+    public int minLimit;
+
+    /**
+     * The maximum value of the limit. If this is not specified then twice the maximum number of threads is used.
+     */
+    @ConfigItem
+    public OptionalInt maxLimit;
+
+}
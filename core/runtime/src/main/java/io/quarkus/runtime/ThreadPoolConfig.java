@@ -84,4 +84,21 @@ public class ThreadPoolConfig {
     @ConfigItem(defaultValue = "30")
     public Duration keepAliveTime;
 
+    /**
+     * Whether the queue time and the execution time of the tasks submitted to the thread pool are recorded in case a
+     * metrics extension is present.
+     * <p>
+     * The times are published as the {@code thread.pool.queue.time} and {@code thread.pool.execution.time} timers. No
+     * percentile histogram is published by default, with Micrometer it can be enabled for these timers with a
+     * {@code MeterFilter}.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
+
+    /**
+     * The adaptive concurrency limit configuration.
+     */
+    @ConfigItem
+    public ThreadPoolAdaptiveConfig adaptive;
+
 }
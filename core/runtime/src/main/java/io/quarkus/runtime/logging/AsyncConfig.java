@@ -24,4 +24,13 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * Use a lock-free ring buffer instead of a blocking queue to hand the log records over to the logging thread.
+     * This avoids contention between the threads that log, at the cost of a spinning publisher when the buffer is full
+     * and the overflow action is {@code block}.
+     * The queue length is rounded up to the next power of two.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean ringBuffer;
 }
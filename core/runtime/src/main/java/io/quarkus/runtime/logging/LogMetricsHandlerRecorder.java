@@ -22,6 +22,14 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String ASYNC_QUEUE_DEPTH_METRIC_NAME = "log.async.queue.depth";
+
+    static final String ASYNC_QUEUE_DEPTH_METRIC_DESCRIPTION = "Number of log events waiting in the ring buffers of the asynchronous log handlers";
+
+    static final String ASYNC_DROPPED_METRIC_NAME = "log.async.dropped";
+
+    static final String ASYNC_DROPPED_METRIC_DESCRIPTION = "Number of log events dropped by the asynchronous log handlers because their ring buffer was full";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -43,6 +51,10 @@ public class LogMetricsHandlerRecorder {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(ASYNC_QUEUE_DEPTH_METRIC_NAME).description(ASYNC_QUEUE_DEPTH_METRIC_DESCRIPTION)
+                        .buildGauge(RingBufferAsyncHandler::totalQueueDepth);
+                metricsFactory.builder(ASYNC_DROPPED_METRIC_NAME).description(ASYNC_DROPPED_METRIC_DESCRIPTION)
+                        .buildCounter(RingBufferAsyncHandler::totalDropped);
             }
         };
     }
@@ -25,6 +25,7 @@ import java.util.logging.LogRecord;
 
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logmanager.EmbeddedConfigurator;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
@@ -537,7 +538,14 @@ public class LoggingSetupRecorder {
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.ringBuffer) {
+            final RingBufferAsyncHandler ringBufferHandler = new RingBufferAsyncHandler(asyncConfig.queueLength,
+                    asyncConfig.overflow);
+            ringBufferHandler.addHandler(handler);
+            ringBufferHandler.setLevel(level);
+            return ringBufferHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
         asyncHandler.setOverflowAction(asyncConfig.overflow);
         asyncHandler.addHandler(handler);
@@ -0,0 +1,236 @@
+package io.quarkus.runtime.logging;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler backed by a bounded, lock-free, multiple producers single consumer ring buffer.
+ * <p>
+ * Unlike {@link org.jboss.logmanager.handlers.AsyncHandler}, publishing a record never takes a lock: the publishing
+ * thread claims a slot with a CAS and the consumer thread is only woken up when it is idle. When the buffer is full,
+ * the record is either dropped or the publisher spins until a slot is available, depending on the
+ * {@link OverflowAction}.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    private static final Set<RingBufferAsyncHandler> HANDLERS = new CopyOnWriteArraySet<>();
+    private static final LongAdder DROPPED = new LongAdder();
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<ExtLogRecord> slots;
+    // the sequence of a slot tells whether it can be written (sequence == position) or read (sequence == position + 1)
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // only written by the consumer thread
+    private volatile long head;
+    // the position of the next record to be published to the nested handlers, only written by the consumer thread
+    private volatile long published;
+    private volatile boolean consumerIdle;
+    private volatile boolean closed;
+    private final OverflowAction overflowAction;
+    private final Thread consumer;
+
+    public RingBufferAsyncHandler(int queueLength, OverflowAction overflowAction) {
+        if (queueLength < 1) {
+            throw new IllegalArgumentException("The queue length must be greater than 0");
+        }
+        this.capacity = queueLength == 1 ? 1 : Integer.highestOneBit(queueLength - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.overflowAction = overflowAction;
+        this.consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume();
+            }
+        }, "quarkus-async-log");
+        consumer.setDaemon(true);
+        consumer.start();
+        HANDLERS.add(this);
+    }
+
+    public int getQueueLength() {
+        return capacity;
+    }
+
+    public OverflowAction getOverflowAction() {
+        return overflowAction;
+    }
+
+    /**
+     * @return the number of records waiting to be published to the nested handlers
+     */
+    public int getQueueDepth() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            return;
+        }
+        if (Thread.currentThread() == consumer) {
+            // logging from a nested handler, going through the buffer could dead lock
+            publishToNestedHandlers(record);
+            return;
+        }
+        // the record is published from another thread, capture everything that depends on the current thread
+        record.copyAll();
+        while (!offer(record)) {
+            if (overflowAction == OverflowAction.DISCARD) {
+                DROPPED.increment();
+                return;
+            }
+            wakeUpConsumer();
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            if (closed) {
+                return;
+            }
+        }
+        if (consumerIdle) {
+            wakeUpConsumer();
+        }
+    }
+
+    /**
+     * Waits until the records published before this method was invoked are published to the nested handlers, then flushes
+     * the nested handlers.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return {@code true} if the records were drained, {@code false} if the timeout elapsed
+     */
+    public boolean drain(long timeout, TimeUnit unit) {
+        if (Thread.currentThread() == consumer) {
+            // the records are published by this thread
+            return false;
+        }
+        long target = tail.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (published < target) {
+            if (System.nanoTime() - deadline >= 0 || !consumer.isAlive()) {
+                return false;
+            }
+            wakeUpConsumer();
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        flush();
+        return true;
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        HANDLERS.remove(this);
+        wakeUpConsumer();
+        try {
+            // let the consumer drain the buffer
+            consumer.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.close();
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        long position = tail.get();
+        int index;
+        for (;;) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot still holds a record from the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+        slots.lazySet(index, record);
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    private ExtLogRecord poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        ExtLogRecord record = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return record;
+    }
+
+    private void wakeUpConsumer() {
+        LockSupport.unpark(consumer);
+    }
+
+    private void consume() {
+        for (;;) {
+            ExtLogRecord record = poll();
+            if (record != null) {
+                try {
+                    publishToNestedHandlers(record);
+                } catch (Exception e) {
+                    reportError("Failed to publish an asynchronous log record", e, ErrorManager.WRITE_FAILURE);
+                }
+                published = head;
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            consumerIdle = true;
+            // check again, a record may have been published before the flag was visible
+            if (tail.get() == head) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            consumerIdle = false;
+        }
+    }
+
+    static long totalQueueDepth() {
+        long depth = 0;
+        for (RingBufferAsyncHandler handler : HANDLERS) {
+            depth += handler.getQueueDepth();
+        }
+        return depth;
+    }
+
+    static long totalDropped() {
+        return DROPPED.sum();
+    }
+}
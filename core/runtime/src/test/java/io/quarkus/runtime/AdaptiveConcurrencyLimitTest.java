@@ -0,0 +1,121 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(10);
+    // Updates are triggered manually
+    private static final long INTERVAL = TimeUnit.DAYS.toNanos(1);
+
+    @Test
+    public void rejectsWhenLimitReached() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TARGET, INTERVAL, 1, 4, 4, noop());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+        assertFalse(limit.tryAcquire());
+        assertEquals(1, limit.getRejected());
+        limit.release();
+        assertTrue(limit.tryAcquire());
+        assertEquals(4, limit.getInFlight());
+    }
+
+    @Test
+    public void shrinksWhenQueueLatencyExceedsTarget() {
+        AtomicInteger notified = new AtomicInteger();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TARGET, INTERVAL, 1, 200, 100, notified::set);
+        sample(limit, 4 * TARGET);
+        limit.update();
+        // The gradient is bounded to 0.5 and smoothed: 100 * (0.8 + 0.2 * 0.5)
+        assertEquals(90, limit.getLimit());
+        assertEquals(90, notified.get());
+    }
+
+    @Test
+    public void growsWhenTargetMetAndLimitUsed() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TARGET, INTERVAL, 1, 200, 100, noop());
+        for (int i = 0; i < 60; i++) {
+            limit.tryAcquire();
+        }
+        sample(limit, TARGET / 10);
+        limit.update();
+        assertEquals(110, limit.getLimit());
+    }
+
+    @Test
+    public void doesNotGrowWhenLimitUnused() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TARGET, INTERVAL, 1, 200, 100, noop());
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+        }
+        sample(limit, TARGET / 10);
+        limit.update();
+        assertEquals(100, limit.getLimit());
+    }
+
+    @Test
+    public void staysWithinBounds() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TARGET, INTERVAL, 8, 10, 10, noop());
+        for (int i = 0; i < 20; i++) {
+            sample(limit, 100 * TARGET);
+            limit.update();
+        }
+        assertEquals(8, limit.getLimit());
+        for (int i = 0; i < 20; i++) {
+            while (limit.tryAcquire()) {
+                // use the whole limit
+            }
+            sample(limit, 0);
+            limit.update();
+            while (limit.getInFlight() > 0) {
+                limit.release();
+            }
+        }
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    public void executorReleasesOnCompletion() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TARGET, INTERVAL, 1, 2, 2, noop());
+        List<Runnable> queued = new ArrayList<>();
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(queued::add, limit);
+        AtomicInteger executed = new AtomicInteger();
+        executor.execute(executed::incrementAndGet);
+        executor.execute(executed::incrementAndGet);
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(executed::incrementAndGet));
+        assertEquals(2, limit.getInFlight());
+        queued.remove(0).run();
+        assertEquals(1, executed.get());
+        assertEquals(1, limit.getInFlight());
+        executor.execute(executed::incrementAndGet);
+        assertEquals(2, queued.size());
+    }
+
+    private static void sample(AdaptiveConcurrencyLimit limit, long queueNanos) {
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(queueNanos, System.nanoTime());
+        }
+    }
+
+    private static IntConsumer noop() {
+        return new IntConsumer() {
+            @Override
+            public void accept(int value) {
+            }
+        };
+    }
+
+}
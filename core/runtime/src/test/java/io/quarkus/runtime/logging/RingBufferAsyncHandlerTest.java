@@ -0,0 +1,127 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferAsyncHandlerTest {
+
+    @Test
+    public void queueLengthIsRoundedToPowerOfTwo() {
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(500, OverflowAction.BLOCK);
+        try {
+            assertEquals(512, handler.getQueueLength());
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void allRecordsArePublishedInOrder() throws InterruptedException {
+        CollectingHandler collector = new CollectingHandler();
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16, OverflowAction.BLOCK);
+        handler.addHandler(collector);
+
+        int threads = 4;
+        int recordsPerThread = 10_000;
+        List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String prefix = t + ":";
+            Thread publisher = new Thread(() -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    handler.publish(new LogRecord(Level.INFO, prefix + i));
+                }
+            });
+            publishers.add(publisher);
+            publisher.start();
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        handler.close();
+
+        assertEquals(threads * recordsPerThread, collector.records.size());
+        int[] next = new int[threads];
+        for (LogRecord record : collector.records) {
+            String[] parts = record.getMessage().split(":");
+            int thread = Integer.parseInt(parts[0]);
+            assertEquals(next[thread]++, Integer.parseInt(parts[1]));
+        }
+    }
+
+    @Test
+    public void recordsAreDroppedWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler collector = new CollectingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4, OverflowAction.DISCARD);
+        handler.addHandler(collector);
+        long droppedBefore = RingBufferAsyncHandler.totalDropped();
+
+        // the first record is taken by the blocked consumer, the next 4 fill the buffer
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        assertTrue(handler.getQueueDepth() <= 4);
+        assertTrue(RingBufferAsyncHandler.totalDropped() - droppedBefore >= 5);
+
+        release.countDown();
+        handler.close();
+        assertEquals(10, collector.records.size() + RingBufferAsyncHandler.totalDropped() - droppedBefore);
+    }
+
+    @Test
+    public void drainWaitsForPublishedRecords() {
+        CollectingHandler collector = new CollectingHandler();
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(1024, OverflowAction.BLOCK);
+        handler.addHandler(collector);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                handler.publish(new LogRecord(Level.INFO, "record " + i));
+            }
+            assertTrue(handler.drain(10, TimeUnit.SECONDS));
+            assertEquals(1000, collector.records.size());
+        } finally {
+            handler.close();
+        }
+    }
+
+    static class CollectingHandler extends Handler {
+
+        final Queue<LogRecord> records = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
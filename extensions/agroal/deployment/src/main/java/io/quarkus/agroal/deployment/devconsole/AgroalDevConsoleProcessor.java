@@ -0,0 +1,16 @@
+package io.quarkus.agroal.deployment.devconsole;
+
+import io.quarkus.agroal.runtime.devconsole.AgroalConnectionMonitorSupplier;
+import io.quarkus.deployment.IsDevelopment;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
+
+public class AgroalDevConsoleProcessor {
+
+    @BuildStep(onlyIf = IsDevelopment.class)
+    public DevConsoleRuntimeTemplateInfoBuildItem collectConnectionMonitors(CurateOutcomeBuildItem curateOutcomeBuildItem) {
+        return new DevConsoleRuntimeTemplateInfoBuildItem("connectionMonitors", new AgroalConnectionMonitorSupplier(),
+                this.getClass(), curateOutcomeBuildItem);
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.agroal.test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.AgroalConnectionMonitor;
+import io.quarkus.agroal.runtime.AgroalConnectionMonitor.LeakReport;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AgroalConnectionMonitorTestCase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-connection-monitor.properties");
+
+    @Inject
+    AgroalDataSource defaultDS;
+
+    @Inject
+    DataSources dataSources;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testConnectionMetrics() throws SQLException {
+        SimpleTimer acquisitionTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.connection.acquisition.time", new Tag("datasource", "default")));
+        SimpleTimer holdTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.connection.hold.time", new Tag("datasource", "default")));
+        Gauge<?> maxSize = registry.getGauges()
+                .get(new MetricID("agroal.adaptive.max.size", new Tag("datasource", "default")));
+        Assertions.assertNotNull(acquisitionTime);
+        Assertions.assertNotNull(holdTime);
+        Assertions.assertNotNull(maxSize);
+        Assertions.assertEquals(8, maxSize.getValue());
+
+        long acquisitions = acquisitionTime.getCount();
+        long holds = holdTime.getCount();
+        try (Connection connection = defaultDS.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+        }
+        Assertions.assertEquals(acquisitions + 1, acquisitionTime.getCount());
+        Assertions.assertEquals(holds + 1, holdTime.getCount());
+    }
+
+    @Test
+    public void testLeakReport() throws Exception {
+        AgroalConnectionMonitor monitor = dataSources.getConnectionMonitor(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        Assertions.assertNotNull(monitor);
+        try (Connection connection = defaultDS.getConnection()) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (monitor.getLeakCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+        }
+        List<LeakReport> leakReports = monitor.getLeakReports();
+        Assertions.assertFalse(leakReports.isEmpty());
+        Assertions.assertNotNull(leakReports.get(0).getStackTrace());
+        Assertions.assertTrue(leakReports.get(0).getStackTrace().contains("testLeakReport"));
+    }
+
+}
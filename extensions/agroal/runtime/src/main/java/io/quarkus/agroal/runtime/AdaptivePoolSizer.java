@@ -0,0 +1,96 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * Adjusts the maximum size of a pool so that the average time spent acquiring a connection stays around a target.
+ * <p>
+ * The acquisition times are aggregated over an interval. At the end of an interval, if the average exceeds the target the
+ * maximum size grows by 25%. If the average is below half the target and the peak number of connections in use is lower
+ * than the maximum size, the maximum size shrinks by 12.5%, but never below the peak.
+ */
+final class AdaptivePoolSizer {
+
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final int lowerBound;
+    private final int upperBound;
+    private final IntConsumer maxSizeListener;
+
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicLong nextUpdate;
+    private final LongAdder sampleSum = new LongAdder();
+    private final LongAdder sampleCount = new LongAdder();
+
+    private volatile int maxSize;
+    private volatile int peakInUse;
+
+    AdaptivePoolSizer(long targetNanos, long intervalNanos, int lowerBound, int upperBound, IntConsumer maxSizeListener) {
+        if (lowerBound < 1 || upperBound < lowerBound) {
+            throw new IllegalArgumentException("Invalid pool size bounds: min " + lowerBound + ", max " + upperBound);
+        }
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.maxSizeListener = maxSizeListener;
+        this.maxSize = upperBound;
+        this.nextUpdate = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+
+    /**
+     *
+     * @param acquisitionNanos the time spent acquiring a connection
+     * @param now the current value of {@link System#nanoTime()}
+     */
+    void onAcquire(long acquisitionNanos, long now) {
+        int current = inUse.incrementAndGet();
+        if (current > peakInUse) {
+            // Racy, but it is only a hint for the next update
+            peakInUse = current;
+        }
+        sampleSum.add(acquisitionNanos);
+        sampleCount.increment();
+        long next = nextUpdate.get();
+        if (now - next >= 0 && nextUpdate.compareAndSet(next, now + intervalNanos)) {
+            update();
+        }
+    }
+
+    void onRelease() {
+        inUse.decrementAndGet();
+    }
+
+    void update() {
+        long count = sampleCount.sumThenReset();
+        long sum = sampleSum.sumThenReset();
+        int peak = peakInUse;
+        peakInUse = inUse.get();
+        if (count == 0) {
+            return;
+        }
+        int current = maxSize;
+        double average = (double) sum / count;
+        int newMaxSize;
+        if (average > targetNanos) {
+            newMaxSize = current + Math.max(1, current / 4);
+        } else if (average * 2 <= targetNanos && peak < current) {
+            newMaxSize = Math.max(peak, current - Math.max(1, current / 8));
+        } else {
+            return;
+        }
+        newMaxSize = Math.max(lowerBound, Math.min(upperBound, newMaxSize));
+        if (newMaxSize != current) {
+            maxSize = newMaxSize;
+            maxSizeListener.accept(newMaxSize);
+        }
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+
+}
@@ -0,0 +1,204 @@
+package io.quarkus.agroal.runtime;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSourceListener;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Tracks the acquisition and the usage of the connections of a datasource.
+ * <p>
+ * It records the time spent acquiring a connection and the time a connection is held by the application, drives the
+ * adaptive sizing of the pool and keeps the last leaks detected by Agroal. The stack trace of the acquiring thread is only
+ * captured for a sample of the acquisitions.
+ *
+ * @see DataSourceJdbcRuntimeConfig#adaptiveSizing
+ * @see DataSourceJdbcRuntimeConfig#leakDetectionStackSamplingRate
+ */
+public final class AgroalConnectionMonitor implements AgroalDataSourceListener {
+
+    private static final Logger log = Logger.getLogger("io.agroal.pool");
+
+    private static final int MAX_LEAK_REPORTS = 20;
+
+    private final String dataSourceName;
+    private final double stackSamplingRate;
+    private final AdaptivePoolSizer sizer;
+
+    private final ThreadLocal<long[]> acquisitionStart = new ThreadLocal<>();
+    private final ConcurrentMap<Connection, Acquisition> acquisitions = new ConcurrentHashMap<>();
+    private final LongAdder leakCount = new LongAdder();
+    private final Deque<LeakReport> leakReports = new ConcurrentLinkedDeque<>();
+
+    // Set once the metrics are registered, which happens after the datasource is created
+    private volatile TimeRecorder acquisitionTimer;
+    private volatile TimeRecorder holdTimer;
+
+    AgroalConnectionMonitor(String dataSourceName, double stackSamplingRate, AdaptivePoolSizer sizer) {
+        this.dataSourceName = dataSourceName;
+        this.stackSamplingRate = stackSamplingRate;
+        this.sizer = sizer;
+    }
+
+    public void setTimers(TimeRecorder acquisitionTimer, TimeRecorder holdTimer) {
+        this.acquisitionTimer = acquisitionTimer;
+        this.holdTimer = holdTimer;
+    }
+
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+
+    /**
+     *
+     * @return the current maximum size of the pool if adaptive sizing is enabled, {@code -1} otherwise
+     */
+    public int getAdaptiveMaxSize() {
+        return sizer != null ? sizer.getMaxSize() : -1;
+    }
+
+    public int getInUseCount() {
+        return acquisitions.size();
+    }
+
+    public long getLeakCount() {
+        return leakCount.sum();
+    }
+
+    /**
+     *
+     * @return the last detected leaks, the most recent first
+     */
+    public List<LeakReport> getLeakReports() {
+        return new ArrayList<>(leakReports);
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        long[] start = acquisitionStart.get();
+        if (start == null) {
+            start = new long[1];
+            acquisitionStart.set(start);
+        }
+        start[0] = System.nanoTime();
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        long now = System.nanoTime();
+        long[] start = acquisitionStart.get();
+        long acquisitionNanos = start != null ? now - start[0] : 0;
+        Throwable stackTrace = null;
+        if (stackSamplingRate > 0 && ThreadLocalRandom.current().nextDouble() < stackSamplingRate) {
+            stackTrace = new Throwable("Connection acquired by thread " + Thread.currentThread().getName());
+        }
+        // A connection enlisted in a transaction is acquired again for each use, keep the first acquisition
+        if (acquisitions.putIfAbsent(connection, new Acquisition(now, stackTrace)) == null) {
+            TimeRecorder timer = acquisitionTimer;
+            if (timer != null) {
+                timer.update(acquisitionNanos, TimeUnit.NANOSECONDS);
+            }
+            if (sizer != null) {
+                sizer.onAcquire(acquisitionNanos, now);
+            }
+        }
+    }
+
+    @Override
+    public void onConnectionReturn(Connection connection) {
+        release(connection);
+    }
+
+    @Override
+    public void onConnectionDestroy(Connection connection) {
+        release(connection);
+    }
+
+    @Override
+    public void onConnectionLeak(Connection connection, Thread thread) {
+        leakCount.increment();
+        Acquisition acquisition = acquisitions.get(connection);
+        long heldMillis = acquisition != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquisition.start) : -1;
+        String threadName = thread != null ? thread.getName() : null;
+        Throwable stackTrace = acquisition != null ? acquisition.stackTrace : null;
+        leakReports.addFirst(new LeakReport(threadName, heldMillis, stackTrace));
+        while (leakReports.size() > MAX_LEAK_REPORTS) {
+            leakReports.pollLast();
+        }
+        if (stackTrace != null) {
+            log.warnv(stackTrace, "Datasource ''{0}'': Connection leak of {1} held for {2} ms", dataSourceName,
+                    connection, heldMillis);
+        }
+    }
+
+    private void release(Connection connection) {
+        Acquisition acquisition = acquisitions.remove(connection);
+        if (acquisition != null) {
+            TimeRecorder timer = holdTimer;
+            if (timer != null) {
+                timer.update(System.nanoTime() - acquisition.start, TimeUnit.NANOSECONDS);
+            }
+            if (sizer != null) {
+                sizer.onRelease();
+            }
+        }
+    }
+
+    private static final class Acquisition {
+
+        final long start;
+        final Throwable stackTrace;
+
+        Acquisition(long start, Throwable stackTrace) {
+            this.start = start;
+            this.stackTrace = stackTrace;
+        }
+    }
+
+    public static final class LeakReport {
+
+        private final String threadName;
+        private final long heldMillis;
+        private final Throwable stackTrace;
+
+        LeakReport(String threadName, long heldMillis, Throwable stackTrace) {
+            this.threadName = threadName;
+            this.heldMillis = heldMillis;
+            this.stackTrace = stackTrace;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getHeldMillis() {
+            return heldMillis;
+        }
+
+        /**
+         *
+         * @return the stack trace of the acquiring thread, or {@code null} if the acquisition was not sampled
+         */
+        public String getStackTrace() {
+            if (stackTrace == null) {
+                return null;
+            }
+            StringWriter writer = new StringWriter();
+            stackTrace.printStackTrace(new PrintWriter(writer));
+            return writer.toString();
+        }
+    }
+}
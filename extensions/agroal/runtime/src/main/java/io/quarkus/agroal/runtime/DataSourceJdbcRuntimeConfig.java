@@ -39,6 +39,28 @@ public class DataSourceJdbcRuntimeConfig {
     @ConfigItem(defaultValue = "20")
     public int maxSize = 20;
 
+    /**
+     * Whether the maximum size of the pool should be adjusted at runtime to keep the time spent acquiring a connection
+     * around {@code adaptive-sizing-target-acquisition-time}.
+     * <p>
+     * The maximum size starts at {@code max-size} and then shrinks when the connections are not needed, or grows back when
+     * the acquisition time exceeds the target. It never goes below {@code min-size} or above {@code max-size}.
+     */
+    @ConfigItem
+    public boolean adaptiveSizing;
+
+    /**
+     * The target average time spent acquiring a connection when {@code adaptive-sizing} is enabled.
+     */
+    @ConfigItem(defaultValue = "0.010S")
+    public Duration adaptiveSizingTargetAcquisitionTime = Duration.ofMillis(10);
+
+    /**
+     * The interval at which the maximum size of the pool is adjusted when {@code adaptive-sizing} is enabled.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration adaptiveSizingInterval = Duration.ofSeconds(10);
+
     /**
      * The interval at which we validate idle connections in the background.
      * <p>
@@ -65,6 +87,18 @@ public class DataSourceJdbcRuntimeConfig {
     @ConfigItem
     public Optional<Duration> leakDetectionInterval = Optional.empty();
 
+    /**
+     * The fraction of the connection acquisitions, between {@code 0} and {@code 1}, for which the stack trace of the
+     * acquiring thread is captured. When a leak is detected for such a connection, the stack trace is logged and shown in
+     * the Dev UI.
+     * <p>
+     * Capturing a stack trace is expensive, so it is disabled by default. Unlike {@code extended-leak-report}, it can be
+     * enabled for a small fraction of the acquisitions in production. Leaks are only detected if
+     * {@code leak-detection-interval} is set.
+     */
+    @ConfigItem(defaultValue = "0")
+    public double leakDetectionStackSamplingRate = 0;
+
     /**
      * The interval at which we try to remove idle connections.
      */
@@ -10,6 +10,7 @@ import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
@@ -23,7 +24,9 @@ import javax.transaction.TransactionSynchronizationRegistry;
 import org.jboss.logging.Logger;
 
 import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
 import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
@@ -72,6 +75,7 @@ public class DataSources {
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
 
     private final ConcurrentMap<String, AgroalDataSource> dataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AgroalConnectionMonitor> connectionMonitors = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -186,10 +190,18 @@ public class DataSources {
 
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
-        AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
-                new AgroalEventLoggingListener(dataSourceName,
-                        agroalConfiguration.connectionPoolConfiguration()
-                                .transactionRequirement() == TransactionRequirement.WARN));
+        AgroalDataSourceListener eventLoggingListener = new AgroalEventLoggingListener(dataSourceName,
+                agroalConfiguration.connectionPoolConfiguration()
+                        .transactionRequirement() == TransactionRequirement.WARN);
+        AgroalConnectionMonitor connectionMonitor = createConnectionMonitor(dataSourceName, agroalConfiguration,
+                dataSourceJdbcBuildTimeConfig, dataSourceJdbcRuntimeConfig);
+        AgroalDataSource dataSource;
+        if (connectionMonitor != null) {
+            connectionMonitors.put(dataSourceName, connectionMonitor);
+            dataSource = new io.agroal.pool.DataSource(agroalConfiguration, eventLoggingListener, connectionMonitor);
+        } else {
+            dataSource = new io.agroal.pool.DataSource(agroalConfiguration, eventLoggingListener);
+        }
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
@@ -206,6 +218,59 @@ public class DataSources {
         return dataSource;
     }
 
+    /**
+     *
+     * @return the connection monitor, or {@code null} if neither the metrics, the adaptive sizing nor the sampling of the
+     *         leaks are enabled
+     */
+    private AgroalConnectionMonitor createConnectionMonitor(String dataSourceName,
+            AgroalDataSourceConfiguration agroalConfiguration,
+            DataSourceJdbcBuildTimeConfig dataSourceJdbcBuildTimeConfig,
+            DataSourceJdbcRuntimeConfig dataSourceJdbcRuntimeConfig) {
+        boolean metricsEnabled = dataSourcesBuildTimeConfig.metricsEnabled
+                && dataSourceJdbcBuildTimeConfig.enableMetrics.orElse(true);
+        double stackSamplingRate = dataSourceJdbcRuntimeConfig.leakDetectionStackSamplingRate;
+        if (stackSamplingRate < 0 || stackSamplingRate > 1) {
+            throw new IllegalArgumentException("The leak detection stack sampling rate of datasource " + dataSourceName
+                    + " must be between 0 and 1: " + stackSamplingRate);
+        }
+        AdaptivePoolSizer sizer = null;
+        if (dataSourceJdbcRuntimeConfig.adaptiveSizing) {
+            if (dataSourceJdbcRuntimeConfig.poolingEnabled) {
+                AgroalConnectionPoolConfiguration poolConfiguration = agroalConfiguration.connectionPoolConfiguration();
+                sizer = new AdaptivePoolSizer(dataSourceJdbcRuntimeConfig.adaptiveSizingTargetAcquisitionTime.toNanos(),
+                        dataSourceJdbcRuntimeConfig.adaptiveSizingInterval.toNanos(),
+                        Math.max(1, dataSourceJdbcRuntimeConfig.minSize), dataSourceJdbcRuntimeConfig.maxSize,
+                        new IntConsumer() {
+                            @Override
+                            public void accept(int maxSize) {
+                                log.debugv("Adjusting the max size of datasource {0} to {1}", dataSourceName, maxSize);
+                                poolConfiguration.setMaxSize(maxSize);
+                            }
+                        });
+            } else {
+                log.warnv("Adaptive sizing is ignored for datasource {0} because pooling is disabled", dataSourceName);
+            }
+        }
+        if (!metricsEnabled && sizer == null && stackSamplingRate == 0) {
+            return null;
+        }
+        return new AgroalConnectionMonitor(dataSourceName, stackSamplingRate, sizer);
+    }
+
+    /**
+     *
+     * @param dataSourceName
+     * @return the connection monitor of the given datasource, or {@code null} if not available
+     */
+    public AgroalConnectionMonitor getConnectionMonitor(String dataSourceName) {
+        return connectionMonitors.get(dataSourceName);
+    }
+
+    public Collection<AgroalConnectionMonitor> getConnectionMonitors() {
+        return connectionMonitors.values();
+    }
+
     private void applyNewConfiguration(AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
             AgroalConnectionPoolConfigurationSupplier poolConfiguration,
             AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration, Class<?> driver,
@@ -0,0 +1,21 @@
+package io.quarkus.agroal.runtime.devconsole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.quarkus.agroal.runtime.AgroalConnectionMonitor;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.arc.Arc;
+
+public class AgroalConnectionMonitorSupplier implements Supplier<List<AgroalConnectionMonitor>> {
+
+    @Override
+    public List<AgroalConnectionMonitor> get() {
+        List<AgroalConnectionMonitor> monitors = new ArrayList<>(
+                Arc.container().instance(DataSources.class).get().getConnectionMonitors());
+        monitors.sort(Comparator.comparing(AgroalConnectionMonitor::getDataSourceName));
+        return monitors;
+    }
+}
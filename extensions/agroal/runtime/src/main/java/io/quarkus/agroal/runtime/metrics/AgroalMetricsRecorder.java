@@ -8,10 +8,13 @@ import java.util.function.Supplier;
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.runtime.AgroalConnectionMonitor;
+import io.quarkus.agroal.runtime.DataSources;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 
 /**
  * Subclasses are created and registered as {literal @}Dependent beans for each
@@ -111,6 +114,27 @@ public class AgroalMetricsRecorder {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                AgroalConnectionMonitor connectionMonitor = Arc.container().instance(DataSources.class).get()
+                        .getConnectionMonitor(dataSourceName);
+                if (connectionMonitor != null) {
+                    TimeRecorder acquisitionTimer = metricsFactory.builder("agroal.connection.acquisition.time")
+                            .description("Time spent acquiring a connection.")
+                            .tag("datasource", tagValue)
+                            .buildTimer();
+                    TimeRecorder holdTimer = metricsFactory.builder("agroal.connection.hold.time")
+                            .description("Time a connection is held by the application, from its acquisition until it is "
+                                    + "returned to the pool.")
+                            .tag("datasource", tagValue)
+                            .buildTimer();
+                    connectionMonitor.setTimers(acquisitionTimer, holdTimer);
+                    if (connectionMonitor.getAdaptiveMaxSize() > 0) {
+                        metricsFactory.builder("agroal.adaptive.max.size")
+                                .description("Current maximum size of the pool, adjusted by the adaptive sizing.")
+                                .tag("datasource", tagValue)
+                                .buildGauge(connectionMonitor::getAdaptiveMaxSize);
+                    }
+                }
             }
         };
     }
@@ -0,0 +1,91 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptivePoolSizerTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(10);
+    // Updates are triggered manually
+    private static final long INTERVAL = TimeUnit.DAYS.toNanos(1);
+
+    @Test
+    public void startsAtUpperBound() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(TARGET, INTERVAL, 2, 20, noop());
+        assertEquals(20, sizer.getMaxSize());
+    }
+
+    @Test
+    public void shrinksTowardPeakWhenFast() {
+        AtomicInteger notified = new AtomicInteger();
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(TARGET, INTERVAL, 2, 40, notified::set);
+        acquire(sizer, 4, 0);
+        release(sizer, 4);
+        sizer.update();
+        // 40 - 40 / 8
+        assertEquals(35, sizer.getMaxSize());
+        assertEquals(35, notified.get());
+        for (int i = 0; i < 50; i++) {
+            acquire(sizer, 4, 0);
+            release(sizer, 4);
+            sizer.update();
+        }
+        // never below the peak
+        assertEquals(4, sizer.getMaxSize());
+    }
+
+    @Test
+    public void growsWhenSlow() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(TARGET, INTERVAL, 2, 40, noop());
+        for (int i = 0; i < 50; i++) {
+            acquire(sizer, 2, 0);
+            release(sizer, 2);
+            sizer.update();
+        }
+        assertEquals(2, sizer.getMaxSize());
+        acquire(sizer, 2, 5 * TARGET);
+        sizer.update();
+        // 2 + max(1, 2 / 4)
+        assertEquals(3, sizer.getMaxSize());
+        for (int i = 0; i < 50; i++) {
+            acquire(sizer, 1, 5 * TARGET);
+            sizer.update();
+        }
+        assertEquals(40, sizer.getMaxSize());
+    }
+
+    @Test
+    public void keepsSizeAroundTarget() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(TARGET, INTERVAL, 2, 40, noop());
+        acquire(sizer, 10, (3 * TARGET) / 4);
+        release(sizer, 10);
+        sizer.update();
+        assertEquals(40, sizer.getMaxSize());
+    }
+
+    private static void acquire(AdaptivePoolSizer sizer, int count, long acquisitionNanos) {
+        for (int i = 0; i < count; i++) {
+            sizer.onAcquire(acquisitionNanos, System.nanoTime());
+        }
+    }
+
+    private static void release(AdaptivePoolSizer sizer, int count) {
+        for (int i = 0; i < count; i++) {
+            sizer.onRelease();
+        }
+    }
+
+    private static IntConsumer noop() {
+        return new IntConsumer() {
+            @Override
+            public void accept(int value) {
+            }
+        };
+    }
+
+}
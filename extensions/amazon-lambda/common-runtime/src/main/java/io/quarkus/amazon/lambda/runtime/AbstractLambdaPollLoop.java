@@ -7,6 +7,8 @@ import java.net.HttpURLConnection;
 import java.net.SocketException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.logging.Logger;
@@ -26,6 +28,7 @@ public abstract class AbstractLambdaPollLoop {
     private final ObjectReader clientCtxReader;
     private final LaunchMode launchMode;
     private static final String LAMBDA_TRACE_HEADER_PROP = "com.amazonaws.xray.traceHeader";
+    private static final String XRAY_CLASS = "com.amazonaws.xray.AWSXRay";
 
     public AbstractLambdaPollLoop(ObjectMapper objectMapper, ObjectReader cognitoIdReader, ObjectReader clientCtxReader,
             LaunchMode launchMode) {
@@ -37,161 +40,232 @@ public abstract class AbstractLambdaPollLoop {
 
     protected abstract boolean isStream();
 
-    protected HttpURLConnection requestConnection = null;
-
     public void startPollLoop(ShutdownContext context) {
+        startPollLoop(context, 1);
+    }
+
+    /**
+     * Starts polling the runtime API for invocations.
+     *
+     * @param context the shutdown context
+     * @param concurrency the number of invocations processed concurrently, each one by its own polling thread.
+     *        The Lambda service only sends one invocation at a time to an instance, a value greater than 1 is only useful
+     *        with runtime API implementations that allow several in-flight invocations per instance.
+     */
+    public void startPollLoop(ShutdownContext context, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The concurrency must be greater than 0: " + concurrency);
+        }
         final AtomicBoolean running = new AtomicBoolean(true);
-        // flag to check whether to interrupt.
-        final AtomicBoolean shouldInterrupt = new AtomicBoolean(true);
         String baseUrl = AmazonLambdaApi.baseUrl();
-        final Thread pollingThread = new Thread(new Runnable() {
-            @SuppressWarnings("unchecked")
+        // the system property read by the X-Ray SDK is shared by all the threads, it can only be set for a single poller
+        final boolean setTraceHeaderProperty = concurrency == 1;
+        if (!setTraceHeaderProperty && isXRayPresent()) {
+            log.warnf("The %s system property is not set with concurrent invocations, the X-Ray SDK can't trace them: "
+                    + "use AmazonLambdaContext.getTraceHeader() to get the trace header of an invocation",
+                    LAMBDA_TRACE_HEADER_PROP);
+        }
+        final List<Poller> pollers = new CopyOnWriteArrayList<>();
+        final Poller mainPoller = new Poller(running, baseUrl, setTraceHeaderProperty) {
             @Override
-            public void run() {
-                try {
-                    if (!LambdaHotReplacementRecorder.enabled
-                            && (launchMode == LaunchMode.DEVELOPMENT || launchMode == LaunchMode.NORMAL)) {
-                        // when running with continuous testing, this method fails
-                        // because currentApplication is not set when running as an
-                        // auxiliary application.  So, just skip it if hot replacement enabled.
-                        // This method is called to determine if Quarkus is started and ready to receive requests.
-                        checkQuarkusBootstrapped();
-                    }
-                    URL requestUrl = AmazonLambdaApi.invocationNext(baseUrl);
-                    if (AmazonLambdaApi.isTestMode()) {
-                        // FYI: This log is required as native test runner
-                        // looks for "Listening on" in log to ensure native executable booted
-                        log.info("Listening on: " + requestUrl.toString());
-                    }
-                    while (running.get()) {
+            void init() throws Exception {
+                if (!LambdaHotReplacementRecorder.enabled
+                        && (launchMode == LaunchMode.DEVELOPMENT || launchMode == LaunchMode.NORMAL)) {
+                    // when running with continuous testing, this method fails
+                    // because currentApplication is not set when running as an
+                    // auxiliary application.  So, just skip it if hot replacement enabled.
+                    // This method is called to determine if Quarkus is started and ready to receive requests.
+                    checkQuarkusBootstrapped();
+                }
+                if (AmazonLambdaApi.isTestMode()) {
+                    // FYI: This log is required as native test runner
+                    // looks for "Listening on" in log to ensure native executable booted
+                    log.info("Listening on: " + AmazonLambdaApi.invocationNext(baseUrl).toString());
+                }
+                int pollerCount = concurrency;
+                if (pollerCount > 1 && LambdaHotReplacementRecorder.enabled && launchMode == LaunchMode.DEVELOPMENT) {
+                    // a hot replacement requeues the invocation and stops the loop, this only works with a single poller
+                    log.warn("Concurrent invocations are not supported with hot replacement, using a single poller");
+                    pollerCount = 1;
+                }
+                // the additional pollers only start once Quarkus is started
+                for (int i = 1; i < pollerCount; i++) {
+                    Poller poller = new Poller(running, baseUrl, setTraceHeaderProperty);
+                    pollers.add(poller);
+                    poller.start("Lambda Thread (" + launchMode + ") #" + i);
+                }
+            }
+        };
+        pollers.add(mainPoller);
+        context.addShutdownTask(() -> {
+            running.set(false);
+            for (Poller poller : pollers) {
+                poller.stop();
+            }
+        });
+        mainPoller.start("Lambda Thread (" + launchMode + ")");
+    }
 
-                        try {
-                            requestConnection = (HttpURLConnection) requestUrl.openConnection();
-                        } catch (IOException e) {
-                            if (!running.get()) {
-                                // just return gracefully as we were probably shut down by
-                                // shutdown task
-                                return;
-                            }
-                            if (abortGracefully(e)) {
-                                return;
-                            }
-                            throw e;
+    private class Poller implements Runnable {
+
+        private final AtomicBoolean running;
+        private final String baseUrl;
+        private final boolean setTraceHeaderProperty;
+        // flag to check whether to interrupt.
+        private final AtomicBoolean shouldInterrupt = new AtomicBoolean(true);
+        private volatile HttpURLConnection requestConnection;
+        private volatile Thread thread;
+
+        Poller(AtomicBoolean running, String baseUrl, boolean setTraceHeaderProperty) {
+            this.running = running;
+            this.baseUrl = baseUrl;
+            this.setTraceHeaderProperty = setTraceHeaderProperty;
+        }
+
+        void init() throws Exception {
+        }
+
+        void start(String name) {
+            Thread pollingThread = new Thread(this, name);
+            pollingThread.setDaemon(true);
+            thread = pollingThread;
+            pollingThread.start();
+        }
+
+        void stop() {
+            try {
+                //note that interrupting does not seem to be 100% reliable in unblocking the thread
+                requestConnection.disconnect();
+            } catch (Exception ignore) {
+            }
+            if (shouldInterrupt.get() && thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void run() {
+            try {
+                init();
+                URL requestUrl = AmazonLambdaApi.invocationNext(baseUrl);
+                while (running.get()) {
+
+                    try {
+                        requestConnection = (HttpURLConnection) requestUrl.openConnection();
+                    } catch (IOException e) {
+                        if (!running.get()) {
+                            // just return gracefully as we were probably shut down by
+                            // shutdown task
+                            return;
+                        }
+                        if (abortGracefully(e)) {
+                            return;
+                        }
+                        throw e;
+                    }
+                    HttpURLConnection requestConnection = this.requestConnection;
+                    try {
+                        String requestId = requestConnection.getHeaderField(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
+                        if (requestConnection.getResponseCode() != 200) {
+                            // connection should be closed by finally clause
+                            continue;
                         }
                         try {
-                            String requestId = requestConnection.getHeaderField(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
-                            if (requestConnection.getResponseCode() != 200) {
-                                // connection should be closed by finally clause
-                                continue;
-                            }
-                            try {
-                                if (LambdaHotReplacementRecorder.enabled && launchMode == LaunchMode.DEVELOPMENT) {
-                                    try {
-                                        // do not interrupt during a hot replacement
-                                        // as shutdown will abort and do nasty things.
-                                        shouldInterrupt.set(false);
-                                        if (LambdaHotReplacementRecorder.checkHotReplacement()) {
-                                            // hot replacement happened in dev mode
-                                            // so we requeue the request as quarkus will restart
-                                            // and the message will not be processed
-                                            // FYI: this requeue endpoint is something only the mock event server implements
-                                            requeue(baseUrl, requestId);
-                                            return;
-                                        }
-                                    } finally {
-                                        shouldInterrupt.set(true);
+                            if (LambdaHotReplacementRecorder.enabled && launchMode == LaunchMode.DEVELOPMENT) {
+                                try {
+                                    // do not interrupt during a hot replacement
+                                    // as shutdown will abort and do nasty things.
+                                    shouldInterrupt.set(false);
+                                    if (LambdaHotReplacementRecorder.checkHotReplacement()) {
+                                        // hot replacement happened in dev mode
+                                        // so we requeue the request as quarkus will restart
+                                        // and the message will not be processed
+                                        // FYI: this requeue endpoint is something only the mock event server implements
+                                        requeue(baseUrl, requestId);
+                                        return;
                                     }
+                                } finally {
+                                    shouldInterrupt.set(true);
                                 }
+                            }
+                            if (setTraceHeaderProperty) {
                                 String traceId = requestConnection.getHeaderField(AmazonLambdaApi.LAMBDA_TRACE_HEADER_KEY);
                                 if (traceId != null) {
                                     System.setProperty(LAMBDA_TRACE_HEADER_PROP, traceId);
                                 }
-                                URL url = AmazonLambdaApi.invocationResponse(baseUrl, requestId);
-                                if (isStream()) {
-                                    HttpURLConnection responseConnection = responseStream(url);
-                                    if (running.get()) {
-                                        processRequest(requestConnection.getInputStream(), responseConnection.getOutputStream(),
-                                                createContext(requestConnection));
-                                        while (responseConnection.getInputStream().read() != -1) {
-                                            // Read data
-                                        }
-                                    }
-                                } else {
-                                    Object input = null;
-                                    if (running.get()) {
-                                        LambdaInputReader inputReader = getInputReader();
-                                        if (inputReader != null) {
-                                            input = inputReader.readValue(requestConnection.getInputStream());
-                                        }
-                                        Object output = processRequest(input, createContext(requestConnection));
-                                        postResponse(url, output);
+                            }
+                            URL url = AmazonLambdaApi.invocationResponse(baseUrl, requestId);
+                            if (isStream()) {
+                                HttpURLConnection responseConnection = responseStream(url);
+                                if (running.get()) {
+                                    processRequest(requestConnection.getInputStream(), responseConnection.getOutputStream(),
+                                            createContext(requestConnection));
+                                    while (responseConnection.getInputStream().read() != -1) {
+                                        // Read data
                                     }
                                 }
-                            } catch (Exception e) {
-                                if (abortGracefully(e)) {
-                                    return;
+                            } else {
+                                Object input = null;
+                                if (running.get()) {
+                                    LambdaInputReader inputReader = getInputReader();
+                                    if (inputReader != null) {
+                                        input = inputReader.readValue(requestConnection.getInputStream());
+                                    }
+                                    Object output = processRequest(input, createContext(requestConnection));
+                                    postResponse(url, output);
                                 }
-                                log.error("Failed to run lambda (" + launchMode + ")", e);
-
-                                postError(AmazonLambdaApi.invocationError(baseUrl, requestId),
-                                        new FunctionError(e.getClass().getName(), e.getMessage()));
-                                continue;
                             }
-
                         } catch (Exception e) {
-                            if (!abortGracefully(e))
-                                log.error("Error running lambda (" + launchMode + ")", e);
-                            Application app = Application.currentApplication();
-                            if (app != null) {
-                                try {
-                                    app.stop();
-                                } catch (Exception ignored) {
-
-                                }
-                            }
-                            return;
-                        } finally {
-                            try {
-                                requestConnection.getInputStream().close();
-                            } catch (IOException ignored) {
+                            if (abortGracefully(e)) {
+                                return;
                             }
+                            log.error("Failed to run lambda (" + launchMode + ")", e);
+
+                            postError(AmazonLambdaApi.invocationError(baseUrl, requestId),
+                                    new FunctionError(e.getClass().getName(), e.getMessage()));
+                            continue;
                         }
 
-                    }
-                } catch (Exception e) {
-                    try {
-                        log.error("Lambda init error (" + launchMode + ")", e);
-                        postError(AmazonLambdaApi.initError(baseUrl),
-                                new FunctionError(e.getClass().getName(), e.getMessage()));
-                    } catch (Exception ex) {
-                        log.error("Failed to report init error (" + launchMode + ")", ex);
-                    } finally {
-                        // our main loop is done, time to shutdown
+                    } catch (Exception e) {
+                        if (!abortGracefully(e))
+                            log.error("Error running lambda (" + launchMode + ")", e);
                         Application app = Application.currentApplication();
                         if (app != null) {
-                            log.error("Shutting down Quarkus application because of error (" + launchMode + ")");
-                            app.stop();
+                            try {
+                                app.stop();
+                            } catch (Exception ignored) {
+
+                            }
+                        }
+                        return;
+                    } finally {
+                        try {
+                            requestConnection.getInputStream().close();
+                        } catch (IOException ignored) {
                         }
                     }
+
+                }
+            } catch (Exception e) {
+                try {
+                    log.error("Lambda init error (" + launchMode + ")", e);
+                    postError(AmazonLambdaApi.initError(baseUrl),
+                            new FunctionError(e.getClass().getName(), e.getMessage()));
+                } catch (Exception ex) {
+                    log.error("Failed to report init error (" + launchMode + ")", ex);
                 } finally {
-                    log.info("Lambda polling thread complete (" + launchMode + ")");
+                    // our main loop is done, time to shutdown
+                    Application app = Application.currentApplication();
+                    if (app != null) {
+                        log.error("Shutting down Quarkus application because of error (" + launchMode + ")");
+                        app.stop();
+                    }
                 }
+            } finally {
+                log.info("Lambda polling thread complete (" + launchMode + ")");
             }
-        }, "Lambda Thread (" + launchMode + ")");
-        pollingThread.setDaemon(true);
-        context.addShutdownTask(() -> {
-            running.set(false);
-            try {
-                //note that interrupting does not seem to be 100% reliable in unblocking the thread
-                requestConnection.disconnect();
-            } catch (Exception ignore) {
-            }
-            if (shouldInterrupt.get()) {
-                pollingThread.interrupt();
-            }
-        });
-        pollingThread.start();
-
+        }
     }
 
     /**
@@ -215,6 +289,15 @@ public abstract class AbstractLambdaPollLoop {
         return new AmazonLambdaContext(requestConnection, cognitoIdReader, clientCtxReader);
     }
 
+    private static boolean isXRayPresent() {
+        try {
+            Class.forName(XRAY_CLASS, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     private void checkQuarkusBootstrapped() {
         // todo we need a better way to do this.
         if (Application.currentApplication() == null) {
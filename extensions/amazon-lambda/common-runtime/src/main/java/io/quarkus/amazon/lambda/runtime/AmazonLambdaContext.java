@@ -5,6 +5,7 @@ import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.LAMBDA_RUNTIME_CL
 import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.LAMBDA_RUNTIME_COGNITO_IDENTITY;
 import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.LAMBDA_RUNTIME_DEADLINE_MS;
 import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN;
+import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.LAMBDA_TRACE_HEADER_KEY;
 import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.functionMemorySize;
 import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.functionName;
 import static io.quarkus.amazon.lambda.runtime.AmazonLambdaApi.functionVersion;
@@ -34,6 +35,7 @@ public class AmazonLambdaContext implements Context {
     private long runtimeDeadlineMs = 0;
     private int memoryLimitInMB;
     private LambdaLogger logger;
+    private String traceHeader;
 
     public AmazonLambdaContext(HttpURLConnection request, ObjectReader cognitoReader, ObjectReader clientCtxReader)
             throws IOException {
@@ -62,6 +64,7 @@ public class AmazonLambdaContext implements Context {
             runtimeDeadlineMs = Long.valueOf(runtimeDeadline);
         }
         logger = LambdaRuntime.getLogger();
+        traceHeader = request.getHeaderField(LAMBDA_TRACE_HEADER_KEY);
     }
 
     @Override
@@ -118,4 +121,11 @@ public class AmazonLambdaContext implements Context {
     public LambdaLogger getLogger() {
         return logger;
     }
+
+    /**
+     * @return the X-Ray trace header of this invocation, or {@code null} if the invocation is not traced
+     */
+    public String getTraceHeader() {
+        return traceHeader;
+    }
 }
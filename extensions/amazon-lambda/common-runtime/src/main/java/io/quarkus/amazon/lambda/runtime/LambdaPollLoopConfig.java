@@ -0,0 +1,19 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "lambda.poll-loop", phase = ConfigPhase.RUN_TIME)
+public class LambdaPollLoopConfig {
+
+    /**
+     * The number of invocations processed concurrently. Each invocation is fetched from the runtime API and processed
+     * by its own polling thread.
+     * <p>
+     * The AWS Lambda service sends a single invocation at a time to an instance: only set a value greater than 1 when
+     * running on a platform implementing the Lambda runtime API that allows several in-flight invocations per instance.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int concurrency;
+}
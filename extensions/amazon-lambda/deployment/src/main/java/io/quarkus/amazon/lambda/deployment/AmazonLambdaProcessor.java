@@ -24,6 +24,7 @@ import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
 
 import io.quarkus.amazon.lambda.runtime.AmazonLambdaRecorder;
 import io.quarkus.amazon.lambda.runtime.FunctionError;
+import io.quarkus.amazon.lambda.runtime.LambdaPollLoopConfig;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.BuildException;
@@ -241,9 +242,10 @@ public final class AmazonLambdaProcessor {
     void startPoolLoop(AmazonLambdaRecorder recorder,
             ShutdownContextBuildItem shutdownContextBuildItem,
             LaunchModeBuildItem launchModeBuildItem,
+            LambdaPollLoopConfig pollLoopConfig,
             List<ServiceStartBuildItem> orderServicesFirst // try to order this after service recorders
     ) {
-        recorder.startPollLoop(shutdownContextBuildItem, launchModeBuildItem.getLaunchMode());
+        recorder.startPollLoop(shutdownContextBuildItem, launchModeBuildItem.getLaunchMode(), pollLoopConfig);
     }
 
     @BuildStep
@@ -251,10 +253,11 @@ public final class AmazonLambdaProcessor {
     void startPoolLoopDevOrTest(AmazonLambdaRecorder recorder,
             List<ServiceStartBuildItem> orderServicesFirst, // force some ordering of recorders
             ShutdownContextBuildItem shutdownContextBuildItem,
-            LaunchModeBuildItem launchModeBuildItem) {
+            LaunchModeBuildItem launchModeBuildItem,
+            LambdaPollLoopConfig pollLoopConfig) {
         LaunchMode mode = launchModeBuildItem.getLaunchMode();
         if (mode.isDevOrTest()) {
-            recorder.startPollLoop(shutdownContextBuildItem, mode);
+            recorder.startPollLoop(shutdownContextBuildItem, mode, pollLoopConfig);
         }
     }
 
@@ -0,0 +1,117 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.ShutdownContext;
+
+public class ConcurrentPollLoopTest {
+
+    static final int CONCURRENCY = 4;
+
+    static MockEventServer server;
+    static final List<Runnable> shutdownTasks = new ArrayList<>();
+
+    @BeforeAll
+    public static void start() {
+        server = new MockEventServer();
+        server.start(0);
+        System.setProperty(AmazonLambdaApi.QUARKUS_INTERNAL_AWS_LAMBDA_TEST_API,
+                "localhost:" + server.getPort() + MockEventServer.BASE_PATH);
+    }
+
+    @AfterAll
+    public static void end() throws Exception {
+        for (Runnable task : shutdownTasks) {
+            task.run();
+        }
+        server.close();
+        System.clearProperty(AmazonLambdaApi.QUARKUS_INTERNAL_AWS_LAMBDA_TEST_API);
+    }
+
+    @Test
+    public void testConcurrentInvocations() throws Exception {
+        // each invocation only completes once all of them are being processed
+        CountDownLatch inFlight = new CountDownLatch(CONCURRENCY);
+        ObjectMapper objectMapper = new ObjectMapper();
+        AbstractLambdaPollLoop loop = new AbstractLambdaPollLoop(objectMapper, objectMapper.reader(), objectMapper.reader(),
+                LaunchMode.TEST) {
+
+            @Override
+            protected Object processRequest(Object input, AmazonLambdaContext context) throws Exception {
+                inFlight.countDown();
+                if (!inFlight.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Invocations were not processed concurrently");
+                }
+                return "hello " + input;
+            }
+
+            @Override
+            protected void processRequest(InputStream input, OutputStream output, AmazonLambdaContext context) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected LambdaInputReader getInputReader() {
+                return new JacksonInputReader(objectMapper.readerFor(String.class));
+            }
+
+            @Override
+            protected LambdaOutputWriter getOutputWriter() {
+                return new JacksonOutputWriter(objectMapper.writerFor(String.class));
+            }
+
+            @Override
+            protected boolean isStream() {
+                return false;
+            }
+        };
+        loop.startPollLoop(new ShutdownContext() {
+            @Override
+            public void addShutdownTask(Runnable runnable) {
+                shutdownTasks.add(runnable);
+            }
+
+            @Override
+            public void addLastShutdownTask(Runnable runnable) {
+                shutdownTasks.add(runnable);
+            }
+        }, CONCURRENCY);
+
+        Client client = ClientBuilder.newBuilder().build();
+        try {
+            WebTarget postEvent = client.target("http://localhost:" + server.getPort()).path(MockEventServer.POST_EVENT);
+            List<Future<Response>> invocations = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                invocations.add(postEvent.request().async().post(Entity.json("\"" + i + "\"")));
+            }
+            for (int i = 0; i < CONCURRENCY; i++) {
+                Response response = invocations.get(i).get(20, TimeUnit.SECONDS);
+                Assertions.assertEquals(200, response.getStatus());
+                Assertions.assertEquals("\"hello " + i + "\"", response.readEntity(String.class));
+                response.close();
+            }
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -154,7 +154,7 @@ public class AmazonLambdaRecorder {
     }
 
     @SuppressWarnings("rawtypes")
-    public void startPollLoop(ShutdownContext context, LaunchMode launchMode) {
+    public void startPollLoop(ShutdownContext context, LaunchMode launchMode, LambdaPollLoopConfig pollLoopConfig) {
         AbstractLambdaPollLoop loop = new AbstractLambdaPollLoop(AmazonLambdaMapperRecorder.objectMapper,
                 AmazonLambdaMapperRecorder.cognitoIdReader, AmazonLambdaMapperRecorder.clientCtxReader, launchMode) {
 
@@ -187,7 +187,7 @@ public class AmazonLambdaRecorder {
 
             }
         };
-        loop.startPollLoop(context);
+        loop.startPollLoop(context, pollLoopConfig.concurrency);
 
     }
 }
@@ -1,5 +1,6 @@
 package io.quarkus.amazon.lambda.runtime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -22,4 +23,15 @@ public class AmazonLambdaContextTest {
 
         assertTrue(amazonLambdaContext.getRemainingTimeInMillis() > 0, "The remaining time in millis should not be negative");
     }
+
+    @Test
+    public void testGetTraceHeader() throws Exception {
+        HttpURLConnection request = mock(HttpURLConnection.class);
+        when(request.getHeaderField(AmazonLambdaApi.LAMBDA_TRACE_HEADER_KEY))
+                .thenReturn("Root=1-5759e988-bd862e3fe1be46a994272793");
+
+        AmazonLambdaContext amazonLambdaContext = new AmazonLambdaContext(request, null, null);
+
+        assertEquals("Root=1-5759e988-bd862e3fe1be46a994272793", amazonLambdaContext.getTraceHeader());
+    }
 }
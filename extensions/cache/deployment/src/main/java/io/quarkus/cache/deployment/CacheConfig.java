@@ -1,6 +1,7 @@
 package io.quarkus.cache.deployment;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -21,7 +22,8 @@ public class CacheConfig {
     public boolean enabled;
 
     /**
-     * Cache type.
+     * Cache type. Supported values are {@code caffeine} and {@code redis}. The {@code redis} type requires the
+     * {@code quarkus-redis-client} extension.
      */
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
@@ -31,6 +33,11 @@ public class CacheConfig {
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Redis configuration.
+     */
+    RedisConfig redis;
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -74,6 +81,15 @@ public class CacheConfig {
             @ConfigItem
             Optional<Duration> expireAfterAccess;
 
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The reload is triggered by the first call that
+             * reads the entry after that duration and the current value is returned until the reload completes, so frequently
+             * read entries never expire from the callers' perspective. Should be shorter than {@code expire-after-write}.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -81,4 +97,107 @@ public class CacheConfig {
             boolean metricsEnabled;
         }
     }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * Namespace configuration.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        Map<String, RedisNamespaceConfig> namespace;
+
+        @ConfigGroup
+        public static class RedisNamespaceConfig {
+
+            /**
+             * The name of the Redis client used by the cache, as configured with the {@code quarkus.redis} properties. The
+             * default Redis client is used if not set.
+             */
+            @ConfigItem
+            Optional<String> clientName;
+
+            /**
+             * The prefix of the Redis keys of the cache entries. Defaults to {@code cache:<cache-name>:}. Each cache must use a
+             * different prefix since the invalidation of all entries deletes all the keys starting with this prefix.
+             */
+            @ConfigItem
+            Optional<String> keyPrefix;
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * The maximum time to wait for Redis when a cache value is read. Once elapsed, the value is computed as if it was
+             * not cached. Defaults to 5 seconds.
+             */
+            @ConfigItem
+            Optional<Duration> timeout;
+
+            /**
+             * The class name of the {@link io.quarkus.cache.RedisCacheCodec} used to encode the cache keys. By default, the
+             * {@code toString()} representation of the keys is used.
+             */
+            @ConfigItem
+            Optional<String> keyCodec;
+
+            /**
+             * The class name of the {@link io.quarkus.cache.RedisCacheCodec} used to encode and decode the cache values. Either
+             * this property or {@code java-serialization-allowed-classes} must be set.
+             */
+            @ConfigItem
+            Optional<String> valueCodec;
+
+            /**
+             * Stores the cache values using the Java serialization, and only accepts the given classes when the values are
+             * read from Redis. Each element is a class name, a package name ending with {@code .*}, or a package name ending
+             * with {@code .**} which also matches the sub-packages. The classes of the {@code java.lang}, {@code java.math},
+             * {@code java.time} and {@code java.util} packages are always accepted. This property is ignored if
+             * {@code value-codec} is set.
+             */
+            @ConfigItem
+            Optional<List<String>> javaSerializationAllowedClasses;
+
+            /**
+             * Near cache configuration.
+             */
+            @ConfigItem
+            NearCacheConfig nearCache;
+
+            /**
+             * Whether or not metrics are recorded if the application depends on the Micrometer extension.
+             */
+            @ConfigItem
+            boolean metricsEnabled;
+        }
+
+        @ConfigGroup
+        public static class NearCacheConfig {
+
+            /**
+             * Whether the cache entries are also stored in a local cache. The local entries are invalidated on all the
+             * application instances when an entry is invalidated on any of them.
+             */
+            @ConfigItem
+            boolean enabled;
+
+            /**
+             * Maximum number of entries the local cache may contain.
+             */
+            @ConfigItem(defaultValue = "10000")
+            long maximumSize;
+
+            /**
+             * Specifies that each entry should be automatically removed from the local cache once a fixed duration has elapsed
+             * after the entry's creation. This bounds the staleness of the local entries if an invalidation message is lost.
+             */
+            @ConfigItem(defaultValue = "60S")
+            Duration expireAfterWrite;
+        }
+    }
 }
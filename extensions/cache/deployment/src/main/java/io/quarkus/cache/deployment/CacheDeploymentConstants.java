@@ -47,6 +47,10 @@ public class CacheDeploymentConstants {
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    // Redis.
+    public static final String REDIS_CACHE_TYPE = "redis";
+    public static final String REDIS_CLIENT_CLASS = "io.quarkus.redis.client.reactive.ReactiveRedisClient";
+
     private static DotName dotName(Class<?> annotationClass) {
         return DotName.createSimple(annotationClass.getName());
     }
@@ -37,6 +37,7 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
@@ -56,6 +57,8 @@ import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -63,6 +66,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 
 class CacheProcessor {
@@ -189,8 +193,8 @@ class CacheProcessor {
     @BuildStep
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder,
-            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+            CaffeineCacheBuildRecorder caffeineRecorder, RedisCacheBuildRecorder redisRecorder,
+            NoOpCacheBuildRecorder noOpRecorder, Optional<MetricsCapabilityBuildItem> metricsCapability) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
@@ -200,6 +204,16 @@ class CacheProcessor {
                     MetricsInitializer metricsInitializer = getMetricsInitializer(metricsCapability);
                     cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos, metricsInitializer);
                     break;
+                case CacheDeploymentConstants.REDIS_CACHE_TYPE:
+                    if (!isRedisClientPresent()) {
+                        throw new DeploymentException(
+                                "The redis cache type requires the quarkus-redis-client extension, please add it to the application dependencies");
+                    }
+                    Set<RedisCacheInfo> redisCacheInfos = RedisCacheInfoBuilder.build(cacheNames.getNames(), config);
+                    boolean micrometerSupported = metricsCapability.isPresent()
+                            && metricsCapability.get().metricsSupported(MICROMETER);
+                    cacheManagerSupplier = redisRecorder.getCacheManagerSupplier(redisCacheInfos, micrometerSupported);
+                    break;
                 default:
                     throw new DeploymentException("Unknown cache type: " + config.type);
             }
@@ -210,9 +224,36 @@ class CacheProcessor {
         return SyntheticBeanBuildItem.configure(CacheManager.class)
                 .scope(ApplicationScoped.class)
                 .supplier(cacheManagerSupplier)
+                // Closes the connections of the Redis caches
+                .destroyer(BeanDestroyer.CloseableDestroyer.class)
                 .done();
     }
 
+    @BuildStep
+    void registerRedisCodecsForReflection(CacheNamesBuildItem cacheNames, CacheConfig config,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (config.enabled && CacheDeploymentConstants.REDIS_CACHE_TYPE.equals(config.type)) {
+            Set<String> codecs = new HashSet<>();
+            for (RedisCacheInfo cacheInfo : RedisCacheInfoBuilder.build(cacheNames.getNames(), config)) {
+                codecs.add(cacheInfo.keyCodec);
+                codecs.add(cacheInfo.valueCodec);
+            }
+            if (!codecs.isEmpty()) {
+                // The codecs are instantiated by the recorder
+                reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, codecs.toArray(new String[0])));
+            }
+        }
+    }
+
+    private static boolean isRedisClientPresent() {
+        try {
+            Class.forName(CacheDeploymentConstants.REDIS_CLIENT_CLASS, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     private MetricsInitializer getMetricsInitializer(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
             return new MicrometerMetricsInitializer();
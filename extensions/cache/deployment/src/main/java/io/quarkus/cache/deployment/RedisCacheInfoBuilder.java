@@ -0,0 +1,63 @@
+package io.quarkus.cache.deployment;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+import io.quarkus.cache.runtime.redis.SerializationValueCodec;
+import io.quarkus.cache.runtime.redis.ToStringKeyCodec;
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+public class RedisCacheInfoBuilder {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            return cacheNames.stream().map(cacheName -> {
+                RedisCacheInfo cacheInfo = new RedisCacheInfo();
+                cacheInfo.name = cacheName;
+                cacheInfo.keyPrefix = "cache:" + cacheName + ":";
+                cacheInfo.keyCodec = ToStringKeyCodec.class.getName();
+                cacheInfo.timeout = DEFAULT_TIMEOUT;
+                RedisNamespaceConfig namespaceConfig = cacheConfig.redis.namespace.get(cacheInfo.name);
+                if (namespaceConfig != null) {
+                    namespaceConfig.clientName.ifPresent(clientName -> cacheInfo.clientName = clientName);
+                    namespaceConfig.keyPrefix.ifPresent(prefix -> cacheInfo.keyPrefix = prefix);
+                    namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+                    namespaceConfig.timeout.ifPresent(timeout -> cacheInfo.timeout = timeout);
+                    namespaceConfig.keyCodec.ifPresent(codec -> cacheInfo.keyCodec = codec);
+                    if (namespaceConfig.valueCodec.isPresent()) {
+                        cacheInfo.valueCodec = namespaceConfig.valueCodec.get();
+                    } else if (namespaceConfig.javaSerializationAllowedClasses.isPresent()) {
+                        cacheInfo.valueCodec = SerializationValueCodec.class.getName();
+                        cacheInfo.javaSerializationAllowedClasses = namespaceConfig.javaSerializationAllowedClasses.get();
+                    }
+                    cacheInfo.nearCacheEnabled = namespaceConfig.nearCache.enabled;
+                    cacheInfo.nearCacheMaximumSize = namespaceConfig.nearCache.maximumSize;
+                    cacheInfo.nearCacheExpireAfterWrite = namespaceConfig.nearCache.expireAfterWrite;
+                    cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
+                }
+                if (cacheInfo.valueCodec == null) {
+                    // The values read from Redis are not trusted, so the Java serialization is never used implicitly
+                    throw new ConfigurationException("The value codec of the Redis cache [" + cacheName
+                            + "] is not configured, please set quarkus.cache.redis.\"" + cacheName
+                            + "\".value-codec or quarkus.cache.redis.\"" + cacheName
+                            + "\".java-serialization-allowed-classes");
+                }
+                if (SerializationValueCodec.class.getName().equals(cacheInfo.valueCodec)
+                        && cacheInfo.javaSerializationAllowedClasses == null) {
+                    throw new ConfigurationException("The Redis cache [" + cacheName
+                            + "] uses the Java serialization, please set quarkus.cache.redis.\"" + cacheName
+                            + "\".java-serialization-allowed-classes instead of the value codec");
+                }
+                return cacheInfo;
+            }).collect(Collectors.toSet());
+        }
+    }
+}
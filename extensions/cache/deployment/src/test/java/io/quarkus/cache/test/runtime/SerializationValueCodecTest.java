@@ -0,0 +1,61 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.runtime.redis.SerializationValueCodec;
+
+public class SerializationValueCodecTest {
+
+    @Test
+    public void testAllowedClasses() {
+        SerializationValueCodec codec = new SerializationValueCodec(List.of(Allowed.class.getName()));
+        assertEquals("foo", codec.decode(codec.encode("foo")));
+        assertEquals(List.of(new Allowed("bar")), codec.decode(codec.encode(List.of(new Allowed("bar")))));
+    }
+
+    @Test
+    public void testRejectedClass() {
+        SerializationValueCodec codec = new SerializationValueCodec(List.of(Allowed.class.getName()));
+        // E.g. a value written to Redis by someone else
+        String encoded = codec.encode(List.of(new Rejected()));
+        assertThrows(CacheException.class, () -> codec.decode(encoded));
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> new SerializationValueCodec(List.of("!org.acme.*")));
+    }
+
+    public static class Allowed implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final String value;
+
+        Allowed(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Allowed && ((Allowed) obj).value.equals(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    public static class Rejected implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,143 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the single-flight semantics of {@link CacheResult} and the refresh of the cache entries after write.
+ */
+public class SingleFlightTest {
+
+    private static final String UNI_CACHE = "uni-cache";
+    private static final String LOCK_TIMEOUT_CACHE = "lock-timeout-cache";
+    private static final String REFRESH_CACHE = "refresh-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_CACHE + "\".refresh-after-write", "0.2S");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testConcurrentUniSubscriptions() throws InterruptedException, ExecutionException {
+        // Both subscriptions happen while the Uni returned by the first method invocation is still pending
+        CompletableFuture<Object> future1 = cachedService.slowUni("key").subscribeAsCompletionStage();
+        CompletableFuture<Object> future2 = cachedService.slowUni("key").subscribeAsCompletionStage();
+        assertSame(future1.get(), future2.get());
+        assertEquals(1, cachedService.slowUniInvocations.get());
+
+        assertSame(future1.get(), cachedService.slowUni("key").await().indefinitely());
+        assertEquals(1, cachedService.slowUniInvocations.get());
+    }
+
+    @Test
+    public void testFailedUniIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cachedService.failingUni("failing").await().indefinitely());
+        assertThrows(IllegalStateException.class, () -> cachedService.failingUni("failing").await().indefinitely());
+        assertEquals(2, cachedService.failingUniInvocations.get());
+    }
+
+    @Test
+    public void testLockTimeoutWithoutInvocation() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Object> future1 = CompletableFuture.supplyAsync(() -> cachedService.slowMethod("key"),
+                    executorService);
+            // Make sure the first call holds the lock
+            while (cachedService.slowMethodInvocations.get() == 0) {
+                Thread.sleep(10L);
+            }
+            CompletableFuture<Object> future2 = CompletableFuture.supplyAsync(() -> cachedService.slowMethod("key"),
+                    executorService);
+            ExecutionException e = assertThrows(ExecutionException.class, future2::get);
+            assertTrue(e.getCause() instanceof CacheException);
+            assertEquals(1, cachedService.slowMethodInvocations.get());
+            // The value computed by the first call is still cached
+            assertSame(future1.get(), cachedService.slowMethod("key"));
+            assertEquals(1, cachedService.slowMethodInvocations.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        Object value1 = cachedService.refreshed("key");
+        assertSame(value1, cachedService.refreshed("key"));
+        assertEquals(1, cachedService.refreshedInvocations.get());
+
+        Thread.sleep(300L);
+        // The stale value is returned and the method is invoked in the background
+        assertSame(value1, cachedService.refreshed("key"));
+
+        Object value2 = value1;
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (value2 == value1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+            value2 = cachedService.refreshed("key");
+        }
+        assertNotEquals(value1, value2);
+        assertEquals(2, cachedService.refreshedInvocations.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger slowUniInvocations = new AtomicInteger();
+        final AtomicInteger failingUniInvocations = new AtomicInteger();
+        final AtomicInteger slowMethodInvocations = new AtomicInteger();
+        final AtomicInteger refreshedInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = UNI_CACHE)
+        public Uni<Object> slowUni(String key) {
+            slowUniInvocations.incrementAndGet();
+            return Uni.createFrom().item(Object::new).onItem().delayIt().by(Duration.ofMillis(200L));
+        }
+
+        @CacheResult(cacheName = UNI_CACHE)
+        public Uni<Object> failingUni(String key) {
+            failingUniInvocations.incrementAndGet();
+            return Uni.createFrom().failure(new IllegalStateException());
+        }
+
+        @CacheResult(cacheName = LOCK_TIMEOUT_CACHE, lockTimeout = 100L, invokeOnLockTimeout = false)
+        public Object slowMethod(String key) {
+            slowMethodInvocations.incrementAndGet();
+            try {
+                Thread.sleep(500L);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return new Object();
+        }
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public Object refreshed(String key) {
+            refreshedInvocations.incrementAndGet();
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.redis.ToStringKeyCodec;
+
+public class ToStringKeyCodecTest {
+
+    private final ToStringKeyCodec codec = new ToStringKeyCodec();
+
+    @Test
+    public void testSimpleKeys() {
+        assertEquals("foo", codec.encode("foo"));
+        assertEquals("42", codec.encode(42));
+    }
+
+    @Test
+    public void testCompositeKeysDoNotCollide() {
+        assertEquals(codec.encode(new CompositeCacheKey("a", "b")), codec.encode(new CompositeCacheKey("a", "b")));
+        assertNotEquals(codec.encode(new CompositeCacheKey("a, b", "c")), codec.encode(new CompositeCacheKey("a", "b, c")));
+        assertNotEquals(codec.encode(new CompositeCacheKey("a:1", "b")), codec.encode(new CompositeCacheKey("a", "1:b")));
+        assertNotEquals(codec.encode(new CompositeCacheKey("a", new CompositeCacheKey("b", "c"))),
+                codec.encode(new CompositeCacheKey("a", "b", "c")));
+    }
+
+    @Test
+    public void testStringKeyDoesNotCollideWithCompositeKey() {
+        String composite = codec.encode(new CompositeCacheKey("a", "b"));
+        assertNotEquals(composite, codec.encode(composite));
+    }
+}
@@ -20,9 +20,10 @@ import javax.interceptor.InterceptorBinding;
  * A method annotated with {@link CacheResult} is protected by a lock on cache miss mechanism. If several concurrent
  * invocations try to retrieve a cache value from the same missing key, the method will only be invoked once. The first
  * concurrent invocation will trigger the method invocation while the subsequent concurrent invocations will wait for the end
- * of the method invocation to get the cached result. The {@code lockTimeout} parameter can be used to interrupt the lock after
- * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
- * more details.
+ * of the method invocation to get the cached result. This is also true for a method returning a
+ * {@link io.smallrye.mutiny.Uni Uni}: all concurrent subscribers share the subscription to the {@code Uni} returned by the
+ * single method invocation. The {@code lockTimeout} parameter can be used to interrupt the lock after a given delay. The lock
+ * timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for more details.
  * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
@@ -48,4 +49,12 @@ public @interface CacheResult {
      */
     @Nonbinding
     long lockTimeout() default 0;
+
+    /**
+     * Whether the cached method is invoked when the lock on cache miss is interrupted because of the {@code lockTimeout}. If
+     * {@code false}, a {@link CacheException} is thrown instead, which guarantees that the method is never invoked more than
+     * once concurrently for the same key. This parameter is ignored if the lock timeout is disabled.
+     */
+    @Nonbinding
+    boolean invokeOnLockTimeout() default true;
 }
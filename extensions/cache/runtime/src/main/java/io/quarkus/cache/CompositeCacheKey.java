@@ -25,6 +25,14 @@ public class CompositeCacheKey {
         this.keyElements = keyElements;
     }
 
+    /**
+     *
+     * @return the key elements, in the order they were provided
+     */
+    public Object[] getKeyElements() {
+        return keyElements;
+    }
+
     @Override
     public int hashCode() {
         return Arrays.deepHashCode(keyElements);
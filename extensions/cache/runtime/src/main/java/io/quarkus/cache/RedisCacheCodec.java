@@ -0,0 +1,31 @@
+package io.quarkus.cache;
+
+/**
+ * Converts the keys and the values of a Redis cache to and from the strings stored in Redis.
+ * <p>
+ * An implementation can be configured for each Redis cache with the {@code quarkus.cache.redis."cache-name".key-codec} and
+ * {@code quarkus.cache.redis."cache-name".value-codec} properties. The implementation class must have a public no-args
+ * constructor. The keys are only ever encoded, so a key codec does not have to implement {@link #decode(String)}.
+ * <p>
+ * Cache values are never {@code null} when passed to a codec, the {@code null} values are handled by the cache itself.
+ */
+public interface RedisCacheCodec {
+
+    /**
+     * Encodes the given cache key or value.
+     *
+     * @param object cache key or value
+     * @return the string stored in Redis
+     */
+    String encode(Object object);
+
+    /**
+     * Decodes a cache value.
+     *
+     * @param encoded string stored in Redis
+     * @return the cache value
+     */
+    default Object decode(String encoded) {
+        throw new UnsupportedOperationException(getClass().getName() + " cannot decode cache values");
+    }
+}
@@ -1,18 +1,23 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Closeable;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 
 /**
  * This class is registered as an @ApplicationScoped synthetic bean at build time.
  */
-public class CacheManagerImpl implements CacheManager {
+public class CacheManagerImpl implements CacheManager, Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheManagerImpl.class);
 
     private final Map<String, Cache> caches;
     private final Set<String> cacheNames;
@@ -35,4 +40,20 @@ public class CacheManagerImpl implements CacheManager {
         }
         return Optional.ofNullable(caches.get(name));
     }
+
+    /**
+     * Releases the resources held by the caches, e.g. the connections of the Redis caches.
+     */
+    @Override
+    public void close() {
+        for (Cache cache : caches.values()) {
+            if (cache instanceof Closeable) {
+                try {
+                    ((Closeable) cache).close();
+                } catch (Exception e) {
+                    LOGGER.warnf(e, "Unable to close cache [%s]", cache.getName());
+                }
+            }
+        }
+    }
 }
@@ -56,25 +56,14 @@ public class CacheResultInterceptor extends CacheInterceptor {
                     public Object apply(Object k) {
                         LOGGER.debugf("Adding %s entry with key [%s] into cache [%s]",
                                 UnresolvedUniValue.class.getSimpleName(), key, binding.cacheName());
-                        return UnresolvedUniValue.INSTANCE;
+                        return new UnresolvedUniValue(resolveUni(invocationContext, cache, key));
                     }
                 }).onItem().transformToUni(new Function<Object, Uni<?>>() {
                     @Override
                     public Uni<?> apply(Object value) {
-                        if (value == UnresolvedUniValue.INSTANCE) {
-                            try {
-                                return ((Uni<Object>) invocationContext.proceed())
-                                        .call(new Function<Object, Uni<?>>() {
-                                            @Override
-                                            public Uni<?> apply(Object emittedValue) {
-                                                return cache.replaceUniValue(key, emittedValue);
-                                            }
-                                        });
-                            } catch (CacheException e) {
-                                throw e;
-                            } catch (Exception e) {
-                                throw new CacheException(e);
-                            }
+                        if (value instanceof UnresolvedUniValue) {
+                            // The method was already invoked by a concurrent call, its pending result is shared.
+                            return ((UnresolvedUniValue) value).getUni();
                         } else {
                             return Uni.createFrom().item(value);
                         }
@@ -87,6 +76,9 @@ public class CacheResultInterceptor extends CacheInterceptor {
                         .recoverWithUni(new Supplier<Uni<?>>() {
                             @Override
                             public Uni<?> get() {
+                                if (!binding.invokeOnLockTimeout()) {
+                                    return Uni.createFrom().failure(lockTimeoutException(binding, key));
+                                }
                                 try {
                                     return (Uni<?>) invocationContext.proceed();
                                 } catch (CacheException e) {
@@ -123,6 +115,9 @@ public class CacheResultInterceptor extends CacheInterceptor {
                         value = cacheValue.await().atMost(Duration.ofMillis(binding.lockTimeout()));
                     } catch (TimeoutException e) {
                         // TODO: Add statistics here to monitor the timeout.
+                        if (!binding.invokeOnLockTimeout()) {
+                            throw lockTimeoutException(binding, key);
+                        }
                         return invocationContext.proceed();
                     }
                 }
@@ -137,4 +132,37 @@ public class CacheResultInterceptor extends CacheInterceptor {
             }
         }
     }
+
+    /**
+     * Invokes the cached method and returns a memoized {@link Uni} that can be subscribed to by all concurrent invocations.
+     * The emitted item replaces the {@link UnresolvedUniValue} placeholder in the cache. If the {@link Uni} fails, the
+     * placeholder is removed from the cache so that the next invocation can try again.
+     */
+    @SuppressWarnings("unchecked")
+    private static Uni<Object> resolveUni(InvocationContext invocationContext, AbstractCache cache, Object key) {
+        Uni<Object> uni;
+        try {
+            uni = (Uni<Object>) invocationContext.proceed();
+        } catch (CacheException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CacheException(e);
+        }
+        return uni.call(new Function<Object, Uni<?>>() {
+            @Override
+            public Uni<?> apply(Object emittedValue) {
+                return cache.replaceUniValue(key, emittedValue);
+            }
+        }).onFailure().call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                return cache.invalidate(key);
+            }
+        }).memoize().indefinitely();
+    }
+
+    private static CacheException lockTimeoutException(CacheResult binding, Object key) {
+        return new CacheException(String.format("Lock timeout of %d ms expired for key [%s] in cache [%s]",
+                binding.lockTimeout(), key, binding.cacheName()), null);
+    }
 }
@@ -1,13 +1,24 @@
 package io.quarkus.cache.runtime;
 
+import io.smallrye.mutiny.Uni;
+
 /**
  * This value acts as a placeholder in the cache. It will be eventually replaced by the item emitted by the
- * {@link io.smallrye.mutiny.Uni Uni} when it has been resolved.
+ * {@link io.smallrye.mutiny.Uni Uni} when it has been resolved. In the meantime, all the concurrent invocations share the
+ * pending {@link Uni} held by this placeholder so that the cached method is only invoked once.
  */
 public class UnresolvedUniValue {
 
-    public static final UnresolvedUniValue INSTANCE = new UnresolvedUniValue();
+    private final Uni<Object> uni;
+
+    public UnresolvedUniValue(Uni<Object> uni) {
+        this.uni = uni;
+    }
 
-    private UnresolvedUniValue() {
+    /**
+     * @return the memoized {@link Uni} which emits the value that will replace this placeholder in the cache
+     */
+    public Uni<Object> getUni() {
+        return uni;
     }
 }
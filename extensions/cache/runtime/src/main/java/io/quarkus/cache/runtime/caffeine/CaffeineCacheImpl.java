@@ -6,10 +6,14 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.eclipse.microprofile.context.ManagedExecutor;
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
@@ -17,11 +21,16 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -35,9 +44,12 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
+    private final long refreshAfterWriteNanos;
+    private volatile Executor refreshExecutor;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
+        this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite != null ? cacheInfo.refreshAfterWrite.toNanos() : 0L;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
@@ -100,7 +112,7 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+        CompletableFuture<Object> newCacheValue = new CacheValue();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
@@ -115,10 +127,85 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refreshAfterWriteNanos > 0L) {
+                refreshIfNeeded(key, existingCacheValue, valueLoader);
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Reloads the cache value identified by {@code key} in the background if it was written more than
+     * {@code refreshAfterWrite} ago. The current value is still returned to the callers until the reloaded value replaces it.
+     * Only one refresh is performed at a time for a given cache value. If the refresh fails, the cache value is invalidated so
+     * that the next call computes it again.
+     */
+    private <K, V> void refreshIfNeeded(K key, CompletableFuture<Object> cacheValue, Function<K, V> valueLoader) {
+        if (!(cacheValue instanceof CacheValue) || !cacheValue.isDone()) {
+            return;
+        }
+        CacheValue currentValue = (CacheValue) cacheValue;
+        if (System.nanoTime() - currentValue.writeTime < refreshAfterWriteNanos
+                // A Uni value which is still being resolved is never refreshed
+                || currentValue.getNow(null) instanceof UnresolvedUniValue
+                || !currentValue.startRefresh()) {
+            return;
+        }
+        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        getRefreshExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                Object value;
+                try {
+                    value = valueLoader.apply(key);
+                } catch (Throwable t) {
+                    LOGGER.warnf(t, "Unable to refresh entry with key [%s] in cache [%s]", key, cacheInfo.name);
+                    cache.asMap().remove(key, currentValue);
+                    return;
+                }
+                if (value instanceof UnresolvedUniValue) {
+                    // The emitted item replaces the current value, a failure invalidates it
+                    ((UnresolvedUniValue) value).getUni().subscribe().with(new Consumer<Object>() {
+                        @Override
+                        public void accept(Object item) {
+                            LOGGER.tracef("Entry with key [%s] refreshed in cache [%s]", key, cacheInfo.name);
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable t) {
+                            LOGGER.warnf(t, "Unable to refresh entry with key [%s] in cache [%s]", key, cacheInfo.name);
+                        }
+                    });
+                } else {
+                    CacheValue refreshedValue = new CacheValue();
+                    refreshedValue.complete(NullValueConverter.toCacheValue(value));
+                    // If the current value was invalidated or replaced in the meantime, the refreshed value is discarded
+                    cache.asMap().replace(key, currentValue, refreshedValue);
+                }
+            }
+        });
+    }
+
+    /**
+     * The value loader invokes the intercepted method, so the refresh is executed by the Quarkus managed executor which
+     * propagates the contexts of the calling thread, e.g. the CDI request context.
+     */
+    private Executor getRefreshExecutor() {
+        Executor executor = refreshExecutor;
+        if (executor == null) {
+            ArcContainer container = Arc.container();
+            InstanceHandle<ManagedExecutor> managedExecutor = container != null ? container.instance(ManagedExecutor.class)
+                    : null;
+            if (managedExecutor != null && managedExecutor.isAvailable()) {
+                executor = managedExecutor.get();
+            } else {
+                executor = Infrastructure.getDefaultExecutor();
+            }
+            refreshExecutor = executor;
+        }
+        return executor;
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -176,7 +263,9 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
                                  * The following computed value will always replace the current cache value (whether it is an
                                  * UnresolvedUniValue or not) if this method is called multiple times with the same key.
                                  */
-                                return CompletableFuture.completedFuture(NullValueConverter.toCacheValue(emittedValue));
+                                CacheValue newValue = new CacheValue();
+                                newValue.complete(NullValueConverter.toCacheValue(emittedValue));
+                                return newValue;
                             }
                         });
                 return null;
@@ -207,4 +296,22 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
                     "An existing cached value type does not match the type returned by the value loading function", e);
         }
     }
+
+    /**
+     * A cache value which remembers when it was created. The timestamp is used to decide whether the value needs to be
+     * refreshed.
+     */
+    static final class CacheValue extends CompletableFuture<Object> {
+
+        private static final AtomicIntegerFieldUpdater<CacheValue> REFRESHING_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(CacheValue.class, "refreshing");
+
+        final long writeTime = System.nanoTime();
+
+        private volatile int refreshing;
+
+        boolean startRefresh() {
+            return REFRESHING_UPDATER.compareAndSet(this, 0, 1);
+        }
+    }
 }
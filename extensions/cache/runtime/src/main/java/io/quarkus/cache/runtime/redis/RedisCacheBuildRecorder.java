@@ -0,0 +1,84 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.RedisCacheCodec;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.redis.client.runtime.RedisAPIContainer;
+import io.quarkus.redis.client.runtime.RedisClientUtil;
+import io.quarkus.redis.client.runtime.RedisClientsProducer;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class RedisCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheBuildRecorder.class);
+
+    public Supplier<CacheManager> getCacheManagerSupplier(Set<RedisCacheInfo> cacheInfos, boolean micrometerSupported) {
+        Objects.requireNonNull(cacheInfos);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    RedisClientsProducer clientsProducer = Arc.container().instance(RedisClientsProducer.class).get();
+                    for (RedisCacheInfo cacheInfo : cacheInfos) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building Redis cache [%s] with [clientName=%s], [keyPrefix=%s], [expireAfterWrite=%s], "
+                                            + "[nearCacheEnabled=%s] and [metricsEnabled=%s]",
+                                    cacheInfo.name, cacheInfo.clientName, cacheInfo.keyPrefix, cacheInfo.expireAfterWrite,
+                                    cacheInfo.nearCacheEnabled, cacheInfo.metricsEnabled);
+                        }
+                        RedisAPIContainer client = clientsProducer.getRedisAPIContainer(
+                                cacheInfo.clientName != null ? cacheInfo.clientName : RedisClientUtil.DEFAULT_CLIENT);
+                        RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, client.getReactiveClient(), client.getRedis(),
+                                newCodec(cacheInfo.keyCodec), newValueCodec(cacheInfo));
+                        if (cacheInfo.metricsEnabled) {
+                            if (micrometerSupported) {
+                                RedisCacheMicrometerMetrics.register(cache);
+                            } else {
+                                LOGGER.warnf(
+                                        "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
+                                                + "This warning can be fixed by disabling the cache metrics in the configuration or by adding a Micrometer "
+                                                + "extension to the pom.xml file.",
+                                        cacheInfo.name);
+                            }
+                        }
+                        caches.put(cacheInfo.name, cache);
+                    }
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+
+    private static RedisCacheCodec newValueCodec(RedisCacheInfo cacheInfo) {
+        if (cacheInfo.javaSerializationAllowedClasses != null) {
+            return new SerializationValueCodec(cacheInfo.javaSerializationAllowedClasses);
+        }
+        return newCodec(cacheInfo.valueCodec);
+    }
+
+    private static RedisCacheCodec newCodec(String className) {
+        try {
+            return (RedisCacheCodec) Class.forName(className, true, Thread.currentThread().getContextClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the Redis cache codec " + className, e);
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.RedisCacheCodec;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The cache values are stored in Redis. If the near cache is enabled, the values are also stored in a local Caffeine cache
+ * which is kept consistent with the other application instances thanks to the invalidation messages published on a Redis
+ * channel. The local cache is bypassed while the invalidation channel is not subscribed, and a value read from Redis is not
+ * stored locally if an invalidation was received while it was read.
+ */
+public class RedisCacheImpl extends AbstractCache implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheImpl.class);
+
+    // The encoded values are prefixed so that a null value can be stored in Redis
+    private static final String NULL_VALUE = "n";
+    private static final String VALUE_PREFIX = "v";
+    // Invalidation messages
+    private static final String INVALIDATE_KEY_PREFIX = "k:";
+    private static final String INVALIDATE_ALL = "*";
+
+    private final RedisCacheInfo cacheInfo;
+    private final ReactiveRedisClient client;
+    private final Redis redis;
+    private final RedisCacheCodec keyCodec;
+    private final RedisCacheCodec valueCodec;
+    private final String channel;
+    private final Cache<String, Object> nearCache;
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+    private volatile RedisConnection subscription;
+    private volatile boolean closed;
+    /*
+     * Incremented by each invalidation, so that a value read from Redis before an invalidation is not stored in the near
+     * cache afterwards. A single counter is used for all the keys: an unrelated invalidation only skips a local store.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    /*
+     * The pending loads are shared by the concurrent calls for the same key. An UnresolvedUniValue stays in this map until it
+     * is replaced by the emitted item or invalidated.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> pendingLoads = new ConcurrentHashMap<>();
+
+    final LongAdder localHits = new LongAdder();
+    final LongAdder localMisses = new LongAdder();
+    final LongAdder remoteHits = new LongAdder();
+    final LongAdder remoteMisses = new LongAdder();
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, ReactiveRedisClient client, Redis redis, RedisCacheCodec keyCodec,
+            RedisCacheCodec valueCodec) {
+        this.cacheInfo = cacheInfo;
+        this.client = client;
+        this.redis = redis;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.channel = cacheInfo.keyPrefix + "invalidations";
+        if (cacheInfo.nearCacheEnabled) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder();
+            if (cacheInfo.nearCacheMaximumSize != null) {
+                builder.maximumSize(cacheInfo.nearCacheMaximumSize);
+            }
+            if (cacheInfo.nearCacheExpireAfterWrite != null) {
+                builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite);
+            }
+            nearCache = builder.build();
+            subscribe();
+        } else {
+            nearCache = null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().completionStage(
+                // The cache value computation is delayed until subscription time
+                new Supplier<CompletionStage<V>>() {
+                    @Override
+                    public CompletionStage<V> get() {
+                        return cast(getValue(key, valueLoader));
+                    }
+                });
+    }
+
+    private <K, V> CompletableFuture<Object> getValue(K key, Function<K, V> valueLoader) {
+        String redisKey = redisKey(key);
+        if (isNearCacheActive()) {
+            Object value = nearCache.getIfPresent(redisKey);
+            if (value != null) {
+                localHits.increment();
+                return CompletableFuture.completedFuture(NullValueConverter.fromCacheValue(value));
+            }
+            localMisses.increment();
+        }
+        CompletableFuture<Object> newLoad = new CompletableFuture<>();
+        CompletableFuture<Object> existingLoad = pendingLoads.putIfAbsent(redisKey, newLoad);
+        if (existingLoad != null) {
+            LOGGER.tracef("Sharing the pending load of key [%s] from cache [%s]", key, cacheInfo.name);
+            return existingLoad;
+        }
+        long generation = invalidations.get();
+        if (BlockingOperationControl.isBlockingAllowed()) {
+            // The value loader is invoked on the calling thread, like with the other cache implementations
+            Response response;
+            try {
+                response = client.get(redisKey).await().atMost(cacheInfo.timeout);
+            } catch (Throwable t) {
+                LOGGER.warnf(t, "Unable to get key [%s] from cache [%s], the value will be computed", key, cacheInfo.name);
+                response = null;
+            }
+            load(key, redisKey, response, valueLoader, newLoad, generation);
+        } else {
+            client.get(redisKey).ifNoItem().after(cacheInfo.timeout).fail().subscribe().with(new Consumer<Response>() {
+                @Override
+                public void accept(Response response) {
+                    load(key, redisKey, response, valueLoader, newLoad, generation);
+                }
+            }, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable t) {
+                    LOGGER.warnf(t, "Unable to get key [%s] from cache [%s], the value will be computed", key,
+                            cacheInfo.name);
+                    load(key, redisKey, null, valueLoader, newLoad, generation);
+                }
+            });
+        }
+        return newLoad;
+    }
+
+    private <K, V> void load(K key, String redisKey, Response response, Function<K, V> valueLoader,
+            CompletableFuture<Object> pendingLoad, long generation) {
+        Object value;
+        if (response != null) {
+            remoteHits.increment();
+            try {
+                value = decode(response.toString());
+            } catch (Throwable t) {
+                pendingLoads.remove(redisKey, pendingLoad);
+                pendingLoad.completeExceptionally(t);
+                return;
+            }
+        } else {
+            remoteMisses.increment();
+            try {
+                value = valueLoader.apply(key);
+            } catch (Throwable t) {
+                pendingLoads.remove(redisKey, pendingLoad);
+                pendingLoad.completeExceptionally(t instanceof CacheException ? t : new CacheException(t));
+                return;
+            }
+            if (value instanceof UnresolvedUniValue) {
+                // Stored once the Uni emits an item, see replaceUniValue()
+                pendingLoad.complete(value);
+                return;
+            }
+            store(redisKey, value);
+        }
+        if (isNearCacheActive() && invalidations.get() == generation) {
+            nearCache.put(redisKey, NullValueConverter.toCacheValue(value));
+            // An invalidation counted after the check above may have been applied before the put
+            if (invalidations.get() != generation) {
+                nearCache.invalidate(redisKey);
+            }
+        }
+        pendingLoads.remove(redisKey, pendingLoad);
+        pendingLoad.complete(value);
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                String redisKey = redisKey(key);
+                pendingLoads.remove(redisKey);
+                if (nearCache != null) {
+                    invalidations.incrementAndGet();
+                    nearCache.invalidate(redisKey);
+                }
+                List<String> keys = new ArrayList<>(1);
+                keys.add(redisKey);
+                return client.del(keys).onItem().transformToUni(new Function<Response, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Response response) {
+                        return publish(INVALIDATE_KEY_PREFIX + redisKey);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                pendingLoads.clear();
+                if (nearCache != null) {
+                    invalidations.incrementAndGet();
+                    nearCache.invalidateAll();
+                }
+                return deleteAll("0").onItem().transformToUni(new Function<Void, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Void ignored) {
+                        return publish(INVALIDATE_ALL);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                String redisKey = redisKey(key);
+                // If the pending value was invalidated in the meantime, we don't want to put it back.
+                if (pendingLoads.remove(redisKey) == null) {
+                    return Uni.createFrom().voidItem();
+                }
+                LOGGER.debugf("Replacing Uni value entry with key [%s] into cache [%s]", key, cacheInfo.name);
+                // Not stored in the near cache, as a remote invalidation may have been received while the Uni was resolved:
+                // the next read gets the value from Redis
+                return set(redisKey, emittedValue);
+            }
+        });
+    }
+
+    public String getClientName() {
+        return cacheInfo.clientName;
+    }
+
+    // For testing purposes only.
+    public RedisCacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    private String redisKey(Object key) {
+        return cacheInfo.keyPrefix + keyCodec.encode(key);
+    }
+
+    private String encode(Object value) {
+        return value == null ? NULL_VALUE : VALUE_PREFIX + valueCodec.encode(value);
+    }
+
+    private Object decode(String value) {
+        return NULL_VALUE.equals(value) ? null : valueCodec.decode(value.substring(VALUE_PREFIX.length()));
+    }
+
+    private void store(String redisKey, Object value) {
+        set(redisKey, value).subscribe().with(new Consumer<Void>() {
+            @Override
+            public void accept(Void ignored) {
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                LOGGER.warnf(t, "Unable to store key [%s] in cache [%s]", redisKey, cacheInfo.name);
+            }
+        });
+    }
+
+    private Uni<Void> set(String redisKey, Object value) {
+        List<String> args = new ArrayList<>(4);
+        args.add(redisKey);
+        args.add(encode(value));
+        if (cacheInfo.expireAfterWrite != null) {
+            args.add("PX");
+            args.add(Long.toString(cacheInfo.expireAfterWrite.toMillis()));
+        }
+        return client.set(args).replaceWithVoid();
+    }
+
+    /**
+     * Deletes the keys of this cache using {@code SCAN} so that Redis is never blocked by a single large command.
+     */
+    private Uni<Void> deleteAll(String cursor) {
+        List<String> args = new ArrayList<>(5);
+        args.add(cursor);
+        args.add("MATCH");
+        args.add(cacheInfo.keyPrefix + "*");
+        args.add("COUNT");
+        args.add("1000");
+        return client.scan(args).onItem().transformToUni(new Function<Response, Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> apply(Response response) {
+                String nextCursor = response.get(0).toString();
+                Response keys = response.get(1);
+                List<String> toDelete = new ArrayList<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    toDelete.add(keys.get(i).toString());
+                }
+                Uni<Void> deleted = toDelete.isEmpty() ? Uni.createFrom().voidItem()
+                        : client.del(toDelete).replaceWithVoid();
+                if ("0".equals(nextCursor)) {
+                    return deleted;
+                }
+                return deleted.onItem().transformToUni(new Function<Void, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Void ignored) {
+                        return deleteAll(nextCursor);
+                    }
+                });
+            }
+        });
+    }
+
+    private Uni<Void> publish(String message) {
+        if (nearCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return client.publish(channel, message).replaceWithVoid();
+    }
+
+    private boolean isNearCacheActive() {
+        if (nearCache == null) {
+            return false;
+        }
+        if (subscription == null) {
+            // Without the invalidation messages, the local values could be stale
+            subscribe();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Closes the connection subscribed to the invalidation channel. The near cache is bypassed afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        RedisConnection connection = subscription;
+        if (connection != null) {
+            subscription = null;
+            connection.close();
+        }
+    }
+
+    private void subscribe() {
+        if (closed || !subscribing.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect().onComplete(new Handler<AsyncResult<RedisConnection>>() {
+            @Override
+            public void handle(AsyncResult<RedisConnection> connected) {
+                if (connected.failed()) {
+                    LOGGER.warnf(connected.cause(), "Unable to subscribe to the invalidation channel of cache [%s]",
+                            cacheInfo.name);
+                    subscribing.set(false);
+                } else if (closed) {
+                    connected.result().close();
+                } else {
+                    subscribe(connected.result());
+                }
+            }
+        });
+    }
+
+    private void subscribe(RedisConnection connection) {
+        connection.handler(new Handler<io.vertx.redis.client.Response>() {
+            @Override
+            public void handle(io.vertx.redis.client.Response message) {
+                onMessage(message);
+            }
+        });
+        connection.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                unsubscribed(connection);
+            }
+        });
+        connection.exceptionHandler(new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable t) {
+                LOGGER.debugf(t, "The invalidation channel of cache [%s] failed", cacheInfo.name);
+                unsubscribed(connection);
+            }
+        });
+        connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel))
+                .onComplete(new Handler<AsyncResult<io.vertx.redis.client.Response>>() {
+                    @Override
+                    public void handle(AsyncResult<io.vertx.redis.client.Response> subscribed) {
+                        if (closed) {
+                            // The cache was closed while subscribing
+                            connection.close();
+                        } else if (subscribed.succeeded()) {
+                            LOGGER.debugf("Subscribed to the invalidation channel of cache [%s]", cacheInfo.name);
+                            // Values read before the subscription may have been invalidated in the meantime
+                            invalidations.incrementAndGet();
+                            nearCache.invalidateAll();
+                            subscription = connection;
+                        } else {
+                            LOGGER.warnf(subscribed.cause(), "Unable to subscribe to the invalidation channel of cache [%s]",
+                                    cacheInfo.name);
+                            connection.close();
+                            subscribing.set(false);
+                        }
+                    }
+                });
+    }
+
+    private void unsubscribed(RedisConnection connection) {
+        if (subscription == connection) {
+            subscription = null;
+            invalidations.incrementAndGet();
+            nearCache.invalidateAll();
+        }
+        subscribing.set(false);
+    }
+
+    private void onMessage(io.vertx.redis.client.Response message) {
+        // A message has the following structure: ["message", channel, payload]
+        if (message.size() != 3 || !"message".equals(message.get(0).toString())) {
+            return;
+        }
+        String payload = message.get(2).toString();
+        invalidations.incrementAndGet();
+        if (INVALIDATE_ALL.equals(payload)) {
+            nearCache.invalidateAll();
+        } else if (payload.startsWith(INVALIDATE_KEY_PREFIX)) {
+            nearCache.invalidate(payload.substring(INVALIDATE_KEY_PREFIX.length()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cast(Object value) {
+        try {
+            return (T) value;
+        } catch (ClassCastException e) {
+            throw new CacheException(
+                    "An existing cached value type does not match the type returned by the value loading function", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+public class RedisCacheInfo {
+
+    public String name;
+
+    /**
+     * The default Redis client is used if {@code null}.
+     */
+    public String clientName;
+
+    public String keyPrefix;
+
+    public Duration expireAfterWrite;
+
+    /**
+     * The maximum time to wait for Redis when a cache value is read.
+     */
+    public Duration timeout;
+
+    public String keyCodec;
+
+    public String valueCodec;
+
+    /**
+     * The classes accepted by the {@link SerializationValueCodec}, {@code null} if another codec is used.
+     */
+    public List<String> javaSerializationAllowedClasses;
+
+    public boolean nearCacheEnabled;
+
+    public Long nearCacheMaximumSize;
+
+    public Duration nearCacheExpireAfterWrite;
+
+    public boolean metricsEnabled;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
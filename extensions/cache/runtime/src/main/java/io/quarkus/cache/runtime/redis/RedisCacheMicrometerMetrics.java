@@ -0,0 +1,34 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * This class is only loaded when the application depends on a quarkus-micrometer-registry-* extension.
+ */
+final class RedisCacheMicrometerMetrics {
+
+    private static final String GETS = "cache.redis.gets";
+
+    private RedisCacheMicrometerMetrics() {
+    }
+
+    static void register(RedisCacheImpl cache) {
+        // The local tier only exists if the near cache is enabled
+        if (cache.getCacheInfo().nearCacheEnabled) {
+            register(cache, cache.localHits, "local", "hit");
+            register(cache, cache.localMisses, "local", "miss");
+        }
+        register(cache, cache.remoteHits, "remote", "hit");
+        register(cache, cache.remoteMisses, "remote", "miss");
+    }
+
+    private static void register(RedisCacheImpl cache, LongAdder counter, String tier, String result) {
+        FunctionCounter.builder(GETS, counter, LongAdder::sum)
+                .description("The number of times cache lookup methods have returned a cached value (hit) or not (miss)")
+                .tags("cache", cache.getName(), "tier", tier, "result", result)
+                .register(Metrics.globalRegistry);
+    }
+}
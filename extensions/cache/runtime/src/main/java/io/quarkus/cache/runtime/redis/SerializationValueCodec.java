@@ -0,0 +1,79 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Base64;
+import java.util.List;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.RedisCacheCodec;
+
+/**
+ * A value codec of the Redis caches using the Java serialization. The values must be {@link java.io.Serializable} and are
+ * stored as Base64 encoded strings.
+ * <p>
+ * Anyone who can write to the Redis instance can make the application deserialize arbitrary data, so only the allowed
+ * classes and the classes of the {@link #JDK_CLASSES JDK value packages} are accepted when a value is decoded.
+ */
+public class SerializationValueCodec implements RedisCacheCodec {
+
+    static final String JDK_CLASSES = "java.lang.*;java.math.*;java.time.*;java.util.*";
+
+    private final ObjectInputFilter filter;
+
+    /**
+     *
+     * @param allowedClasses class names, package names ending with {@code .*} or package names ending with {@code .**}
+     */
+    public SerializationValueCodec(List<String> allowedClasses) {
+        StringBuilder pattern = new StringBuilder(JDK_CLASSES);
+        for (String allowedClass : allowedClasses) {
+            String trimmed = allowedClass.trim();
+            if (trimmed.isEmpty() || trimmed.indexOf(';') != -1 || trimmed.startsWith("!") || trimmed.indexOf('=') != -1) {
+                throw new IllegalArgumentException("Invalid class allowed by the Java serialization: " + allowedClass);
+            }
+            pattern.append(';').append(trimmed);
+        }
+        // Any other class is rejected
+        pattern.append(";!*");
+        this.filter = ObjectInputFilter.Config.createFilter(pattern.toString());
+    }
+
+    @Override
+    public String encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new CacheException("Unable to serialize a cache value of type " + value.getClass().getName(), e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    @Override
+    public Object decode(String encoded) {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(encoded))) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                // The application classes are not visible from the class loader of this class in dev mode
+                try {
+                    return Class.forName(desc.getName(), false, Thread.currentThread().getContextClassLoader());
+                } catch (ClassNotFoundException e) {
+                    return super.resolveClass(desc);
+                }
+            }
+        }) {
+            // The filter is checked before a class is resolved
+            in.setObjectInputFilter(filter);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("Unable to deserialize a cache value", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.cache.runtime.redis;
+
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.RedisCacheCodec;
+
+/**
+ * The default key codec of the Redis caches. The keys must therefore implement {@link Object#toString()} consistently with
+ * {@link Object#equals(Object)}, which is the case of strings, numbers and the keys built by the caching annotations from such
+ * values.
+ * <p>
+ * A {@link CompositeCacheKey} is encoded as {@code \c<count>:} followed by each of its encoded elements prefixed with their
+ * length, e.g. {@code \c2:3:foo3:bar}, so that no separator in the elements can make two different keys share the same Redis
+ * key. The other keys are encoded as their string representation, with a leading backslash doubled.
+ */
+public class ToStringKeyCodec implements RedisCacheCodec {
+
+    private static final char ESCAPE = '\\';
+    private static final String COMPOSITE_MARKER = ESCAPE + "c";
+
+    @Override
+    public String encode(Object key) {
+        if (key instanceof CompositeCacheKey) {
+            Object[] elements = ((CompositeCacheKey) key).getKeyElements();
+            StringBuilder encoded = new StringBuilder(COMPOSITE_MARKER).append(elements.length).append(':');
+            for (Object element : elements) {
+                String encodedElement = encode(element);
+                encoded.append(encodedElement.length()).append(':').append(encodedElement);
+            }
+            return encoded.toString();
+        }
+        String encoded = String.valueOf(key);
+        if (!encoded.isEmpty() && encoded.charAt(0) == ESCAPE) {
+            // A string key can't be mistaken for a composite key
+            return ESCAPE + encoded;
+        }
+        return encoded;
+    }
+}
@@ -19,6 +19,7 @@ import io.quarkus.amazon.lambda.runtime.JacksonInputReader;
 import io.quarkus.amazon.lambda.runtime.JacksonOutputWriter;
 import io.quarkus.amazon.lambda.runtime.LambdaInputReader;
 import io.quarkus.amazon.lambda.runtime.LambdaOutputWriter;
+import io.quarkus.amazon.lambda.runtime.LambdaPollLoopConfig;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.funqy.runtime.FunctionConstructor;
@@ -108,7 +109,7 @@ public class FunqyLambdaBindingRecorder {
     }
 
     @SuppressWarnings("rawtypes")
-    public void startPollLoop(ShutdownContext context, LaunchMode launchMode) {
+    public void startPollLoop(ShutdownContext context, LaunchMode launchMode, LambdaPollLoopConfig pollLoopConfig) {
         AbstractLambdaPollLoop loop = new AbstractLambdaPollLoop(AmazonLambdaMapperRecorder.objectMapper,
                 AmazonLambdaMapperRecorder.cognitoIdReader, AmazonLambdaMapperRecorder.clientCtxReader, launchMode) {
 
@@ -139,7 +140,7 @@ public class FunqyLambdaBindingRecorder {
                 throw new RuntimeException("Unreachable!");
             }
         };
-        loop.startPollLoop(context);
+        loop.startPollLoop(context, pollLoopConfig.concurrency);
 
     }
 
@@ -45,6 +45,7 @@ import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
+import io.quarkus.grpc.runtime.supports.DirectBufferProtoMarshaller;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.QuarkusBindException;
@@ -307,7 +308,8 @@ public class GrpcServerRecorder {
         List<ServerServiceDefinition> servicesWithInterceptors = new ArrayList<>();
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
         for (GrpcServiceDefinition service : services) {
-            servicesWithInterceptors.add(serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service, true));
+            servicesWithInterceptors.add(
+                    serviceWithInterceptors(vertx, grpcContainer, configuration, compressionInterceptor, service, true));
         }
 
         for (ServerServiceDefinition serviceWithInterceptors : servicesWithInterceptors) {
@@ -383,7 +385,7 @@ public class GrpcServerRecorder {
 
         for (GrpcServiceDefinition service : toBeRegistered) {
             builder.addService(
-                    serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service,
+                    serviceWithInterceptors(vertx, grpcContainer, configuration, compressionInterceptor, service,
                             launchMode == LaunchMode.DEVELOPMENT));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
@@ -441,7 +443,8 @@ public class GrpcServerRecorder {
     }
 
     private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContainer grpcContainer,
-            CompressionInterceptor compressionInterceptor, GrpcServiceDefinition service, boolean devMode) {
+            GrpcServerConfiguration configuration, CompressionInterceptor compressionInterceptor,
+            GrpcServiceDefinition service, boolean devMode) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
         if (compressionInterceptor != null) {
             interceptors.add(compressionInterceptor);
@@ -456,7 +459,11 @@ public class GrpcServerRecorder {
                 interceptors.add(new BlockingServerInterceptor(vertx, list, devMode));
             }
         }
-        return ServerInterceptors.intercept(service.definition, interceptors);
+        ServerServiceDefinition definition = service.definition;
+        if (configuration.directBufferParsing) {
+            definition = DirectBufferProtoMarshaller.wrap(definition);
+        }
+        return ServerInterceptors.intercept(definition, interceptors);
     }
 
     private class GrpcServerVerticle extends AbstractVerticle {
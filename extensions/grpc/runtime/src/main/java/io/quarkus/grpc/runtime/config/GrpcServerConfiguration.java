@@ -97,4 +97,12 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem
     public Optional<String> compression;
+
+    /**
+     * Whether the protobuf requests are parsed directly from the buffers received by the transport,
+     * instead of being copied into a byte array first.
+     * This avoids a copy of each request, which matters for large messages and streams of messages.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean directBufferParsing;
 }
@@ -0,0 +1,148 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * Parses protobuf requests directly from the buffers received by the transport.
+ * <p>
+ * The default protobuf marshaller copies each message into a byte array before parsing it. When the stream exposes
+ * its content as {@link ByteBuffer}s, this marshaller parses the message from these buffers instead, without the
+ * intermediate copy. The buffers are not aliased by the parsed message, so they are released as usual when the stream
+ * is closed. Other streams, and the serialization of the messages, are handled by the default marshaller.
+ */
+public final class DirectBufferProtoMarshaller<T extends MessageLite> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+    private final MethodDescriptor.PrototypeMarshaller<T> delegate;
+    private final T defaultInstance;
+    private final Parser<T> parser;
+
+    @SuppressWarnings("unchecked")
+    DirectBufferProtoMarshaller(MethodDescriptor.PrototypeMarshaller<T> delegate, T defaultInstance) {
+        this.delegate = delegate;
+        this.defaultInstance = defaultInstance;
+        this.parser = (Parser<T>) defaultInstance.getParserForType();
+    }
+
+    /**
+     * Replaces the request marshaller of the methods of the given service handling protobuf messages.
+     *
+     * @param definition the service definition
+     * @return the service definition using this marshaller for the protobuf requests
+     */
+    public static ServerServiceDefinition wrap(ServerServiceDefinition definition) {
+        ServiceDescriptor descriptor = definition.getServiceDescriptor();
+        ServiceDescriptor.Builder serviceBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+                .setSchemaDescriptor(descriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> wrapped = wrap(method);
+            serviceBuilder.addMethod(wrapped.getMethodDescriptor());
+            methods.add(wrapped);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> wrap(ServerMethodDefinition<ReqT, RespT> method) {
+        MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+        MethodDescriptor.Marshaller<ReqT> marshaller = descriptor.getRequestMarshaller();
+        if (!(marshaller instanceof MethodDescriptor.PrototypeMarshaller)
+                || marshaller instanceof DirectBufferProtoMarshaller) {
+            return method;
+        }
+        Object prototype = ((MethodDescriptor.PrototypeMarshaller<ReqT>) marshaller).getMessagePrototype();
+        if (!(prototype instanceof MessageLite)) {
+            return method;
+        }
+        MethodDescriptor.Marshaller<ReqT> directMarshaller = new DirectBufferProtoMarshaller(
+                (MethodDescriptor.PrototypeMarshaller) marshaller, (MessageLite) prototype);
+        return ServerMethodDefinition.create(
+                descriptor.toBuilder(directMarshaller, descriptor.getResponseMarshaller()).build(),
+                method.getServerCallHandler());
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return defaultInstance;
+    }
+
+    @Override
+    public Class<T> getMessageClass() {
+        return delegate.getMessageClass();
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return delegate.stream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        if (!(stream instanceof KnownLength) || !(stream instanceof HasByteBuffer)
+                || !((HasByteBuffer) stream).byteBufferSupported() || !stream.markSupported()) {
+            return delegate.parse(stream);
+        }
+        try {
+            int size = stream.available();
+            if (size == 0) {
+                return defaultInstance;
+            }
+            // Skipped buffers are released unless the stream is marked, they must stay valid until the message is parsed
+            stream.mark(size);
+            List<ByteBuffer> buffers = new ArrayList<>(2);
+            while (stream.available() > 0) {
+                ByteBuffer buffer = ((HasByteBuffer) stream).getByteBuffer();
+                if (buffer == null) {
+                    // Not expected as the stream is not at its end, reads the remaining content
+                    buffers.add(ByteBuffer.wrap(stream.readAllBytes()));
+                    break;
+                }
+                buffers.add(buffer);
+                skipFully(stream, buffer.remaining());
+            }
+            CodedInputStream input = buffers.size() == 1 ? CodedInputStream.newInstance(buffers.get(0))
+                    : CodedInputStream.newInstance(buffers);
+            // The size is limited by the transport already
+            input.setSizeLimit(Integer.MAX_VALUE);
+            T message = parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+            input.checkLastTagWas(0);
+            return message;
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Unable to read the message").withCause(e).asRuntimeException();
+        }
+    }
+
+    private static void skipFully(InputStream stream, long length) throws IOException {
+        while (length > 0) {
+            long skipped = stream.skip(length);
+            if (skipped <= 0) {
+                throw new IOException("Unable to skip " + length + " bytes");
+            }
+            length -= skipped;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package io.quarkus.grpc.runtime.supports.blocking;
 
+import java.util.Queue;
 import java.util.function.Consumer;
 
-import io.grpc.Context;
 import io.grpc.ServerCall;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.ManagedContext;
@@ -11,18 +11,16 @@ import io.vertx.core.Promise;
 
 class BlockingExecutionHandler<ReqT> implements Handler<Promise<Object>> {
     private final ServerCall.Listener<ReqT> delegate;
-    private final Context grpcContext;
-    private final Consumer<ServerCall.Listener<ReqT>> consumer;
+    private final Queue<Consumer<ServerCall.Listener<ReqT>>> events;
     private final InjectableContext.ContextState state;
     private final ManagedContext requestContext;
     private final Object lock;
 
-    public BlockingExecutionHandler(Consumer<ServerCall.Listener<ReqT>> consumer, Context grpcContext,
+    public BlockingExecutionHandler(Queue<Consumer<ServerCall.Listener<ReqT>>> events,
             ServerCall.Listener<ReqT> delegate, InjectableContext.ContextState state,
             ManagedContext requestContext,
             Object lock) {
-        this.consumer = consumer;
-        this.grpcContext = grpcContext;
+        this.events = events;
         this.delegate = delegate;
         this.state = state;
         this.requestContext = requestContext;
@@ -37,21 +35,20 @@ class BlockingExecutionHandler<ReqT> implements Handler<Promise<Object>> {
          * The lock object is assumed to be the request's listener
          */
         synchronized (lock) {
-            Context previous = grpcContext.attach();
+            requestContext.activate(state);
             try {
-                requestContext.activate(state);
-                try {
+                // Executes all the events queued so far, the request context is only activated once
+                Consumer<ServerCall.Listener<ReqT>> consumer;
+                while ((consumer = events.poll()) != null) {
                     consumer.accept(delegate);
-                } catch (Throwable any) {
-                    event.fail(any);
-                    return;
-                } finally {
-                    requestContext.deactivate();
                 }
-                event.complete();
+            } catch (Throwable any) {
+                event.fail(any);
+                return;
             } finally {
-                grpcContext.detach(previous);
+                requestContext.deactivate();
             }
+            event.complete();
         }
     }
 
@@ -2,10 +2,10 @@ package io.quarkus.grpc.runtime.supports.blocking;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -104,15 +104,18 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
      * When injected, replay the events.
      *
      * Note that event must be executed in order, explaining why incomingEvents
-     * are executed sequentially
+     * are executed sequentially. The events received while a worker thread is executing
+     * the previous ones are executed by that same worker thread, so that a unary call
+     * (message, half-close, complete...) does not need a thread hop per event.
      */
     private class ReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
         private final InjectableContext.ContextState requestContextState;
 
         // exclusive to event loop context
         private ServerCall.Listener<ReqT> delegate;
-        private final Queue<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new LinkedList<>();
         private boolean isConsumingFromIncomingEvents = false;
+        // added from the event loop context, consumed from the worker thread
+        private final Queue<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new ConcurrentLinkedQueue<>();
 
         private ReplayListener(InjectableContext.ContextState requestContextState) {
             this.requestContextState = requestContextState;
@@ -126,32 +129,43 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
          */
         void setDelegate(ServerCall.Listener<ReqT> delegate) {
             this.delegate = delegate;
-            if (!this.isConsumingFromIncomingEvents) {
-                Consumer<ServerCall.Listener<ReqT>> consumer = incomingEvents.poll();
-                if (consumer != null) {
-                    executeBlockingWithRequestContext(consumer);
-                }
+            if (!this.isConsumingFromIncomingEvents && !incomingEvents.isEmpty()) {
+                executeBlockingWithRequestContext();
             }
         }
 
         private void executeOnContextOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
+            incomingEvents.add(withGrpcContext(consumer));
             if (this.delegate != null && !this.isConsumingFromIncomingEvents) {
-                executeBlockingWithRequestContext(consumer);
-            } else {
-                incomingEvents.add(consumer);
+                executeBlockingWithRequestContext();
             }
         }
 
         /**
-         * Will execute the consumer in a worker context
-         * Once complete will enqueue the next consumer for execution.
-         * This method guarantees ordered execution per request.
-         *
-         * @param consumer
+         * The gRPC context is captured when the event is received, and attached when the event is executed.
          */
-        private void executeBlockingWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
+        private Consumer<ServerCall.Listener<ReqT>> withGrpcContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
             final Context grpcContext = Context.current();
-            Handler<Promise<Object>> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
+            return new Consumer<ServerCall.Listener<ReqT>>() {
+                @Override
+                public void accept(ServerCall.Listener<ReqT> listener) {
+                    Context previous = grpcContext.attach();
+                    try {
+                        consumer.accept(listener);
+                    } finally {
+                        grpcContext.detach(previous);
+                    }
+                }
+            };
+        }
+
+        /**
+         * Will execute the queued events in a worker context
+         * Once complete will execute the events received in the meantime, if any.
+         * This method guarantees ordered execution per request.
+         */
+        private void executeBlockingWithRequestContext() {
+            Handler<Promise<Object>> blockingHandler = new BlockingExecutionHandler<>(incomingEvents, delegate,
                     requestContextState, getRequestContext(), this);
             if (devMode) {
                 blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
@@ -159,9 +173,8 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
             }
             this.isConsumingFromIncomingEvents = true;
             vertx.executeBlocking(blockingHandler, false, p -> {
-                Consumer<ServerCall.Listener<ReqT>> next = incomingEvents.poll();
-                if (next != null) {
-                    executeBlockingWithRequestContext(next);
+                if (!incomingEvents.isEmpty()) {
+                    executeBlockingWithRequestContext();
                 } else {
                     this.isConsumingFromIncomingEvents = false;
                 }
@@ -5,6 +5,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +23,7 @@ import io.grpc.ServerCallHandler;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -70,6 +75,74 @@ class BlockingServerInterceptorTest {
         assertThat(serverCallHandler.contextUserName).isEqualTo("my-user");
     }
 
+    @Test
+    @Timeout(10)
+    void testQueuedEventsExecutedInOrderInOneWorkerTask() throws Exception {
+        final ServerCall serverCall = mock(ServerCall.class);
+        final RecordingServerCallHandler serverCallHandler = new RecordingServerCallHandler();
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        // The events are received on the event loop before the listener is created, as for a unary call
+        vertx.getOrCreateContext().runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ServerCall.Listener listener = blockingServerInterceptor.interceptCall(serverCall, null, serverCallHandler);
+                listener.onReady();
+                listener.onMessage("hello");
+                listener.onHalfClose();
+                listener.onComplete();
+            }
+        });
+        serverCallHandler.await();
+
+        assertThat(serverCallHandler.events).containsExactly("ready", "message hello", "halfClose", "complete");
+        assertThat(serverCallHandler.threadNames).hasSize(1);
+        assertThat(serverCallHandler.threadNames.iterator().next()).contains("vert.x").contains("worker");
+    }
+
+    static class RecordingServerCallHandler implements ServerCallHandler {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public ServerCall.Listener startCall(ServerCall serverCall, Metadata metadata) {
+            return new ServerCall.Listener() {
+                @Override
+                public void onReady() {
+                    record("ready");
+                }
+
+                @Override
+                public void onMessage(Object message) {
+                    record("message " + message);
+                }
+
+                @Override
+                public void onHalfClose() {
+                    record("halfClose");
+                }
+
+                @Override
+                public void onComplete() {
+                    record("complete");
+                    latch.countDown();
+                }
+            };
+        }
+
+        private void record(String event) {
+            events.add(event);
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        public void await() throws InterruptedException {
+            latch.await();
+        }
+    }
+
     static class BlockingServerCallHandler implements ServerCallHandler {
         String threadName;
         String contextUserName;
@@ -0,0 +1,113 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.protobuf.lite.ProtoLiteUtils;
+
+class DirectBufferProtoMarshallerTest {
+
+    private final DirectBufferProtoMarshaller<StringValue> marshaller = new DirectBufferProtoMarshaller<>(
+            (MethodDescriptor.PrototypeMarshaller<StringValue>) ProtoLiteUtils.marshaller(StringValue.getDefaultInstance()),
+            StringValue.getDefaultInstance());
+
+    @Test
+    void testParseFromBuffers() {
+        StringValue message = StringValue.of("hello ".repeat(1000));
+        byte[] bytes = message.toByteArray();
+        // The message spans two buffers, one of them direct
+        ByteBuffer first = ByteBuffer.wrap(bytes, 0, 100).slice();
+        ByteBuffer second = ByteBuffer.allocateDirect(bytes.length - 100);
+        second.put(bytes, 100, bytes.length - 100).flip();
+        BufferInputStream stream = new BufferInputStream(first, second);
+
+        assertThat(marshaller.parse(stream)).isEqualTo(message);
+        assertThat(stream.marked).isTrue();
+        assertThat(stream.available()).isZero();
+    }
+
+    @Test
+    void testParseEmptyMessage() {
+        assertThat(marshaller.parse(new BufferInputStream())).isSameAs(StringValue.getDefaultInstance());
+    }
+
+    @Test
+    void testParseFromOtherStreams() {
+        StringValue message = StringValue.of("hello");
+        assertThat(marshaller.parse(new ByteArrayInputStream(message.toByteArray()))).isEqualTo(message);
+    }
+
+    static class BufferInputStream extends InputStream implements KnownLength, HasByteBuffer {
+        private final ByteBuffer[] buffers;
+        private int index;
+        boolean marked;
+
+        BufferInputStream(ByteBuffer... buffers) {
+            this.buffers = buffers;
+        }
+
+        private ByteBuffer current() {
+            while (index < buffers.length && !buffers[index].hasRemaining()) {
+                index++;
+            }
+            return index < buffers.length ? buffers[index] : null;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer buffer = current();
+            return buffer == null ? -1 : buffer.get() & 0xFF;
+        }
+
+        @Override
+        public long skip(long n) {
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return 0;
+            }
+            int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            int available = 0;
+            for (int i = index; i < buffers.length; i++) {
+                available += buffers[i].remaining();
+            }
+            return available;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            marked = true;
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return true;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            ByteBuffer buffer = current();
+            return buffer == null ? null : buffer.duplicate();
+        }
+    }
+}
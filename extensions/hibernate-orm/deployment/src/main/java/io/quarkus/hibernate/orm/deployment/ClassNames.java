@@ -42,6 +42,7 @@ public class ClassNames {
     public static final DotName CONVERTER = createConstant("javax.persistence.Converter");
     public static final DotName EMBEDDED = createConstant("javax.persistence.Embedded");
     public static final DotName ELEMENT_COLLECTION = createConstant("javax.persistence.ElementCollection");
+    public static final DotName GENERATED_VALUE = createConstant("javax.persistence.GeneratedValue");
     public static final DotName PROXY = createConstant("org.hibernate.annotations.Proxy");
     public static final DotName HIBERNATE_PROXY = createConstant("org.hibernate.proxy.HibernateProxy");
     public static final DotName TYPE = createConstant("org.hibernate.annotations.Type");
@@ -370,12 +370,29 @@ public class HibernateOrmConfigPersistenceUnit {
 
         /**
          * The number of updates (inserts, updates and deletes) that are sent by the JDBC driver at one time for execution.
+         *
+         * `0` or `1` means batching is disabled.
+         *
+         * Inserts of entities whose identifier is generated with `GenerationType.IDENTITY` are never batched:
+         * a warning is logged at build time for such entities.
+         *
+         * @asciidoclet
          */
-        @ConfigItem
+        @ConfigItem(defaultValueDocumentation = "16")
         public OptionalInt statementBatchSize;
 
+        /**
+         * Whether inserts and updates are ordered by entity type and primary key before being executed,
+         * so that more statements can be grouped in a single JDBC batch.
+         *
+         * Only applies when batching is enabled.
+         */
+        @ConfigItem(defaultValue = "true")
+        public boolean orderStatements;
+
         public boolean isAnyPropertySet() {
-            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent();
+            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent()
+                    || !orderStatements;
         }
     }
 
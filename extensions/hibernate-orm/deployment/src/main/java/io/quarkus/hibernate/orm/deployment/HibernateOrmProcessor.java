@@ -919,7 +919,7 @@ public final class HibernateOrmProcessor {
                     hibernateOrmConfig.defaultPersistenceUnit,
                     modelClassesAndPackagesForDefaultPersistenceUnit,
                     jpaModel.getXmlMappings(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
-                    jdbcDataSources, applicationArchivesBuildItem, launchMode, capabilities,
+                    index.getIndex(), jdbcDataSources, applicationArchivesBuildItem, launchMode, capabilities,
                     systemProperties, nativeImageResources, hotDeploymentWatchedFiles, persistenceUnitDescriptors,
                     storageEngineCollector);
         } else if (!modelClassesAndPackagesForDefaultPersistenceUnit.isEmpty()
@@ -942,7 +942,7 @@ public final class HibernateOrmProcessor {
                     modelClassesAndPackagesPerPersistencesUnits.getOrDefault(persistenceUnitEntry.getKey(),
                             Collections.emptySet()),
                     jpaModel.getXmlMappings(persistenceUnitEntry.getKey()),
-                    jdbcDataSources, applicationArchivesBuildItem, launchMode, capabilities,
+                    index.getIndex(), jdbcDataSources, applicationArchivesBuildItem, launchMode, capabilities,
                     systemProperties, nativeImageResources, hotDeploymentWatchedFiles, persistenceUnitDescriptors,
                     storageEngineCollector);
         }
@@ -959,6 +959,7 @@ public final class HibernateOrmProcessor {
             HibernateOrmConfigPersistenceUnit persistenceUnitConfig,
             Set<String> modelClassesAndPackages,
             List<RecordableXmlMapping> xmlMappings,
+            IndexView index,
             List<JdbcDataSourceBuildItem> jdbcDataSources,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
             LaunchMode launchMode,
@@ -1092,9 +1093,16 @@ public final class HibernateOrmProcessor {
                 fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_FETCH_SIZE,
                         String.valueOf(fetchSize)));
 
-        persistenceUnitConfig.jdbc.statementBatchSize.ifPresent(
-                fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
-                        String.valueOf(fetchSize)));
+        int statementBatchSize = persistenceUnitConfig.jdbc.statementBatchSize.orElse(16);
+        descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
+                String.valueOf(statementBatchSize));
+        if (statementBatchSize > 1) {
+            if (persistenceUnitConfig.jdbc.orderStatements) {
+                descriptor.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+                descriptor.getProperties().setProperty(AvailableSettings.ORDER_UPDATES, "true");
+            }
+            warnAboutIdentityGeneratedEntities(persistenceUnitName, modelClassesAndPackages, index);
+        }
 
         // Statistics
         if (hibernateOrmConfig.metricsEnabled
@@ -1212,6 +1220,39 @@ public final class HibernateOrmProcessor {
         }
     }
 
+    /**
+     * Inserts of entities whose identifier is generated by an identity column cannot be batched,
+     * as Hibernate ORM needs to execute each insert to know the identifier.
+     */
+    private static void warnAboutIdentityGeneratedEntities(String persistenceUnitName, Set<String> modelClassesAndPackages,
+            IndexView index) {
+        Set<String> identityGeneratedEntities = new TreeSet<>();
+        for (AnnotationInstance generatedValue : index.getAnnotations(ClassNames.GENERATED_VALUE)) {
+            AnnotationValue strategy = generatedValue.value("strategy");
+            if (strategy == null || !"IDENTITY".equals(strategy.asEnum())) {
+                continue;
+            }
+            ClassInfo declaringClass;
+            if (generatedValue.target().kind() == Kind.FIELD) {
+                declaringClass = generatedValue.target().asField().declaringClass();
+            } else if (generatedValue.target().kind() == Kind.METHOD) {
+                declaringClass = generatedValue.target().asMethod().declaringClass();
+            } else {
+                continue;
+            }
+            String className = declaringClass.name().toString();
+            if (modelClassesAndPackages.contains(className)) {
+                identityGeneratedEntities.add(className);
+            }
+        }
+        if (!identityGeneratedEntities.isEmpty()) {
+            LOG.warnf("JDBC batching is enabled for persistence unit '%s', but the following classes use"
+                    + " GenerationType.IDENTITY and their inserts cannot be batched: %s."
+                    + " Consider using GenerationType.SEQUENCE, which relies on a pooled optimizer, instead.",
+                    persistenceUnitName, identityGeneratedEntities);
+        }
+    }
+
     private static void setMaxFetchDepth(ParsedPersistenceXmlDescriptor descriptor, OptionalInt maxFetchDepth) {
         descriptor.getProperties().setProperty(AvailableSettings.MAX_FETCH_DEPTH, String.valueOf(maxFetchDepth.getAsInt()));
     }
@@ -8,6 +8,7 @@ import java.util.Optional;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfig;
@@ -26,12 +27,14 @@ public final class HibernateOrmMetricsProcessor {
             HibernateMetricsRecorder metricsRecorder,
             List<PersistenceProviderSetUpBuildItem> persistenceUnitsStarted,
             Optional<MetricsCapabilityBuildItem> metricsConfiguration,
+            ShutdownContextBuildItem shutdownContext,
             BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
 
         // IF Hibernate metrics and Hibernate statistics are enabled
         // then define a consumer. It will only be invoked if metrics is enabled
         if (config.metricsEnabled && config.statistics.orElse(true) && metricsConfiguration.isPresent()) {
             datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(metricsRecorder.consumeMetricsFactory()));
+            metricsRecorder.clearSessionEventMetricsOnShutdown(shutdownContext);
         }
     }
 }
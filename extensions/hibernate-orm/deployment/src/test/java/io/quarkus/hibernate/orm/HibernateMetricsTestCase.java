@@ -11,6 +11,7 @@ import javax.transaction.Transactional;
 import org.eclipse.microprofile.metrics.Counter;
 import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.junit.jupiter.api.Test;
@@ -68,6 +69,13 @@ public class HibernateMetricsTestCase {
             entity.number = 12345L;
             em.persist(entity);
             em.flush();
+            assertEquals(1L, getCounterValueOrNull("hibernate.flushes.entities",
+                    new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)));
+            // The insert is sent as a JDBC batch since batching is enabled by default
+            assertEquals(1L, getTimerCountOrNull("hibernate.jdbc.batches",
+                    new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)));
+            assertEquals(1L, getTimerCountOrNull("hibernate.flush.time",
+                    new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)));
             em.createQuery("from DummyEntity e").getResultList();
             assertEquals(1L, getCounterValueOrNull("hibernate.query.executions",
                     new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)));
@@ -83,4 +91,9 @@ public class HibernateMetricsTestCase {
         return metric != null ? metric.getCount() : null;
     }
 
+    public Long getTimerCountOrNull(String metricName, Tag... tags) {
+        SimpleTimer metric = metricRegistry.getSimpleTimers().get(new MetricID(metricName, tags));
+        return metric != null ? metric.getCount() : null;
+    }
+
 }
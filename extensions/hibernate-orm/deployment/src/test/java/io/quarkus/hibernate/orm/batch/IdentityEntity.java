@@ -0,0 +1,23 @@
+package io.quarkus.hibernate.orm.batch;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+@Entity
+public class IdentityEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+
+    public String name;
+
+    public IdentityEntity() {
+    }
+
+    @Override
+    public String toString() {
+        return "IdentityEntity#" + id;
+    }
+}
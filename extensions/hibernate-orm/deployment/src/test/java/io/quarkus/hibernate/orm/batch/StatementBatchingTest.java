@@ -0,0 +1,50 @@
+package io.quarkus.hibernate.orm.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+
+import javax.inject.Inject;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatementBatchingTest {
+
+    private static final Formatter LOG_FORMATTER = new PatternFormatter("%s");
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MainEntity.class)
+                    .addClass(OtherEntity.class)
+                    .addClass(IdentityEntity.class)
+                    .addAsResource("application.properties"))
+            // Expect a warning on startup
+            .setLogRecordPredicate(record -> record.getMessage().contains("their inserts cannot be batched"))
+            .assertLogRecords(records -> assertThat(records)
+                    .hasSize(1)
+                    .element(0).satisfies(record -> {
+                        assertThat(record.getLevel()).isEqualTo(Level.WARNING);
+                        assertThat(LOG_FORMATTER.formatMessage(record))
+                                .contains(IdentityEntity.class.getName())
+                                .doesNotContain(MainEntity.class.getName());
+                    }));
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    public void testDefaultStatementBatching() {
+        SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+        assertThat(options.getJdbcBatchSize()).isEqualTo(16);
+        assertThat(options.isOrderInsertsEnabled()).isTrue();
+        assertThat(options.isOrderUpdatesEnabled()).isTrue();
+    }
+}
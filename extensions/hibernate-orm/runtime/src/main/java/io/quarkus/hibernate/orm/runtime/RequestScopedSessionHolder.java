@@ -9,6 +9,8 @@ import javax.enterprise.context.RequestScoped;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 
+import io.quarkus.hibernate.orm.runtime.metrics.SessionEventMetrics;
+
 /**
  * Bean that is used to manage request scoped sessions
  */
@@ -18,7 +20,16 @@ public class RequestScopedSessionHolder {
     private final Map<String, Session> sessions = new HashMap<>();
 
     public Session getOrCreateSession(String name, SessionFactory factory) {
-        return sessions.computeIfAbsent(name, (n) -> factory.openSession());
+        return sessions.computeIfAbsent(name, (n) -> openSession(n, factory));
+    }
+
+    private static Session openSession(String name, SessionFactory factory) {
+        Session session = factory.openSession();
+        SessionEventMetrics sessionEventMetrics = SessionEventMetrics.forPersistenceUnit(name);
+        if (sessionEventMetrics != null) {
+            session.addEventListeners(sessionEventMetrics);
+        }
+        return session;
     }
 
     @PreDestroy
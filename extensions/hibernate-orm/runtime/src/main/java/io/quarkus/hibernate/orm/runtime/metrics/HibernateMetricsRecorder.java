@@ -11,6 +11,7 @@ import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -37,6 +38,17 @@ public class HibernateMetricsRecorder {
         };
     }
 
+    /* RUNTIME_INIT for metrics */
+    public void clearSessionEventMetricsOnShutdown(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                // The listeners hold the timers of the metrics registry of the stopped application
+                SessionEventMetrics.clear();
+            }
+        });
+    }
+
     /**
      * Register MP Metrics
      *
@@ -76,6 +88,19 @@ public class HibernateMetricsRecorder {
                         "whether you use a connection pool or not)",
                 puName, statistics, Statistics::getConnectCount);
 
+        // JDBC batches and flushes, not exposed by the statistics
+        SessionEventMetrics sessionEventMetrics = new SessionEventMetrics(
+                createBuilder(metricsFactory, "hibernate.jdbc.batches",
+                        "Time spent executing JDBC batches (inserts, updates and deletes)", puName)
+                        .buildTimer(),
+                createBuilder(metricsFactory, "hibernate.flush.time",
+                        "Time spent flushing sessions", puName)
+                        .buildTimer());
+        createStatisticsCounter(metricsFactory, "hibernate.flushes.entities",
+                "Global number of entities processed by flush operations",
+                puName, sessionEventMetrics, SessionEventMetrics::getFlushedEntityCount);
+        SessionEventMetrics.register(puName, sessionEventMetrics);
+
         // Statements
         createStatisticsCounter(metricsFactory, "hibernate.statements",
                 "The number of prepared statements (see status for prepared or closed)",
@@ -0,0 +1,95 @@
+package io.quarkus.hibernate.orm.runtime.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.BaseSessionEventListener;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Records the JDBC batches executed and the flushes performed by the sessions of a persistence unit.
+ * <p>
+ * Hibernate ORM statistics do not expose the duration of flushes nor the number of JDBC batches, so a session event
+ * listener is added to the sessions opened by Quarkus. A single listener is shared by all the sessions of a persistence
+ * unit: a session is only used by one thread at a time, so the start of an operation is kept in a thread local.
+ */
+public final class SessionEventMetrics extends BaseSessionEventListener {
+
+    private static final Map<String, SessionEventMetrics> PERSISTENCE_UNITS = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param puName the name of the persistence unit
+     * @return the listener of the persistence unit, or {@code null} if the metrics are not enabled
+     */
+    public static SessionEventMetrics forPersistenceUnit(String puName) {
+        return PERSISTENCE_UNITS.get(puName);
+    }
+
+    static void register(String puName, SessionEventMetrics metrics) {
+        PERSISTENCE_UNITS.put(puName, metrics);
+    }
+
+    static void clear() {
+        PERSISTENCE_UNITS.clear();
+    }
+
+    private final transient TimeRecorder batchTimer;
+    private final transient TimeRecorder flushTimer;
+    private final LongAdder flushedEntityCount = new LongAdder();
+    private final transient ThreadLocal<long[]> batchStart = new ThreadLocal<>();
+    private final transient ThreadLocal<long[]> flushStart = new ThreadLocal<>();
+
+    SessionEventMetrics(TimeRecorder batchTimer, TimeRecorder flushTimer) {
+        this.batchTimer = batchTimer;
+        this.flushTimer = flushTimer;
+    }
+
+    long getFlushedEntityCount() {
+        return flushedEntityCount.sum();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start(batchStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        end(batchStart, batchTimer);
+    }
+
+    @Override
+    public void flushStart() {
+        start(flushStart);
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        flushedEntityCount.add(numberOfEntities);
+        end(flushStart, flushTimer);
+    }
+
+    private static void start(ThreadLocal<long[]> threadLocal) {
+        if (threadLocal == null) {
+            // Deserialized session
+            return;
+        }
+        long[] start = threadLocal.get();
+        if (start == null) {
+            start = new long[1];
+            threadLocal.set(start);
+        }
+        start[0] = System.nanoTime();
+    }
+
+    private static void end(ThreadLocal<long[]> threadLocal, TimeRecorder timer) {
+        long[] start = threadLocal != null ? threadLocal.get() : null;
+        if (start != null && timer != null) {
+            timer.update(System.nanoTime() - start[0], TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -50,6 +50,7 @@ import org.hibernate.query.Query;
 import org.hibernate.stat.SessionStatistics;
 
 import io.quarkus.hibernate.orm.runtime.RequestScopedSessionHolder;
+import io.quarkus.hibernate.orm.runtime.metrics.SessionEventMetrics;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.quarkus.runtime.BlockingOperationNotAllowedException;
 
@@ -86,6 +87,10 @@ public class TransactionScopedSession implements Session {
                 return new SessionResult(session, false, true);
             }
             Session newSession = jtaSessionOpener.openSession();
+            SessionEventMetrics sessionEventMetrics = SessionEventMetrics.forPersistenceUnit(unitName);
+            if (sessionEventMetrics != null) {
+                newSession.addEventListeners(sessionEventMetrics);
+            }
             // The session has automatically joined the JTA transaction when it was constructed.
             transactionSynchronizationRegistry.putResource(sessionKey, newSession);
             // No need to flush or close the session upon transaction completion:
@@ -279,9 +279,12 @@ public final class HibernateReactiveProcessor {
                 persistenceUnitConfig.query.defaultNullOrdering.name().toLowerCase());
 
         // JDBC
-        persistenceUnitConfig.jdbc.statementBatchSize.ifPresent(
-                statementBatchSize -> desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
-                        String.valueOf(statementBatchSize)));
+        int statementBatchSize = persistenceUnitConfig.jdbc.statementBatchSize.orElse(16);
+        desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(statementBatchSize));
+        if (statementBatchSize > 1 && persistenceUnitConfig.jdbc.orderStatements) {
+            desc.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+            desc.getProperties().setProperty(AvailableSettings.ORDER_UPDATES, "true");
+        }
 
         // Statistics
         if (hibernateOrmConfig.metricsEnabled
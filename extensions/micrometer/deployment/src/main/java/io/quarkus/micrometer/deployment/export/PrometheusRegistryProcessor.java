@@ -63,10 +63,12 @@ public class PrometheusRegistryProcessor {
         PrometheusConfigGroup pConfig = mConfig.export.prometheus;
         log.debug("PROMETHEUS CONFIG: " + pConfig);
 
+        long cacheTtlMillis = pConfig.scrapeCacheTtl.isPresent() ? pConfig.scrapeCacheTtl.get().toMillis() : 0;
+
         // Exact match for resources matched to the root path
         routes.produce(nonApplicationRootPathBuildItem.routeBuilder()
                 .routeFunction(pConfig.path, recorder.route())
-                .handler(recorder.getHandler())
+                .handler(recorder.getHandler(pConfig.compression, cacheTtlMillis))
                 .displayOnNotFoundPage("Metrics")
                 .blockingRoute()
                 .build());
@@ -74,7 +76,7 @@ public class PrometheusRegistryProcessor {
         // Match paths that begin with the deployment path
         routes.produce(nonApplicationRootPathBuildItem.routeBuilder()
                 .routeFunction(pConfig.path + (pConfig.path.endsWith("/") ? "*" : "/*"), recorder.route())
-                .handler(recorder.getHandler())
+                .handler(recorder.getHandler(pConfig.compression, cacheTtlMillis))
                 .blockingRoute()
                 .build());
 
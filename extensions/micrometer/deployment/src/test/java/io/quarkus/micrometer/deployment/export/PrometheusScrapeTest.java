@@ -0,0 +1,55 @@
+package io.quarkus.micrometer.deployment.export;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PrometheusScrapeTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true)
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .withEmptyApplication();
+
+    @Inject
+    PrometheusMeterRegistry registry;
+
+    @Test
+    public void testScrape() {
+        // Many series so that the output spans several chunks
+        for (int i = 0; i < 2000; i++) {
+            registry.counter("scrape.test.counter", "index", Integer.toString(i)).increment();
+        }
+
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", TextFormat.CONTENT_TYPE_004)
+                .header("Content-Encoding", "gzip")
+                .body(containsString("scrape_test_counter_total{index=\"1999\",} 1.0"));
+
+        RestAssured.given()
+                .header("Accept", TextFormat.CONTENT_TYPE_OPENMETRICS_100)
+                .header("Accept-Encoding", "identity")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", TextFormat.CONTENT_TYPE_OPENMETRICS_100)
+                .header("Content-Encoding", nullValue())
+                .body(containsString("# EOF"));
+    }
+}
@@ -1,5 +1,9 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 import org.jboss.logging.Logger;
 
 import io.micrometer.core.instrument.Metrics;
@@ -9,6 +13,7 @@ import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
@@ -16,6 +21,8 @@ public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetr
     private static final Logger log = Logger.getLogger(VertxMeterBinderAdapter.class);
 
     private HttpBinderConfiguration httpBinderConfiguration;
+    // The SQL client creates the client metrics per pool - share the meters of the pools of a datasource
+    private final Map<String, VertxSqlClientMetrics> sqlClientMetrics = new ConcurrentHashMap<>();
 
     public VertxMeterBinderAdapter() {
     }
@@ -55,4 +62,19 @@ public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetr
         }
         return null;
     }
+
+    @Override
+    public ClientMetrics<?, ?, ?, ?> createClientMetrics(SocketAddress remoteAddress, String type, String namespace) {
+        if (VertxSqlClientMetrics.SQL_CLIENT_TYPE.equals(type)) {
+            log.debugf("Create ClientMetrics for the SQL client %s and address %s", namespace, remoteAddress);
+            String datasource = namespace == null || namespace.isEmpty() ? "default" : namespace;
+            return sqlClientMetrics.computeIfAbsent(datasource, new Function<String, VertxSqlClientMetrics>() {
+                @Override
+                public VertxSqlClientMetrics apply(String name) {
+                    return new VertxSqlClientMetrics(Metrics.globalRegistry, name);
+                }
+            });
+        }
+        return null;
+    }
 }
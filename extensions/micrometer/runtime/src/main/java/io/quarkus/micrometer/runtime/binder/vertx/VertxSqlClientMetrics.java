@@ -0,0 +1,93 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.spi.metrics.ClientMetrics;
+
+/**
+ * Metrics of a reactive SQL client pool, reported by the Vert.x SQL client as client metrics of type {@code sql}.
+ * <p>
+ * The queue of the client holds the requests waiting for a connection of the pool, so the queue time is the connection
+ * acquisition latency. A request is in progress from the moment a connection was acquired until the response is received.
+ * <ul>
+ * <li>M for request metric -- a {@link Timer.Sample}</li>
+ * <li>T for queue metric -- a {@link Timer.Sample}</li>
+ * </ul>
+ */
+public class VertxSqlClientMetrics implements ClientMetrics<Timer.Sample, Timer.Sample, Object, Object> {
+
+    static final String SQL_CLIENT_TYPE = "sql";
+
+    final MeterRegistry registry;
+    final Timer acquireTimer;
+    final Timer queryTimer;
+    final AtomicInteger waiting = new AtomicInteger();
+    final AtomicInteger inUse = new AtomicInteger();
+
+    /**
+     *
+     * @param registry
+     * @param datasource the metrics name of the client, i.e. the name of the datasource
+     */
+    VertxSqlClientMetrics(MeterRegistry registry, String datasource) {
+        this.registry = registry;
+        Tags tags = Tags.of("datasource", datasource);
+        acquireTimer = Timer.builder("reactive.datasource.acquire")
+                .description("Time spent waiting for a connection of the pool")
+                .tags(tags)
+                .register(registry);
+        queryTimer = Timer.builder("reactive.datasource.query")
+                .description("Time spent executing a command, from the moment a connection was acquired")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("reactive.datasource.waiting", waiting, AtomicInteger::get)
+                .description("Number of requests waiting for a connection of the pool")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("reactive.datasource.in.use", inUse, AtomicInteger::get)
+                .description("Number of commands in progress")
+                .tags(tags)
+                .register(registry);
+    }
+
+    @Override
+    public Timer.Sample enqueueRequest() {
+        waiting.incrementAndGet();
+        return Timer.start(registry);
+    }
+
+    @Override
+    public void dequeueRequest(Timer.Sample taskMetric) {
+        waiting.decrementAndGet();
+        if (taskMetric != null) {
+            taskMetric.stop(acquireTimer);
+        }
+    }
+
+    @Override
+    public Timer.Sample requestBegin(String uri, Object request) {
+        inUse.incrementAndGet();
+        return Timer.start(registry);
+    }
+
+    @Override
+    public void requestReset(Timer.Sample requestMetric) {
+        end(requestMetric);
+    }
+
+    @Override
+    public void responseEnd(Timer.Sample requestMetric) {
+        end(requestMetric);
+    }
+
+    private void end(Timer.Sample requestMetric) {
+        if (requestMetric != null) {
+            inUse.decrementAndGet();
+            requestMetric.stop(queryTimer);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.runtime.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -38,6 +39,27 @@ public class PrometheusConfigGroup implements MicrometerConfig.CapabilityEnabled
     @ConfigItem(defaultValue = "true")
     public boolean defaultRegistry;
 
+    /**
+     * Whether the output of the prometheus endpoint is compressed with gzip when the scraper
+     * accepts it (`Accept-Encoding: gzip`).
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean compression;
+
+    /**
+     * How long the output of the prometheus endpoint is cached.
+     *
+     * By default, the output is not cached and is streamed to the scraper while it is rendered.
+     * When several scrapers hit the same instance, caching the output for a short time avoids
+     * rendering the whole registry for each of them.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public Optional<Duration> scrapeCacheTtl;
+
     @Override
     public Optional<Boolean> getEnabled() {
         return enabled;
@@ -49,6 +71,8 @@ public class PrometheusConfigGroup implements MicrometerConfig.CapabilityEnabled
                 + "{path='" + path
                 + ",enabled=" + enabled
                 + ",defaultRegistry=" + defaultRegistry
+                + ",compression=" + compression
+                + ",scrapeCacheTtl=" + scrapeCacheTtl
                 + '}';
     }
 }
@@ -13,9 +13,9 @@ import io.vertx.ext.web.RoutingContext;
 public class PrometheusRecorder {
     PrometheusHandler handler;
 
-    public PrometheusHandler getHandler() {
+    public PrometheusHandler getHandler(boolean compression, long cacheTtlMillis) {
         if (handler == null) {
-            handler = new PrometheusHandler();
+            handler = new PrometheusHandler(compression, cacheTtlMillis);
         }
 
         return handler;
@@ -25,7 +25,7 @@ public class PrometheusRecorder {
         return new Consumer<Route>() {
             @Override
             public void accept(Route route) {
-                route.order(1).produces("text/plain");
+                route.order(1).produces("text/plain").produces("application/openmetrics-text");
             }
         };
     }
@@ -0,0 +1,108 @@
+package io.quarkus.micrometer.runtime.export.handlers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+import io.quarkus.runtime.BlockingOperationNotAllowedException;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes to a chunked response as the content is produced, instead of rendering the whole content in memory first.
+ * <p>
+ * The content is staged in a fixed size array and sent as a chunk when the array is full. Writes block the calling (worker)
+ * thread while the write queue of the response is full.
+ */
+final class ChunkedResponseOutputStream extends OutputStream {
+
+    static final int CHUNK_SIZE = 16 * 1024;
+
+    private final HttpServerResponse response;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private int position;
+    private boolean drainHandlerRegistered;
+    private boolean closed;
+
+    ChunkedResponseOutputStream(HttpServerResponse response) {
+        this.response = response;
+        response.setChunked(true);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (position == chunk.length) {
+            writeChunk();
+        }
+        chunk[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (position == chunk.length) {
+                writeChunk();
+            }
+            int length = Math.min(len, chunk.length - position);
+            System.arraycopy(b, off, chunk, position, length);
+            position += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (response.closed()) {
+            throw new IOException("Connection has been closed");
+        }
+        response.end(Buffer.buffer(position).appendBytes(chunk, 0, position));
+    }
+
+    private void writeChunk() throws IOException {
+        awaitWriteable();
+        response.write(Buffer.buffer(position).appendBytes(chunk, 0, position));
+        position = 0;
+    }
+
+    private void awaitWriteable() throws IOException {
+        if (!response.writeQueueFull()) {
+            return;
+        }
+        if (Context.isOnEventLoopThread()) {
+            throw new BlockingOperationNotAllowedException("Attempting a blocking write on io thread");
+        }
+        synchronized (this) {
+            if (!drainHandlerRegistered) {
+                drainHandlerRegistered = true;
+                Handler<Void> handler = new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        synchronized (ChunkedResponseOutputStream.this) {
+                            ChunkedResponseOutputStream.this.notifyAll();
+                        }
+                    }
+                };
+                response.drainHandler(handler);
+                response.closeHandler(handler);
+            }
+            while (response.writeQueueFull()) {
+                if (response.closed()) {
+                    throw new IOException("Connection has been closed");
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(e.getMessage());
+                }
+            }
+        }
+    }
+}
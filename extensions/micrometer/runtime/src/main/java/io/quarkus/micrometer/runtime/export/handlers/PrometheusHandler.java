@@ -1,5 +1,15 @@
 package io.quarkus.micrometer.runtime.export.handlers;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
 import javax.enterprise.inject.Default;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.CDI;
@@ -8,18 +18,41 @@ import org.jboss.logging.Logger;
 
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
+import io.quarkus.vertx.http.runtime.HttpCompressionUtils;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
+/**
+ * Serves the Prometheus scrape endpoint.
+ * <p>
+ * The exposition format (text or OpenMetrics) is written to the response as it is rendered, in chunks, so that large
+ * registries do not have to be rendered in a single string. The output is compressed with gzip if the scraper accepts it.
+ * If a cache TTL is configured, the rendered output is kept and served to the scrapes happening within the TTL.
+ */
 public class PrometheusHandler implements Handler<RoutingContext> {
     private static final Logger log = Logger.getLogger(PrometheusHandler.class);
 
+    private final boolean compression;
+    private final long cacheTtlNanos;
+    private final Map<String, CachedScrape> cache = new ConcurrentHashMap<>();
+
     private PrometheusMeterRegistry registry;
 
     private boolean setup = false;
 
+    /**
+     *
+     * @param compression whether the output is compressed when the scraper accepts gzip
+     * @param cacheTtlMillis how long the rendered output is cached, {@code 0} to disable the cache
+     */
+    public PrometheusHandler(boolean compression, long cacheTtlMillis) {
+        this.compression = compression;
+        this.cacheTtlNanos = cacheTtlMillis * 1_000_000L;
+    }
+
     @Override
     public void handle(RoutingContext routingContext) {
         if (!setup) {
@@ -30,12 +63,74 @@ public class PrometheusHandler implements Handler<RoutingContext> {
         if (registry == null) {
             response.setStatusCode(500)
                     .setStatusMessage("Unable to resolve Prometheus registry instance");
-        } else {
-            response.putHeader("Content-Type", TextFormat.CONTENT_TYPE_004)
-                    .end(Buffer.buffer(registry.scrape()));
+            return;
+        }
+
+        String contentType = TextFormat.chooseContentType(routingContext.request().getHeader(HttpHeaders.ACCEPT));
+        boolean gzip = compression
+                && HttpCompressionUtils.acceptsGzip(routingContext.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+        if (gzip) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        try {
+            if (cacheTtlNanos > 0) {
+                response.end(Buffer.buffer(cachedScrape(contentType, gzip)));
+            } else {
+                Writer writer = writer(new ChunkedResponseOutputStream(response), gzip);
+                registry.scrape(writer, contentType);
+                // Ends the response, it must not happen if the scrape failed as the output would look complete
+                writer.close();
+            }
+        } catch (IOException e) {
+            // Most likely the scraper went away
+            log.debugf(e, "Unable to write the Prometheus scrape");
+            abort(response);
+        } catch (RuntimeException e) {
+            if (!response.headWritten()) {
+                throw e;
+            }
+            log.errorf(e, "Prometheus scrape failed after the response was partially sent");
+            abort(response);
+        }
+    }
+
+    private static void abort(HttpServerResponse response) {
+        if (!response.ended() && !response.closed()) {
+            response.reset();
+        }
+    }
+
+    private byte[] cachedScrape(String contentType, boolean gzip) throws IOException {
+        String key = gzip ? contentType + ";gzip" : contentType;
+        CachedScrape cached = cache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.content;
+        }
+        // Several scrapers hitting an expired entry should not all render the output
+        synchronized (cache) {
+            cached = cache.get(key);
+            if (cached != null && !cached.isExpired()) {
+                return cached.content;
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream(ChunkedResponseOutputStream.CHUNK_SIZE);
+            try (Writer writer = writer(output, gzip)) {
+                registry.scrape(writer, contentType);
+            }
+            cached = new CachedScrape(output.toByteArray(), System.nanoTime() + cacheTtlNanos);
+            cache.put(key, cached);
+            return cached.content;
         }
     }
 
+    private static Writer writer(OutputStream output, boolean gzip) throws IOException {
+        if (gzip) {
+            output = new GZIPOutputStream(output, ChunkedResponseOutputStream.CHUNK_SIZE);
+        }
+        return new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    }
+
     private void setup() {
         Instance<PrometheusMeterRegistry> registries = CDI.current().select(PrometheusMeterRegistry.class,
                 Default.Literal.INSTANCE);
@@ -52,4 +147,19 @@ public class PrometheusHandler implements Handler<RoutingContext> {
 
         setup = true;
     }
+
+    private static final class CachedScrape {
+
+        final byte[] content;
+        final long expiresAt;
+
+        CachedScrape(byte[] content, long expiresAt) {
+            this.content = content;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
 }
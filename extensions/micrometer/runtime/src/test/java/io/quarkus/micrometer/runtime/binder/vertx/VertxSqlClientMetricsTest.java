@@ -0,0 +1,43 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class VertxSqlClientMetricsTest {
+
+    SimpleMeterRegistry registry;
+    VertxSqlClientMetrics metrics;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        metrics = new VertxSqlClientMetrics(registry, "users");
+    }
+
+    @Test
+    public void testAcquire() {
+        Timer.Sample first = metrics.enqueueRequest();
+        metrics.enqueueRequest();
+        Assertions.assertEquals(2, registry.get("reactive.datasource.waiting").tag("datasource", "users").gauge().value());
+
+        metrics.dequeueRequest(first);
+        Assertions.assertEquals(1, registry.get("reactive.datasource.waiting").gauge().value());
+        Assertions.assertEquals(1, registry.get("reactive.datasource.acquire").tag("datasource", "users").timer().count());
+    }
+
+    @Test
+    public void testInUse() {
+        Timer.Sample first = metrics.requestBegin(null, "SELECT 1");
+        Timer.Sample second = metrics.requestBegin(null, "SELECT 2");
+        Assertions.assertEquals(2, registry.get("reactive.datasource.in.use").gauge().value());
+
+        metrics.responseEnd(first);
+        metrics.requestReset(second);
+        Assertions.assertEquals(0, registry.get("reactive.datasource.in.use").gauge().value());
+        Assertions.assertEquals(2, registry.get("reactive.datasource.query").timer().count());
+    }
+}
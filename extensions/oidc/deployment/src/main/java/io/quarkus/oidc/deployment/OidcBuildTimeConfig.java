@@ -27,4 +27,11 @@ public class OidcBuildTimeConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean defaultTokenCacheEnabled;
+
+    /**
+     * Whether the hit, miss and eviction counts and the size of the Default TokenIntrospection and UserInfo Cache
+     * are published if a metrics extension is present.
+     */
+    @ConfigItem
+    public boolean defaultTokenCacheMetricsEnabled;
 }
@@ -5,6 +5,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.IntUnaryOperator;
 
 import io.quarkus.oidc.OidcRequestContext;
@@ -13,6 +14,7 @@ import io.quarkus.oidc.TokenIntrospection;
 import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.oidc.UserInfo;
 import io.quarkus.oidc.UserInfoCache;
+import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.oidc.runtime.OidcConfig.TokenCache;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
@@ -27,15 +29,24 @@ import io.vertx.core.Vertx;
  * <p>
  * In either case, if a remote request to fetch UserInfo is required then it will be the same access token
  * which has been introspected which will be used to request UserInfo.
+ * <p>
+ * An entry expires once its time to live has elapsed, or earlier if the token introspection reports
+ * that the token itself expires earlier ('exp' claim).
+ * Once the cache is full, expired entries are removed first, otherwise the least recently used entry
+ * out of a small sample of entries is evicted to make space for the new one.
  */
 public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectionCache, UserInfoCache {
     private static final Uni<TokenIntrospection> NULL_INTROSPECTION_UNI = Uni.createFrom().nullItem();
     private static final Uni<UserInfo> NULL_USERINFO_UNI = Uni.createFrom().nullItem();
+    private static final int EVICTION_SAMPLE_SIZE = 16;
 
     private TokenCache cacheConfig;
 
     private Map<String, CacheEntry> cacheMap;
     private AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
         this.cacheConfig = oidcConfig.tokenCache;
@@ -66,8 +77,11 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
             CacheEntry entry = findValidCacheEntry(token);
             if (entry != null) {
                 entry.introspection = introspection;
+                entry.expiresAt = Math.min(entry.expiresAt, tokenExpiresAt(introspection));
             } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(introspection));
+                CacheEntry newEntry = new CacheEntry(introspection, now() + cacheConfig.timeToLive.toMillis());
+                newEntry.expiresAt = Math.min(newEntry.expiresAt, tokenExpiresAt(introspection));
+                putNewCacheEntry(token, newEntry);
             }
         }
 
@@ -78,7 +92,12 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<TokenIntrospection> requestContext) {
         CacheEntry entry = findValidCacheEntry(token);
-        return entry == null ? NULL_INTROSPECTION_UNI : Uni.createFrom().item(entry.introspection);
+        if (entry == null || entry.introspection == null) {
+            misses.increment();
+            return NULL_INTROSPECTION_UNI;
+        }
+        hits.increment();
+        return Uni.createFrom().item(entry.introspection);
     }
 
     @Override
@@ -89,7 +108,7 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
             if (entry != null) {
                 entry.userInfo = userInfo;
             } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(userInfo));
+                putNewCacheEntry(token, new CacheEntry(userInfo, now() + cacheConfig.timeToLive.toMillis()));
             }
         }
 
@@ -100,13 +119,39 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<UserInfo> requestContext) {
         CacheEntry entry = findValidCacheEntry(token);
-        return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
+        if (entry == null || entry.userInfo == null) {
+            misses.increment();
+            return NULL_USERINFO_UNI;
+        }
+        hits.increment();
+        return Uni.createFrom().item(entry.userInfo);
     }
 
     public int getCacheSize() {
         return cacheMap.size();
     }
 
+    /**
+     * @return the number of lookups which found a valid TokenIntrospection or UserInfo
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which did not find a valid TokenIntrospection or UserInfo
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of valid entries which were removed to make space for new entries
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
     public void clearCache() {
         cacheMap.clear();
         size.set(0);
@@ -123,14 +168,59 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
         }
     }
 
+    private void putNewCacheEntry(String token, CacheEntry entry) {
+        entry.lastAccess = System.nanoTime();
+        if (cacheMap.put(token, entry) != null) {
+            // a concurrent request has already cached this token, the space reserved for it is not needed
+            size.decrementAndGet();
+        }
+    }
+
     private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheConfig.maxSize) {
-                return false;
+        while (true) {
+            int currentSize = size.get();
+            if (currentSize >= cacheConfig.maxSize) {
+                if (!evictCacheEntry()) {
+                    return false;
+                }
+            } else if (size.compareAndSet(currentSize, currentSize + 1)) {
+                return true;
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
+        }
+    }
+
+    /**
+     * Removes an expired entry if one is found, otherwise the least recently used entry of a sample of entries.
+     * The sample keeps the eviction cost constant, regardless of the cache size.
+     *
+     * @return false if no entry could be removed
+     */
+    private boolean evictCacheEntry() {
+        long now = now();
+        Map.Entry<String, CacheEntry> candidate = null;
+        int sampled = 0;
+        for (Map.Entry<String, CacheEntry> next : cacheMap.entrySet()) {
+            if (isEntryExpired(next.getValue(), now)) {
+                candidate = next;
+                break;
+            }
+            if (candidate == null || next.getValue().lastAccess - candidate.getValue().lastAccess < 0) {
+                candidate = next;
+            }
+            if (++sampled == EVICTION_SAMPLE_SIZE) {
+                break;
+            }
+        }
+        if (candidate == null) {
+            return false;
+        }
+        if (cacheMap.remove(candidate.getKey(), candidate.getValue())) {
+            size.decrementAndGet();
+            if (!isEntryExpired(candidate.getValue(), now)) {
+                evictions.increment();
+            }
+        }
+        // even if a concurrent request has removed the candidate, some space has been made
         return true;
     }
 
@@ -140,16 +230,24 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
             long now = now();
             if (isEntryExpired(entry, now)) {
                 // Entry has expired, remote introspection will be required
+                if (cacheMap.remove(token, entry)) {
+                    size.decrementAndGet();
+                }
                 entry = null;
-                cacheMap.remove(token);
-                size.decrementAndGet();
+            } else {
+                entry.lastAccess = System.nanoTime();
             }
         }
         return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry entry, long now) {
-        return entry.createdTime + cacheConfig.timeToLive.toMillis() < now;
+    private static boolean isEntryExpired(CacheEntry entry, long now) {
+        return entry.expiresAt < now;
+    }
+
+    private static long tokenExpiresAt(TokenIntrospection introspection) {
+        Long exp = introspection == null ? null : introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP);
+        return exp == null ? Long.MAX_VALUE : exp * 1000;
     }
 
     private static long now() {
@@ -159,14 +257,18 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     private static class CacheEntry {
         volatile TokenIntrospection introspection;
         volatile UserInfo userInfo;
-        long createdTime = System.currentTimeMillis();
+        volatile long expiresAt;
+        // System.nanoTime() of the last access, a shared counter would make all the cache hits contend on it
+        volatile long lastAccess;
 
-        public CacheEntry(TokenIntrospection introspection) {
+        public CacheEntry(TokenIntrospection introspection, long expiresAt) {
             this.introspection = introspection;
+            this.expiresAt = expiresAt;
         }
 
-        public CacheEntry(UserInfo userInfo) {
+        public CacheEntry(UserInfo userInfo, long expiresAt) {
             this.userInfo = userInfo;
+            this.expiresAt = expiresAt;
         }
     }
 
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -25,6 +26,7 @@ import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.ProxyOptions;
@@ -42,6 +44,28 @@ public class OidcRecorder {
         return () -> new DefaultTokenIntrospectionUserInfoCache(config, vertx.get());
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                DefaultTokenIntrospectionUserInfoCache cache = Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("Number of entries in the token introspection and user info cache.")
+                        .buildGauge(cache::getCacheSize);
+                metricsFactory.builder("oidc.token.cache.hits")
+                        .description("Number of times a token introspection or user info was found in the cache.")
+                        .buildCounter(cache::getHitCount);
+                metricsFactory.builder("oidc.token.cache.misses")
+                        .description("Number of times a token introspection or user info was not found in the cache.")
+                        .buildCounter(cache::getMissCount);
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("Number of valid entries evicted from the cache to make space for new entries.")
+                        .buildCounter(cache::getEvictionCount);
+            }
+        };
+    }
+
     public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig) {
         final Vertx vertxValue = vertx.get();
 
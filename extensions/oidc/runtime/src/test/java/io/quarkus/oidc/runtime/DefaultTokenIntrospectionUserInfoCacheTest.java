@@ -0,0 +1,47 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.TokenIntrospection;
+
+public class DefaultTokenIntrospectionUserInfoCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvictedWhenFull() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(3);
+        cache.addIntrospection("token1", new TokenIntrospection("{\"active\":true}"), null, null);
+        cache.addIntrospection("token2", new TokenIntrospection("{\"active\":true}"), null, null);
+        cache.addIntrospection("token3", new TokenIntrospection("{\"active\":true}"), null, null);
+        // token2 becomes the least recently used entry, even if all the accesses happen within the same millisecond
+        assertNotNull(cache.getIntrospection("token1", null, null).await().indefinitely());
+        assertNotNull(cache.getIntrospection("token3", null, null).await().indefinitely());
+
+        cache.addIntrospection("token4", new TokenIntrospection("{\"active\":true}"), null, null);
+        assertEquals(3, cache.getCacheSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.getIntrospection("token2", null, null).await().indefinitely());
+        assertNotNull(cache.getIntrospection("token1", null, null).await().indefinitely());
+        assertNotNull(cache.getIntrospection("token3", null, null).await().indefinitely());
+        assertNotNull(cache.getIntrospection("token4", null, null).await().indefinitely());
+        assertEquals(5, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testEntryExpiresWithToken() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(2);
+        long exp = System.currentTimeMillis() / 1000 - 1;
+        cache.addIntrospection("token1", new TokenIntrospection("{\"active\":true,\"exp\":" + exp + "}"), null, null);
+        assertNull(cache.getIntrospection("token1", null, null).await().indefinitely());
+        assertEquals(0, cache.getCacheSize());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    private static DefaultTokenIntrospectionUserInfoCache createCache(int maxSize) {
+        OidcConfig config = new OidcConfig();
+        config.tokenCache.maxSize = maxSize;
+        return new DefaultTokenIntrospectionUserInfoCache(config, null);
+    }
+}
@@ -12,6 +12,7 @@ import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.opentelemetry.exporter.jaeger.runtime.JaegerExporterConfig;
 import io.quarkus.opentelemetry.exporter.jaeger.runtime.JaegerExporterProvider;
 import io.quarkus.opentelemetry.exporter.jaeger.runtime.JaegerRecorder;
+import io.quarkus.opentelemetry.runtime.tracing.TracerRuntimeConfig;
 
 public class JaegerExporterProcessor {
 
@@ -39,7 +40,8 @@ public class JaegerExporterProcessor {
     @Record(ExecutionTime.RUNTIME_INIT)
     void installBatchSpanProcessorForJaeger(JaegerRecorder recorder,
             LaunchModeBuildItem launchModeBuildItem,
-            JaegerExporterConfig.JaegerExporterRuntimeConfig runtimeConfig) {
-        recorder.installBatchSpanProcessorForJaeger(runtimeConfig, launchModeBuildItem.getLaunchMode());
+            JaegerExporterConfig.JaegerExporterRuntimeConfig runtimeConfig,
+            TracerRuntimeConfig tracerRuntimeConfig) {
+        recorder.installBatchSpanProcessorForJaeger(runtimeConfig, tracerRuntimeConfig, launchModeBuildItem.getLaunchMode());
     }
 }
@@ -6,13 +6,15 @@ import javax.enterprise.inject.Any;
 import javax.enterprise.inject.spi.CDI;
 
 import io.opentelemetry.exporter.jaeger.JaegerGrpcSpanExporter;
-import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.quarkus.opentelemetry.runtime.tracing.TracerRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.tracing.TracerUtil;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class JaegerRecorder {
     public void installBatchSpanProcessorForJaeger(JaegerExporterConfig.JaegerExporterRuntimeConfig runtimeConfig,
+            TracerRuntimeConfig tracerRuntimeConfig,
             LaunchMode launchMode) {
 
         if (launchMode == LaunchMode.DEVELOPMENT && !runtimeConfig.endpoint.isPresent()) {
@@ -31,7 +33,8 @@ public class JaegerRecorder {
                 // Create BatchSpanProcessor for Jaeger and install into LateBoundBatchSpanProcessor
                 LateBoundBatchSpanProcessor delayedProcessor = CDI.current()
                         .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
-                delayedProcessor.setBatchSpanProcessorDelegate(BatchSpanProcessor.builder(jaegerSpanExporter).build());
+                delayedProcessor.setBatchSpanProcessorDelegate(TracerUtil.createBatchSpanProcessor(jaegerSpanExporter,
+                        tracerRuntimeConfig, runtimeConfig.exportTimeout));
             } catch (IllegalArgumentException iae) {
                 throw new IllegalStateException("Unable to install Jaeger Exporter", iae);
             }
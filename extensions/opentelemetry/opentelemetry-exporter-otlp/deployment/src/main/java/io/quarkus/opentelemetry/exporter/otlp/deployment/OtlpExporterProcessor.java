@@ -12,6 +12,7 @@ import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.opentelemetry.exporter.otlp.runtime.OtlpExporterConfig;
 import io.quarkus.opentelemetry.exporter.otlp.runtime.OtlpExporterProvider;
 import io.quarkus.opentelemetry.exporter.otlp.runtime.OtlpRecorder;
+import io.quarkus.opentelemetry.runtime.tracing.TracerRuntimeConfig;
 
 public class OtlpExporterProcessor {
 
@@ -39,7 +40,8 @@ public class OtlpExporterProcessor {
     @Record(ExecutionTime.RUNTIME_INIT)
     void installBatchSpanProcessorForOtlp(OtlpRecorder recorder,
             LaunchModeBuildItem launchModeBuildItem,
-            OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig) {
-        recorder.installBatchSpanProcessorForOtlp(runtimeConfig, launchModeBuildItem.getLaunchMode());
+            OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig,
+            TracerRuntimeConfig tracerRuntimeConfig) {
+        recorder.installBatchSpanProcessorForOtlp(runtimeConfig, tracerRuntimeConfig, launchModeBuildItem.getLaunchMode());
     }
 }
@@ -13,19 +13,22 @@ import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
  * Class to facilitate a delay in when the worker thread inside {@link BatchSpanProcessor}
  * is started, enabling Quarkus to instantiate a {@link io.opentelemetry.api.trace.TracerProvider}
  * during static initialization and set a {@link BatchSpanProcessor} delegate during runtime initialization.
+ * <p>
+ * The delegate is an {@link io.quarkus.opentelemetry.runtime.tracing.AdaptiveBatchSpanProcessor} instead when the
+ * adaptive span processor is enabled.
  */
 public class LateBoundBatchSpanProcessor implements SpanProcessor {
     private static final Logger log = Logger.getLogger(LateBoundBatchSpanProcessor.class);
 
     private boolean warningLogged = false;
-    private BatchSpanProcessor delegate;
+    private SpanProcessor delegate;
 
     /**
-     * Set the actual {@link BatchSpanProcessor} to use as the delegate.
+     * Set the actual batching {@link SpanProcessor} to use as the delegate.
      *
-     * @param delegate Properly constructed {@link BatchSpanProcessor} for processing spans.
+     * @param delegate Properly constructed {@link SpanProcessor} for processing spans.
      */
-    public void setBatchSpanProcessorDelegate(BatchSpanProcessor delegate) {
+    public void setBatchSpanProcessorDelegate(SpanProcessor delegate) {
         this.delegate = delegate;
     }
 
@@ -8,14 +8,16 @@ import javax.enterprise.inject.spi.CDI;
 
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporterBuilder;
-import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.quarkus.opentelemetry.runtime.OpenTelemetryUtil;
+import io.quarkus.opentelemetry.runtime.tracing.TracerRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.tracing.TracerUtil;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class OtlpRecorder {
     public void installBatchSpanProcessorForOtlp(OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig,
+            TracerRuntimeConfig tracerRuntimeConfig,
             LaunchMode launchMode) {
         if (launchMode == LaunchMode.DEVELOPMENT && !runtimeConfig.endpoint.isPresent()) {
             // Default the endpoint for development only
@@ -39,7 +41,8 @@ public class OtlpRecorder {
                 // Create BatchSpanProcessor for OTLP and install into LateBoundBatchSpanProcessor
                 LateBoundBatchSpanProcessor delayedProcessor = CDI.current()
                         .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
-                delayedProcessor.setBatchSpanProcessorDelegate(BatchSpanProcessor.builder(otlpSpanExporter).build());
+                delayedProcessor.setBatchSpanProcessorDelegate(TracerUtil.createBatchSpanProcessor(otlpSpanExporter,
+                        tracerRuntimeConfig, runtimeConfig.exportTimeout));
             } catch (IllegalArgumentException iae) {
                 throw new IllegalStateException("Unable to install OTLP Exporter", iae);
             }
@@ -0,0 +1,328 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * A {@link SpanProcessor} exporting the ended spans in batches, like the OpenTelemetry
+ * {@link io.opentelemetry.sdk.trace.export.BatchSpanProcessor}, but with a batch size adapted to the export latency.
+ * <p>
+ * The spans are queued in a lock-free bounded queue: ending a span never blocks, and when the queue is full the span is
+ * dropped and counted. The export thread is woken up as soon as a batch is available or the schedule delay elapsed.
+ * After each export, the batch size is halved if the export took longer than the target latency, so that a slow
+ * collector does not time out on large batches, and doubled if the queue still holds a full batch, so that a backlog
+ * is exported with fewer requests.
+ */
+public final class AdaptiveBatchSpanProcessor implements SpanProcessor {
+
+    private static final Logger log = Logger.getLogger(AdaptiveBatchSpanProcessor.class);
+
+    private static final List<AdaptiveBatchSpanProcessor> ACTIVE = new CopyOnWriteArrayList<>();
+
+    private final SpanExporter exporter;
+    private final int maxQueueSize;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long scheduleDelayNanos;
+    private final long exportTimeoutNanos;
+    private final long targetExportLatencyNanos;
+
+    private final Queue<ReadableSpan> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder failedExports = new LongAdder();
+    private final AtomicReference<CompletableResultCode> flushRequest = new AtomicReference<>();
+    private final CompletableResultCode shutdownResult = new CompletableResultCode();
+    private final Object lock = new Object();
+    private final Thread worker;
+
+    private volatile int batchSize;
+    private volatile boolean workerWaiting;
+    private volatile boolean shutdown;
+    private volatile boolean dropWarningLogged;
+
+    public AdaptiveBatchSpanProcessor(SpanExporter exporter, int maxQueueSize, int minBatchSize, int maxBatchSize,
+            long scheduleDelayNanos, long exportTimeoutNanos, long targetExportLatencyNanos) {
+        if (minBatchSize < 1 || maxBatchSize < minBatchSize || maxQueueSize < maxBatchSize) {
+            throw new IllegalArgumentException("Invalid batch sizes: min " + minBatchSize + ", max " + maxBatchSize
+                    + ", queue " + maxQueueSize);
+        }
+        this.exporter = exporter;
+        this.maxQueueSize = maxQueueSize;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduleDelayNanos = scheduleDelayNanos;
+        this.exportTimeoutNanos = exportTimeoutNanos;
+        this.targetExportLatencyNanos = targetExportLatencyNanos;
+        this.batchSize = minBatchSize;
+        this.worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, "quarkus-opentelemetry-span-exporter");
+        this.worker.setDaemon(true);
+        this.worker.start();
+        ACTIVE.add(this);
+    }
+
+    /**
+     *
+     * @return the number of spans queued by all the processors
+     */
+    public static long getTotalQueueSize() {
+        long total = 0;
+        for (AdaptiveBatchSpanProcessor processor : ACTIVE) {
+            total += processor.getQueueSize();
+        }
+        return total;
+    }
+
+    /**
+     *
+     * @return the number of spans dropped by all the processors because their queue was full
+     */
+    public static long getTotalDroppedSpans() {
+        long total = 0;
+        for (AdaptiveBatchSpanProcessor processor : ACTIVE) {
+            total += processor.getDroppedSpans();
+        }
+        return total;
+    }
+
+    /**
+     *
+     * @return the number of spans exported by all the processors
+     */
+    public static long getTotalExportedSpans() {
+        long total = 0;
+        for (AdaptiveBatchSpanProcessor processor : ACTIVE) {
+            total += processor.getExportedSpans();
+        }
+        return total;
+    }
+
+    /**
+     *
+     * @return the number of exports that failed or timed out, for all the processors
+     */
+    public static long getTotalFailedExports() {
+        long total = 0;
+        for (AdaptiveBatchSpanProcessor processor : ACTIVE) {
+            total += processor.getFailedExports();
+        }
+        return total;
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    public long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    public long getFailedExports() {
+        return failedExports.sum();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled() || shutdown) {
+            return;
+        }
+        if (queueSize.incrementAndGet() > maxQueueSize) {
+            queueSize.decrementAndGet();
+            droppedSpans.increment();
+            if (!dropWarningLogged) {
+                dropWarningLogged = true;
+                log.warnf("The span queue is full (%d spans), spans are dropped until the exporter catches up",
+                        maxQueueSize);
+            }
+            return;
+        }
+        queue.offer(span);
+        if (workerWaiting && queueSize.get() >= batchSize) {
+            wakeUp();
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        if (shutdown) {
+            return CompletableResultCode.ofSuccess();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        CompletableResultCode pending = flushRequest.getAndSet(result);
+        if (pending != null) {
+            // The pending flush is fulfilled by this one
+            result.whenComplete(new Runnable() {
+                @Override
+                public void run() {
+                    if (result.isSuccess()) {
+                        pending.succeed();
+                    } else {
+                        pending.fail();
+                    }
+                }
+            });
+        }
+        wakeUp();
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!shutdown) {
+            shutdown = true;
+            ACTIVE.remove(this);
+            wakeUp();
+        }
+        return shutdownResult;
+    }
+
+    private void wakeUp() {
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    private void work() {
+        try {
+            while (!shutdown) {
+                awaitBatch();
+                CompletableResultCode flush = flushRequest.getAndSet(null);
+                boolean success = export(flush != null);
+                if (flush != null) {
+                    if (success) {
+                        flush.succeed();
+                    } else {
+                        flush.fail();
+                    }
+                }
+            }
+            export(true);
+            CompletableResultCode flush = flushRequest.getAndSet(null);
+            if (flush != null) {
+                flush.succeed();
+            }
+            exporter.shutdown().whenComplete(new Runnable() {
+                @Override
+                public void run() {
+                    shutdownResult.succeed();
+                }
+            });
+        } catch (Throwable t) {
+            log.error("The span export thread failed, spans are no longer exported", t);
+            shutdownResult.fail();
+        }
+    }
+
+    private void awaitBatch() throws InterruptedException {
+        long deadline = System.nanoTime() + scheduleDelayNanos;
+        synchronized (lock) {
+            // Set before checking the queue size, so that either this thread sees the new span or onEnd() wakes it up
+            workerWaiting = true;
+            try {
+                long remaining;
+                while (!shutdown && flushRequest.get() == null && queueSize.get() < batchSize
+                        && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                }
+            } finally {
+                workerWaiting = false;
+            }
+        }
+    }
+
+    /**
+     *
+     * @param all whether all the queued spans should be exported, or only full batches and one partial batch
+     * @return {@code true} if all the exports succeeded
+     */
+    private boolean export(boolean all) {
+        boolean success = true;
+        boolean first = true;
+        while (first || (all && queueSize.get() > 0) || queueSize.get() >= batchSize) {
+            first = false;
+            int size = batchSize;
+            List<SpanData> batch = new ArrayList<>(Math.min(size, queueSize.get()));
+            ReadableSpan span;
+            while (batch.size() < size && (span = queue.poll()) != null) {
+                queueSize.decrementAndGet();
+                batch.add(span.toSpanData());
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            long start = System.nanoTime();
+            boolean exported;
+            try {
+                exported = exporter.export(batch).join(exportTimeoutNanos, TimeUnit.NANOSECONDS).isSuccess();
+            } catch (RuntimeException e) {
+                // A failing exporter must not stop the export thread, the next batches may succeed
+                log.warnf(e, "The exporter failed to export %d spans", batch.size());
+                exported = false;
+            }
+            long latency = System.nanoTime() - start;
+            if (exported) {
+                exportedSpans.add(batch.size());
+            } else {
+                success = false;
+                failedExports.increment();
+                log.debugf("Export of %d spans failed or timed out", batch.size());
+            }
+            adapt(latency, batch.size() == size);
+        }
+        return success;
+    }
+
+    void adapt(long exportLatencyNanos, boolean fullBatch) {
+        int current = batchSize;
+        if (exportLatencyNanos > targetExportLatencyNanos) {
+            batchSize = Math.max(minBatchSize, current / 2);
+        } else if (fullBatch && queueSize.get() >= current) {
+            batchSize = Math.min(maxBatchSize, current * 2);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Samples at most a given number of traces per second, whatever the load.
+ * <p>
+ * The limit is enforced with a token bucket holding one second worth of traces, implemented as a virtual scheduling
+ * algorithm: a single timestamp records when the bucket will be full again, and sampling a trace moves it forward by
+ * the interval between two traces. Sampling a trace is a compare-and-set on that timestamp, so the sampler never blocks.
+ */
+public class RateLimitingSampler implements Sampler {
+
+    private final double tracesPerSecond;
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    public RateLimitingSampler(double tracesPerSecond) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("The number of traces per second must be positive: " + tracesPerSecond);
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / tracesPerSecond));
+        // Allows bursts of one second worth of traces, and at least one trace
+        this.capacityNanos = Math.max(intervalNanos, TimeUnit.SECONDS.toNanos(1));
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+        return tryAcquire(System.nanoTime()) ? SamplingResult.recordAndSample() : SamplingResult.drop();
+    }
+
+    boolean tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "RateLimitingSampler{" + tracesPerSecond + "}";
+    }
+}
@@ -0,0 +1,239 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * Passes to the delegate {@link SpanProcessor} only the traces containing an error or a slow span.
+ * <p>
+ * The ended spans are buffered per trace until the local root span of the trace ends. The trace is then kept, and all
+ * its spans passed to the delegate, if one of its spans has an error status or lasted at least the latency threshold;
+ * otherwise its spans are discarded. Traces whose local root span did not end within the decision wait are decided with
+ * the spans buffered so far.
+ * <p>
+ * A decided trace no longer occupies the buffer: only its decision is remembered, for the decision wait, so that the
+ * spans of the trace ending afterwards follow the same decision.
+ * <p>
+ * Both the number of buffered traces and the number of remembered decisions are bounded. When the buffer is full, the
+ * spans of new traces are decided one by one. When the decisions are full, new decisions are not remembered.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor delegate;
+    private final long latencyThresholdNanos;
+    private final long decisionWaitNanos;
+    private final int maxTraces;
+
+    private final Map<String, PendingTrace> traces = new ConcurrentHashMap<>();
+    private final Map<String, Decision> decisions = new ConcurrentHashMap<>();
+    private final AtomicLong nextExpiration;
+    private final LongAdder keptTraces = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, long latencyThresholdNanos, long decisionWaitNanos,
+            int maxTraces) {
+        this.delegate = delegate;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.decisionWaitNanos = decisionWaitNanos;
+        this.maxTraces = maxTraces;
+        this.nextExpiration = new AtomicLong(System.nanoTime() + decisionWaitNanos);
+    }
+
+    public long getKeptTraces() {
+        return keptTraces.sum();
+    }
+
+    public long getDroppedTraces() {
+        return droppedTraces.sum();
+    }
+
+    int getPendingTraces() {
+        return traces.size();
+    }
+
+    int getRememberedDecisions() {
+        return decisions.size();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        expireIfNeeded(now);
+
+        String traceId = span.getSpanContext().getTraceId();
+        // The pending trace is looked up first: a decision is remembered before the pending trace is removed
+        PendingTrace trace = traces.get(traceId);
+        if (trace == null) {
+            Decision decision = decisions.get(traceId);
+            if (decision != null) {
+                if (decision.kept) {
+                    delegate.onEnd(span);
+                }
+                return;
+            }
+            if (traces.size() >= maxTraces) {
+                if (isSlow(span) || hasError(span)) {
+                    delegate.onEnd(span);
+                }
+                return;
+            }
+            trace = traces.computeIfAbsent(traceId, id -> new PendingTrace(id, now));
+        }
+
+        SpanContext parent = span.getParentSpanContext();
+        boolean localRoot = !parent.isValid() || parent.isRemote();
+        synchronized (trace) {
+            if (trace.decided) {
+                if (trace.kept) {
+                    delegate.onEnd(span);
+                }
+                return;
+            }
+            trace.spans.add(span);
+            // The status of the spans is only read when the trace is decided, and only until an error is found
+            trace.kept |= isSlow(span);
+            if (localRoot) {
+                decide(trace, now);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        decideAll(false);
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        decideAll(true);
+        return delegate.shutdown();
+    }
+
+    private boolean isSlow(ReadableSpan span) {
+        return span.getLatencyNanos() >= latencyThresholdNanos;
+    }
+
+    private static boolean hasError(ReadableSpan span) {
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+
+    /**
+     * Must be called while holding the lock of the trace.
+     */
+    private void decide(PendingTrace trace, long now) {
+        if (!trace.kept) {
+            for (ReadableSpan span : trace.spans) {
+                if (hasError(span)) {
+                    trace.kept = true;
+                    break;
+                }
+            }
+        }
+        trace.decided = true;
+        if (decisions.size() < maxTraces) {
+            decisions.put(trace.traceId, new Decision(trace.kept, now));
+        }
+        traces.remove(trace.traceId, trace);
+        if (trace.kept) {
+            keptTraces.increment();
+            for (ReadableSpan span : trace.spans) {
+                delegate.onEnd(span);
+            }
+        } else {
+            droppedTraces.increment();
+        }
+        trace.spans = null;
+    }
+
+    private void expireIfNeeded(long now) {
+        long expiration = nextExpiration.get();
+        // Only one thread expires the traces, the others go on
+        if (now - expiration < 0 || !nextExpiration.compareAndSet(expiration, now + decisionWaitNanos / 2)) {
+            return;
+        }
+        for (PendingTrace trace : traces.values()) {
+            if (now - trace.createdAt >= decisionWaitNanos) {
+                synchronized (trace) {
+                    if (!trace.decided) {
+                        decide(trace, now);
+                    }
+                }
+            }
+        }
+        Iterator<Decision> iterator = decisions.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().decidedAt >= decisionWaitNanos) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void decideAll(boolean clear) {
+        long now = System.nanoTime();
+        for (PendingTrace trace : new ArrayList<>(traces.values())) {
+            synchronized (trace) {
+                if (!trace.decided) {
+                    decide(trace, now);
+                }
+            }
+        }
+        if (clear) {
+            decisions.clear();
+        }
+    }
+
+    private static final class PendingTrace {
+        final String traceId;
+        final long createdAt;
+        List<ReadableSpan> spans = new ArrayList<>();
+        boolean kept;
+        boolean decided;
+
+        PendingTrace(String traceId, long createdAt) {
+            this.traceId = traceId;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class Decision {
+        final boolean kept;
+        final long decidedAt;
+
+        Decision(boolean kept, long decidedAt) {
+            this.kept = kept;
+            this.decidedAt = decidedAt;
+        }
+    }
+}
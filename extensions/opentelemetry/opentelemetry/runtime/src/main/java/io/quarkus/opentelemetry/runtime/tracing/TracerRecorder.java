@@ -26,6 +26,7 @@ import io.quarkus.opentelemetry.runtime.tracing.vertx.OpenTelemetryVertxTracingF
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.tracing.TracingOptions;
@@ -161,4 +162,27 @@ public class TracerRecorder {
             lateBoundSampler.setSamplerDelegate(TracerUtil.mapSampler(config.sampler, dropNames));
         }
     }
+
+    /* RUNTIME INIT */
+    public Consumer<MetricsFactory> registerSpanProcessorMetrics(TracerRuntimeConfig config) {
+        boolean adaptive = config.batch.adaptive;
+        return metricsFactory -> {
+            if (!adaptive) {
+                // The OpenTelemetry BatchSpanProcessor is used, the metrics would always be zero
+                return;
+            }
+            metricsFactory.builder("otel.span.queue.size")
+                    .description("Number of spans waiting to be exported by the adaptive span processor.")
+                    .buildGauge(AdaptiveBatchSpanProcessor::getTotalQueueSize);
+            metricsFactory.builder("otel.spans.exported")
+                    .description("Number of spans exported by the adaptive span processor.")
+                    .buildCounter(AdaptiveBatchSpanProcessor::getTotalExportedSpans);
+            metricsFactory.builder("otel.spans.dropped")
+                    .description("Number of spans dropped by the adaptive span processor because its queue was full.")
+                    .buildCounter(AdaptiveBatchSpanProcessor::getTotalDroppedSpans);
+            metricsFactory.builder("otel.span.exports.failed")
+                    .description("Number of span exports of the adaptive span processor that failed, threw or timed out.")
+                    .buildCounter(AdaptiveBatchSpanProcessor::getTotalFailedExports);
+        };
+    }
 }
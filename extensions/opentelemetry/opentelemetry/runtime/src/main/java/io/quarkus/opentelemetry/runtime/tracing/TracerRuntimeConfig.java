@@ -1,5 +1,6 @@
 package io.quarkus.opentelemetry.runtime.tracing;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,12 @@ public class TracerRuntimeConfig {
     /** Config for sampler */
     public SamplerConfig sampler;
 
+    /** Config for the span processor used by the exporters */
+    public BatchConfig batch;
+
+    /** Config for tail sampling */
+    public TailSamplingConfig tailSampling;
+
     /**
      * Suppress non-application uris from trace collection.
      * This will suppress tracing of `/q` endpoints.
@@ -50,7 +57,7 @@ public class TracerRuntimeConfig {
         /**
          * The sampler to use for tracing.
          * <p>
-         * Valid values are {@code off, on, ratio}.
+         * Valid values are {@code off, on, ratio, rate-limited}.
          * <p>
          * Defaults to {@code on}.
          */
@@ -64,6 +71,13 @@ public class TracerRuntimeConfig {
          */
         public Optional<Double> ratio;
 
+        /**
+         * The maximum number of traces sampled per second.
+         * <p>
+         * Only supported by the {@code rate-limited} sampler. Defaults to {@code 100}.
+         */
+        public Optional<Double> rate;
+
         /**
          * If the sampler to use for tracing is parent based.
          * <p>
@@ -74,4 +88,85 @@ public class TracerRuntimeConfig {
         @ConfigItem(defaultValue = "true")
         public Boolean parentBased;
     }
+
+    @ConfigGroup
+    public static class BatchConfig {
+        /**
+         * Whether the exporters use the Quarkus adaptive span processor instead of the OpenTelemetry
+         * {@code BatchSpanProcessor}.
+         * <p>
+         * The adaptive span processor queues the spans in a lock-free queue and adapts the size of the exported batches
+         * to the export latency: batches grow up to {@code max-export-batch-size} while a backlog builds up and shrink
+         * down to {@code min-export-batch-size} when the exports take longer than {@code target-export-latency}.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean adaptive;
+
+        /**
+         * The maximum number of spans waiting to be exported. Spans ended while the queue is full are dropped.
+         */
+        @ConfigItem(defaultValue = "2048")
+        public int maxQueueSize;
+
+        /**
+         * The maximum number of spans exported in a single batch.
+         */
+        @ConfigItem(defaultValue = "512")
+        public int maxExportBatchSize;
+
+        /**
+         * The minimum number of spans exported in a single batch, unless fewer spans are queued.
+         * <p>
+         * Only used by the adaptive span processor.
+         */
+        @ConfigItem(defaultValue = "32")
+        public int minExportBatchSize;
+
+        /**
+         * The maximum delay between two exports.
+         */
+        @ConfigItem(defaultValue = "5S")
+        public Duration scheduleDelay;
+
+        /**
+         * The export latency above which the batch size is reduced.
+         * <p>
+         * Only used by the adaptive span processor.
+         */
+        @ConfigItem(defaultValue = "1S")
+        public Duration targetExportLatency;
+    }
+
+    @ConfigGroup
+    public static class TailSamplingConfig {
+        /**
+         * Whether the exporters only export the traces containing an error or a slow span.
+         * <p>
+         * The spans of a trace are kept in memory until the local root span of the trace ends, then the whole trace is
+         * exported or discarded. Tail sampling only sees the traces sampled by the sampler.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The duration from which a span is considered slow, and its trace exported.
+         */
+        @ConfigItem(defaultValue = "1S")
+        public Duration latencyThreshold;
+
+        /**
+         * How long the spans of a trace are kept in memory waiting for the local root span to end.
+         * The decision taken for a trace also applies to its spans ending within that delay.
+         */
+        @ConfigItem(defaultValue = "10S")
+        public Duration decisionWait;
+
+        /**
+         * The maximum number of undecided traces kept in memory. Once reached, the spans of new traces are exported only
+         * if they are slow or have an error themselves. A trace is no longer counted once it is decided. The same limit
+         * applies to the number of decisions remembered for the spans ending late.
+         */
+        @ConfigItem(defaultValue = "10000")
+        public int maxTraces;
+    }
 }
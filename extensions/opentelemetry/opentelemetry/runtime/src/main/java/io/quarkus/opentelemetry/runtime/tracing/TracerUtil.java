@@ -1,11 +1,15 @@
 package io.quarkus.opentelemetry.runtime.tracing;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.quarkus.opentelemetry.runtime.OpenTelemetryUtil;
 
@@ -21,7 +25,7 @@ public class TracerUtil {
         return Resource.create(attributesBuilder.build());
     }
 
-    private static Sampler getBaseSampler(String samplerName, Optional<Double> ratio) {
+    private static Sampler getBaseSampler(String samplerName, Optional<Double> ratio, Optional<Double> rate) {
         switch (samplerName) {
             case "on":
                 return Sampler.alwaysOn();
@@ -29,13 +33,15 @@ public class TracerUtil {
                 return Sampler.alwaysOff();
             case "ratio":
                 return Sampler.traceIdRatioBased(ratio.orElse(1.0d));
+            case "rate-limited":
+                return new RateLimitingSampler(rate.orElse(100.0d));
             default:
                 throw new IllegalArgumentException("Unrecognized value for sampler: " + samplerName);
         }
     }
 
     public static Sampler mapSampler(TracerRuntimeConfig.SamplerConfig samplerConfig, List<String> dropNames) {
-        Sampler sampler = getBaseSampler(samplerConfig.samplerName, samplerConfig.ratio);
+        Sampler sampler = getBaseSampler(samplerConfig.samplerName, samplerConfig.ratio, samplerConfig.rate);
 
         if (!dropNames.isEmpty()) {
             sampler = new DropNamesSampler(sampler, dropNames);
@@ -47,4 +53,35 @@ public class TracerUtil {
 
         return sampler;
     }
+
+    public static SpanProcessor createBatchSpanProcessor(SpanExporter exporter, TracerRuntimeConfig config,
+            Duration exportTimeout) {
+        TracerRuntimeConfig.BatchConfig batchConfig = config.batch;
+        SpanProcessor processor;
+        if (batchConfig.adaptive) {
+            processor = new AdaptiveBatchSpanProcessor(exporter,
+                    batchConfig.maxQueueSize,
+                    Math.min(batchConfig.minExportBatchSize, batchConfig.maxExportBatchSize),
+                    batchConfig.maxExportBatchSize,
+                    batchConfig.scheduleDelay.toNanos(),
+                    exportTimeout.toNanos(),
+                    batchConfig.targetExportLatency.toNanos());
+        } else {
+            processor = BatchSpanProcessor.builder(exporter)
+                    .setMaxQueueSize(batchConfig.maxQueueSize)
+                    .setMaxExportBatchSize(batchConfig.maxExportBatchSize)
+                    .setScheduleDelay(batchConfig.scheduleDelay)
+                    .setExporterTimeout(exportTimeout)
+                    .build();
+        }
+
+        TracerRuntimeConfig.TailSamplingConfig tailSamplingConfig = config.tailSampling;
+        if (tailSamplingConfig.enabled) {
+            processor = new TailSamplingSpanProcessor(processor,
+                    tailSamplingConfig.latencyThreshold.toNanos(),
+                    tailSamplingConfig.decisionWait.toNanos(),
+                    tailSamplingConfig.maxTraces);
+        }
+        return processor;
+    }
 }
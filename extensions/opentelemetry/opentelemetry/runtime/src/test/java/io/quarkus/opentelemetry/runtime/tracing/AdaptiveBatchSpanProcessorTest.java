@@ -0,0 +1,171 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+public class AdaptiveBatchSpanProcessorTest {
+
+    @Test
+    public void testFlushExportsAllSpans() {
+        BlockingSpanExporter exporter = new BlockingSpanExporter(new CountDownLatch(0));
+        AdaptiveBatchSpanProcessor processor = new AdaptiveBatchSpanProcessor(exporter, 64, 4, 16,
+                TimeUnit.MINUTES.toNanos(1), TimeUnit.SECONDS.toNanos(10), TimeUnit.SECONDS.toNanos(1));
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        try {
+            endSpans(tracerProvider.get("test"), 10);
+
+            Assertions.assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+            Assertions.assertThat(exporter.spans).hasSize(10);
+            Assertions.assertThat(processor.getExportedSpans()).isEqualTo(10);
+            Assertions.assertThat(processor.getQueueSize()).isZero();
+            Assertions.assertThat(processor.getDroppedSpans()).isZero();
+        } finally {
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+        Assertions.assertThat(exporter.shutdown).isTrue();
+    }
+
+    @Test
+    public void testExporterExceptionDoesNotStopExports() {
+        AtomicBoolean failed = new AtomicBoolean();
+        BlockingSpanExporter exporter = new BlockingSpanExporter(new CountDownLatch(0)) {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> batch) {
+                if (failed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("Collector unavailable");
+                }
+                return super.export(batch);
+            }
+        };
+        AdaptiveBatchSpanProcessor processor = new AdaptiveBatchSpanProcessor(exporter, 64, 4, 16,
+                TimeUnit.MINUTES.toNanos(1), TimeUnit.SECONDS.toNanos(10), TimeUnit.SECONDS.toNanos(1));
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        try {
+            Tracer tracer = tracerProvider.get("test");
+            endSpans(tracer, 2);
+            Assertions.assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isFalse();
+            Assertions.assertThat(processor.getFailedExports()).isEqualTo(1);
+
+            endSpans(tracer, 3);
+            Assertions.assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+            Assertions.assertThat(exporter.spans).hasSize(3);
+            Assertions.assertThat(processor.getExportedSpans()).isEqualTo(3);
+        } finally {
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+        Assertions.assertThat(exporter.shutdown).isTrue();
+    }
+
+    @Test
+    public void testSpansDroppedWhenQueueFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSpanExporter exporter = new BlockingSpanExporter(release);
+        AdaptiveBatchSpanProcessor processor = new AdaptiveBatchSpanProcessor(exporter, 8, 1, 8,
+                TimeUnit.MINUTES.toNanos(1), TimeUnit.SECONDS.toNanos(10), TimeUnit.SECONDS.toNanos(1));
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        try {
+            Tracer tracer = tracerProvider.get("test");
+            // The first span is taken by the export that blocks, the next ones fill the queue
+            endSpans(tracer, 1);
+            exporter.started.await(10, TimeUnit.SECONDS);
+            endSpans(tracer, 10);
+
+            Assertions.assertThat(processor.getQueueSize()).isEqualTo(8);
+            Assertions.assertThat(processor.getDroppedSpans()).isEqualTo(2);
+
+            release.countDown();
+            Assertions.assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+            Assertions.assertThat(exporter.spans).hasSize(9);
+        } finally {
+            release.countDown();
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBatchSizeAdaptsToBacklogAndLatency() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSpanExporter exporter = new BlockingSpanExporter(release);
+        AdaptiveBatchSpanProcessor processor = new AdaptiveBatchSpanProcessor(exporter, 64, 2, 8,
+                TimeUnit.MINUTES.toNanos(1), TimeUnit.SECONDS.toNanos(10), TimeUnit.MINUTES.toNanos(1));
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        try {
+            Tracer tracer = tracerProvider.get("test");
+            Assertions.assertThat(processor.getBatchSize()).isEqualTo(2);
+
+            // A backlog builds up while the first batch is exported
+            endSpans(tracer, 2);
+            exporter.started.await(10, TimeUnit.SECONDS);
+            endSpans(tracer, 20);
+            release.countDown();
+            Assertions.assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+            Assertions.assertThat(exporter.spans).hasSize(22);
+            Assertions.assertThat(processor.getBatchSize()).isEqualTo(8);
+
+            // Slow exports reduce the batch size
+            processor.adapt(TimeUnit.MINUTES.toNanos(2), true);
+            Assertions.assertThat(processor.getBatchSize()).isEqualTo(4);
+            processor.adapt(TimeUnit.MINUTES.toNanos(2), true);
+            processor.adapt(TimeUnit.MINUTES.toNanos(2), true);
+            Assertions.assertThat(processor.getBatchSize()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void endSpans(Tracer tracer, int count) {
+        for (int i = 0; i < count; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+    }
+
+    static class BlockingSpanExporter implements SpanExporter {
+        final List<SpanData> spans = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release;
+        volatile boolean shutdown;
+
+        BlockingSpanExporter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableResultCode.ofFailure();
+            }
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitingSamplerTest {
+
+    @Test
+    public void testBurstAndRefill() {
+        RateLimitingSampler sampler = new RateLimitingSampler(10);
+        long now = System.nanoTime();
+
+        // One second worth of traces can be sampled at once
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThat(sampler.tryAcquire(now)).isTrue();
+        }
+        Assertions.assertThat(sampler.tryAcquire(now)).isFalse();
+
+        // Then one trace every 100 milliseconds
+        long later = now + TimeUnit.MILLISECONDS.toNanos(100);
+        Assertions.assertThat(sampler.tryAcquire(later)).isTrue();
+        Assertions.assertThat(sampler.tryAcquire(later)).isFalse();
+    }
+
+    @Test
+    public void testLowRate() {
+        RateLimitingSampler sampler = new RateLimitingSampler(0.5);
+        long now = System.nanoTime();
+
+        Assertions.assertThat(sampler.tryAcquire(now)).isTrue();
+        Assertions.assertThat(sampler.tryAcquire(now + TimeUnit.SECONDS.toNanos(1))).isFalse();
+        Assertions.assertThat(sampler.tryAcquire(now + TimeUnit.SECONDS.toNanos(2))).isTrue();
+    }
+
+    @Test
+    public void testMapSampler() {
+        TracerRuntimeConfig.SamplerConfig samplerConfig = new TracerRuntimeConfig.SamplerConfig();
+        samplerConfig.samplerName = "rate-limited";
+        samplerConfig.ratio = Optional.empty();
+        samplerConfig.rate = Optional.of(5.0d);
+        samplerConfig.parentBased = false;
+
+        Assertions.assertThat(TracerUtil.mapSampler(samplerConfig, Collections.emptyList()).getDescription())
+                .isEqualTo("RateLimitingSampler{5.0}");
+    }
+}
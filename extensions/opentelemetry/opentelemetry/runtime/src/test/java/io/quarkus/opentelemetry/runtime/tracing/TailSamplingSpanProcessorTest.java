@@ -0,0 +1,165 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+public class TailSamplingSpanProcessorTest {
+
+    private CollectingSpanProcessor exported;
+    private TailSamplingSpanProcessor processor;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    public void setUp() {
+        exported = new CollectingSpanProcessor();
+        processor = new TailSamplingSpanProcessor(exported, TimeUnit.SECONDS.toNanos(1), TimeUnit.MINUTES.toNanos(1),
+                100);
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFastTraceDropped() {
+        Span root = startSpan(null, 0);
+        endSpan(startSpan(root, 0), 10);
+        endSpan(root, 20);
+
+        Assertions.assertThat(exported.spans).isEmpty();
+        Assertions.assertThat(processor.getDroppedTraces()).isEqualTo(1);
+        Assertions.assertThat(processor.getKeptTraces()).isZero();
+    }
+
+    @Test
+    public void testTraceWithErrorKept() {
+        Span root = startSpan(null, 0);
+        Span child = startSpan(root, 0);
+        child.setStatus(StatusCode.ERROR);
+        endSpan(child, 10);
+        Assertions.assertThat(exported.spans).isEmpty();
+
+        endSpan(root, 20);
+        Assertions.assertThat(exported.spans).hasSize(2);
+        Assertions.assertThat(processor.getKeptTraces()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSlowTraceKept() {
+        Span root = startSpan(null, 0);
+        endSpan(startSpan(root, 0), 10);
+        endSpan(root, 1500);
+
+        Assertions.assertThat(exported.spans).hasSize(2);
+    }
+
+    @Test
+    public void testLateSpanFollowsDecision() {
+        Span root = startSpan(null, 0);
+        Span late = startSpan(root, 0);
+        root.setStatus(StatusCode.ERROR);
+        endSpan(root, 20);
+        Assertions.assertThat(exported.spans).hasSize(1);
+
+        endSpan(late, 30);
+        Assertions.assertThat(exported.spans).hasSize(2);
+    }
+
+    @Test
+    public void testDecidedTracesReleaseBuffer() {
+        // More traces than the buffer can hold, each decided when its root ends
+        for (int i = 0; i < 300; i++) {
+            Span root = startSpan(null, 0);
+            endSpan(startSpan(root, 0), 10);
+            endSpan(root, 20);
+        }
+        Assertions.assertThat(processor.getDroppedTraces()).isEqualTo(300);
+        Assertions.assertThat(processor.getPendingTraces()).isZero();
+        Assertions.assertThat(processor.getRememberedDecisions()).isEqualTo(100);
+
+        // A new trace is still buffered as a whole: the slow child is not exported before its trace is decided
+        Span root = startSpan(null, 0);
+        endSpan(startSpan(root, 0), 1500);
+        Assertions.assertThat(exported.spans).isEmpty();
+        Assertions.assertThat(processor.getPendingTraces()).isEqualTo(1);
+
+        endSpan(root, 1600);
+        Assertions.assertThat(exported.spans).hasSize(2);
+        Assertions.assertThat(processor.getPendingTraces()).isZero();
+    }
+
+    @Test
+    public void testPendingTraceDecidedOnFlush() {
+        Span root = startSpan(null, 0);
+        endSpan(startSpan(root, 0), 1500);
+        Assertions.assertThat(exported.spans).isEmpty();
+        Assertions.assertThat(processor.getPendingTraces()).isEqualTo(1);
+
+        processor.forceFlush();
+        Assertions.assertThat(exported.spans).hasSize(1);
+    }
+
+    private Span startSpan(Span parent, long startMillis) {
+        return tracer.spanBuilder("span")
+                .setParent(parent == null ? Context.root() : Context.root().with(parent))
+                .setStartTimestamp(startMillis, TimeUnit.MILLISECONDS)
+                .startSpan();
+    }
+
+    private static void endSpan(Span span, long endMillis) {
+        span.end(endMillis, TimeUnit.MILLISECONDS);
+    }
+
+    static class CollectingSpanProcessor implements SpanProcessor {
+        final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode forceFlush() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.qute.CompiledTemplate;
+
+/**
+ * Represents a template compiled to a {@link CompiledTemplate} class.
+ */
+public final class CompiledTemplateBuildItem extends MultiBuildItem {
+
+    // The id used to obtain the template from the engine, e.g. ItemResource/items.html or ItemResource/items
+    private final String templateId;
+
+    private final String className;
+
+    public CompiledTemplateBuildItem(String templateId, String className) {
+        this.templateId = templateId;
+        this.className = className;
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
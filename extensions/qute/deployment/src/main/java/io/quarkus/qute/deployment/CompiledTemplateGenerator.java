@@ -0,0 +1,448 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.deployment.QuteProcessor.LookupConfig;
+import io.quarkus.qute.deployment.QuteProcessor.Match;
+import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Generates a {@link CompiledTemplate} for a type-safe template.
+ * <p>
+ * Only a subset of templates can be compiled: static text, output expressions that consist of properties only and that
+ * start with a parameter of a checked template or a loop alias, {@code #if} sections with a single operand and an
+ * optional {@code #else} block, and {@code #for}/{@code #each} sections that iterate over a collection. Any other
+ * construct, e.g. a virtual method, a namespace expression, a template extension method or a user tag, makes the whole
+ * template ineligible and no class is generated.
+ */
+final class CompiledTemplateGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    private static final MethodDescriptor OUTPUT_TEXT = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "text",
+            void.class, String.class);
+    private static final MethodDescriptor OUTPUT_VALUE = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "value",
+            void.class, Object.class, int.class);
+    private static final MethodDescriptor OUTPUT_DATA = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "data",
+            Object.class, String.class);
+    private static final MethodDescriptor OUTPUT_CHECK_DATA = MethodDescriptor.ofMethod(CompiledTemplate.Output.class,
+            "checkData", void.class, String.class, Class.class);
+    private static final MethodDescriptor OUTPUT_NON_NULL = MethodDescriptor.ofMethod(CompiledTemplate.Output.class,
+            "nonNull", Object.class, Object.class, Class.class);
+    private static final MethodDescriptor OUTPUT_TEST = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "test",
+            boolean.class, Object.class);
+    private static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator",
+            Iterator.class);
+    private static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class,
+            "hasNext", boolean.class);
+    private static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next",
+            Object.class);
+
+    private static final Set<DotName> ITERABLE_TYPES = Set.of(DotName.createSimple(Iterable.class.getName()),
+            DotName.createSimple(Collection.class.getName()),
+            DotName.createSimple(List.class.getName()),
+            DotName.createSimple(Set.class.getName()),
+            DotName.createSimple(SortedSet.class.getName()),
+            DotName.createSimple(Queue.class.getName()),
+            DotName.createSimple(Deque.class.getName()),
+            DotName.createSimple(ArrayList.class.getName()),
+            DotName.createSimple(LinkedList.class.getName()),
+            DotName.createSimple(HashSet.class.getName()),
+            DotName.createSimple(LinkedHashSet.class.getName()),
+            DotName.createSimple(TreeSet.class.getName()));
+
+    private static final Set<DotName> ASYNC_TYPES = Set.of(DotName.createSimple(CompletionStage.class.getName()),
+            DotName.createSimple(CompletableFuture.class.getName()),
+            DotName.createSimple("io.smallrye.mutiny.Uni"),
+            DotName.createSimple("io.smallrye.mutiny.Multi"));
+
+    private final IndexView index;
+    private final LookupConfig lookupConfig;
+    private final List<TemplateExtensionMethodBuildItem> regularExtensionMethods;
+    private final ClassOutput classOutput;
+
+    CompiledTemplateGenerator(IndexView index, LookupConfig lookupConfig,
+            List<TemplateExtensionMethodBuildItem> regularExtensionMethods, ClassOutput classOutput) {
+        this.index = index;
+        this.lookupConfig = lookupConfig;
+        this.regularExtensionMethods = regularExtensionMethods;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     *
+     * @param analysis
+     * @param checkedTemplate
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    String generate(TemplateAnalysis analysis, CheckedTemplateBuildItem checkedTemplate) {
+        if (analysis.nodes == null) {
+            return null;
+        }
+        MethodInfo method = checkedTemplate.method;
+        // org.acme.ItemResource$Templates#items() -> org.acme.ItemResource_Templates_items_<sha1 of the path>_CompiledTemplate
+        String className = method.declaringClass().name().toString().replace('$', '_') + "_" + method.name() + "_"
+                + HashUtil.sha1(analysis.path) + SUFFIX;
+
+        // Note that nothing is written to the class output unless the class creator is closed
+        ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(className)
+                .interfaces(CompiledTemplate.class).build();
+        MethodCreator render = compiledTemplate.getMethodCreator("render", void.class, CompiledTemplate.Output.class);
+        // The data is checked before any node is rendered, so that a mismatch does not make the template fall back to the
+        // regular rendering after user code was invoked
+        BytecodeCreator checkData = render.createScope();
+        try {
+            Compilation compilation = new Compilation(checkedTemplate.bindings, render.getMethodParam(0));
+            compilation.nodes(analysis.nodes, render, null);
+            compilation.checkData(checkData);
+        } catch (UnsupportedConstructException e) {
+            LOGGER.debugf("Template %s not compiled: %s", analysis.path, e.getMessage());
+            return null;
+        }
+        render.returnValue(null);
+
+        MethodCreator getFingerprint = compiledTemplate.getMethodCreator("getFingerprint", int.class);
+        getFingerprint.returnValue(getFingerprint.load(CompiledTemplate.fingerprint(analysis.nodes)));
+
+        try {
+            compiledTemplate.close();
+        } catch (RuntimeException e) {
+            // E.g. the render method is too large
+            LOGGER.debugf("Template %s not compiled: %s", analysis.path, e.toString());
+            return null;
+        }
+        LOGGER.debugf("Template %s compiled to %s", analysis.path, className);
+        return className;
+    }
+
+    private final class Compilation {
+
+        private final Map<String, String> bindings;
+        private final ResultHandle output;
+        private final Map<String, Type> usedData;
+
+        Compilation(Map<String, String> bindings, ResultHandle output) {
+            this.bindings = bindings;
+            this.output = output;
+            this.usedData = new LinkedHashMap<>();
+        }
+
+        void checkData(BytecodeCreator bc) {
+            for (Map.Entry<String, Type> data : usedData.entrySet()) {
+                Type type = data.getValue();
+                if ((type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) && isPublic(type.name())) {
+                    bc.invokeVirtualMethod(OUTPUT_CHECK_DATA, output, bc.load(data.getKey()),
+                            bc.loadClass(type.name().toString()));
+                }
+            }
+        }
+
+        private boolean isPublic(DotName name) {
+            ClassInfo clazz = index.getClassByName(name);
+            if (clazz == null) {
+                // JDK classes are usually not indexed
+                return name.toString().startsWith("java.");
+            }
+            return Modifier.isPublic(clazz.flags());
+        }
+
+        void nodes(List<TemplateNode> nodes, BytecodeCreator bc, Alias aliases) {
+            StringBuilder text = new StringBuilder();
+            for (TemplateNode node : nodes) {
+                if (node.isText()) {
+                    // Adjacent text nodes and line separators are written at once
+                    text.append(node.asText().getValue());
+                    continue;
+                }
+                flush(text, bc);
+                if (node.isExpression()) {
+                    Expression expression = node.asExpression().getExpression();
+                    bc.invokeVirtualMethod(OUTPUT_VALUE, output, value(expression, bc, aliases).handle,
+                            bc.load(expression.getGeneratedId()));
+                } else if (node.isSection()) {
+                    SectionNode section = node.asSection();
+                    if (section.getHelper() instanceof IfSectionHelper) {
+                        ifSection(section, bc, aliases);
+                    } else if (section.getHelper() instanceof LoopSectionHelper) {
+                        loopSection(section, bc, aliases);
+                    } else {
+                        throw new UnsupportedConstructException("section {#" + section.getName() + "}");
+                    }
+                } else {
+                    throw new UnsupportedConstructException("node " + node);
+                }
+            }
+            flush(text, bc);
+        }
+
+        private void flush(StringBuilder text, BytecodeCreator bc) {
+            if (text.length() > 0) {
+                bc.invokeVirtualMethod(OUTPUT_TEXT, output, bc.load(text.toString()));
+                text.setLength(0);
+            }
+        }
+
+        private void ifSection(SectionNode section, BytecodeCreator bc, Alias aliases) {
+            List<SectionBlock> blocks = section.getBlocks();
+            SectionBlock main = blocks.get(0);
+            // {#if item.active} - a single operand, no operators
+            if (main.parameters.size() != 1 || main.expressions.size() != 1
+                    || !main.expressions.containsKey(main.parameters.values().iterator().next())) {
+                throw new UnsupportedConstructException("condition " + main.parameters.values());
+            }
+            SectionBlock elseBlock = elseBlock(section);
+            Expression condition = main.expressions.values().iterator().next();
+            ResultHandle test = bc.invokeVirtualMethod(OUTPUT_TEST, output, value(condition, bc, aliases).handle);
+            BranchResult branch = bc.ifNonZero(test);
+            nodes(main.getNodes(), branch.trueBranch(), aliases);
+            if (elseBlock != null) {
+                nodes(elseBlock.getNodes(), branch.falseBranch(), aliases);
+            }
+        }
+
+        private void loopSection(SectionNode section, BytecodeCreator bc, Alias aliases) {
+            SectionBlock main = section.getBlocks().get(0);
+            Expression iterable = main.expressions.get("iterable");
+            if (iterable == null) {
+                throw new UnsupportedConstructException("loop without an iterable");
+            }
+            String alias = main.parameters.get("alias");
+            if (alias == null || alias.equals(Parameter.EMPTY)) {
+                alias = "it";
+            }
+            SectionBlock elseBlock = elseBlock(section);
+            Value value = value(iterable, bc, aliases);
+            if (value.type.kind() != Type.Kind.PARAMETERIZED_TYPE || !ITERABLE_TYPES.contains(value.type.name())
+                    || value.type.asParameterizedType().arguments().size() != 1) {
+                throw new UnsupportedConstructException("iterable of type " + value.type);
+            }
+            Type elementType = value.type.asParameterizedType().arguments().get(0);
+            if (elementType.kind() != Type.Kind.CLASS && elementType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                throw new UnsupportedConstructException("element of type " + elementType);
+            }
+            // A null iterable renders nothing
+            BytecodeCreator notNull = bc.ifNull(value.handle).falseBranch();
+            ResultHandle iterable = notNull.invokeVirtualMethod(OUTPUT_NON_NULL, output, value.handle,
+                    notNull.loadClass(Iterable.class));
+            ResultHandle iterator = notNull.invokeInterfaceMethod(ITERABLE_ITERATOR,
+                    notNull.checkCast(iterable, Iterable.class));
+            BytecodeCreator loopParent = notNull;
+            if (elseBlock != null) {
+                BranchResult notEmpty = notNull.ifNonZero(notNull.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator));
+                nodes(elseBlock.getNodes(), notEmpty.falseBranch(), aliases);
+                loopParent = notEmpty.trueBranch();
+            }
+            BytecodeCreator loop = loopParent.createScope();
+            BranchResult hasNext = loop.ifNonZero(loop.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator));
+            BytecodeCreator next = hasNext.trueBranch();
+            ResultHandle element = next.invokeInterfaceMethod(ITERATOR_NEXT, iterator);
+            nodes(main.getNodes(), next, new Alias(alias, new Value(element, elementType), aliases));
+            next.continueScope(loop);
+            hasNext.falseBranch().breakScope(loop);
+        }
+
+        private SectionBlock elseBlock(SectionNode section) {
+            List<SectionBlock> blocks = section.getBlocks();
+            if (blocks.size() == 1) {
+                return null;
+            }
+            SectionBlock elseBlock = blocks.get(1);
+            // {#else if} is not supported
+            if (blocks.size() > 2 || !elseBlock.parameters.isEmpty()) {
+                throw new UnsupportedConstructException("{#" + section.getName() + "} with multiple blocks");
+            }
+            return elseBlock;
+        }
+
+        private Value value(Expression expression, BytecodeCreator bc, Alias aliases) {
+            if (expression.isLiteral() || expression.hasNamespace()) {
+                throw new UnsupportedConstructException("expression " + expression.toOriginalString());
+            }
+            List<Part> parts = expression.getParts();
+            for (Part part : parts) {
+                if (part.isVirtualMethod()) {
+                    throw new UnsupportedConstructException("virtual method in " + expression.toOriginalString());
+                }
+            }
+            String rootName = parts.get(0).getName();
+            Value value;
+            Alias alias = aliases != null ? aliases.find(rootName) : null;
+            if (alias != null) {
+                value = alias.value;
+            } else if (aliases != null && isIterationMetadata(rootName)) {
+                throw new UnsupportedConstructException("iteration metadata in " + expression.toOriginalString());
+            } else if (bindings.containsKey(rootName)) {
+                Type type = TypeInfos.resolveType(bindings.get(rootName));
+                usedData.put(rootName, type);
+                value = new Value(bc.invokeVirtualMethod(OUTPUT_DATA, output, bc.load(rootName)), type);
+            } else {
+                throw new UnsupportedConstructException("unknown data in " + expression.toOriginalString());
+            }
+            for (Part part : parts.subList(1, parts.size())) {
+                value = property(part.getName(), value, bc, expression);
+            }
+            return value;
+        }
+
+        private Value property(String name, Value base, BytecodeCreator bc, Expression expression) {
+            if (base.type.kind() != Type.Kind.CLASS && base.type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                throw new UnsupportedConstructException("property of " + base.type + " in " + expression.toOriginalString());
+            }
+            ClassInfo clazz = index.getClassByName(base.type.name());
+            if (clazz == null) {
+                throw new UnsupportedConstructException("class not indexed: " + base.type);
+            }
+            for (TemplateExtensionMethodBuildItem extensionMethod : regularExtensionMethods) {
+                if (extensionMethod.matchesName(name)) {
+                    // We do not attempt to replicate the resolution of template extension methods
+                    throw new UnsupportedConstructException("extension method may match " + name);
+                }
+            }
+            AnnotationTarget member = QuteProcessor.findProperty(name, clazz, lookupConfig);
+            if (member == null) {
+                throw new UnsupportedConstructException("property " + name + " not found on " + clazz);
+            }
+            ClassInfo declaringClass = member.kind() == Kind.FIELD ? member.asField().declaringClass()
+                    : member.asMethod().declaringClass();
+            if (!Modifier.isPublic(declaringClass.flags())) {
+                throw new UnsupportedConstructException("member declared on a non-public class: " + member);
+            }
+
+            // The cast cannot fail once the type was checked
+            ResultHandle nonNull = bc.invokeVirtualMethod(OUTPUT_NON_NULL, output, base.handle,
+                    bc.loadClass(declaringClass.name().toString()));
+            ResultHandle target = bc.checkCast(nonNull, declaringClass.name().toString());
+            ResultHandle handle;
+            if (member.kind() == Kind.FIELD) {
+                FieldInfo field = member.asField();
+                if (Modifier.isStatic(field.flags()) || hasForcedGetter(field)) {
+                    throw new UnsupportedConstructException("field " + field);
+                }
+                handle = bc.readInstanceField(FieldDescriptor.of(field), target);
+            } else {
+                MethodInfo method = member.asMethod();
+                if (Modifier.isInterface(declaringClass.flags())) {
+                    handle = bc.invokeInterfaceMethod(MethodDescriptor.of(method), target);
+                } else {
+                    handle = bc.invokeVirtualMethod(MethodDescriptor.of(method), target);
+                }
+            }
+            Match match = new Match(index);
+            match.setValues(clazz, base.type);
+            Type type = QuteProcessor.resolveType(member, match, index, null);
+            if (ASYNC_TYPES.contains(type.name())) {
+                throw new UnsupportedConstructException("asynchronous member " + member);
+            }
+            return new Value(handle, type);
+        }
+
+        private boolean hasForcedGetter(FieldInfo field) {
+            // Panache entities - the getter is used instead of the field
+            return field.declaringClass().method(QuteProcessor.GETTER_FUN.apply(field)) != null;
+        }
+
+        private boolean isIterationMetadata(String name) {
+            for (String key : QuteProcessor.ITERATION_METADATA_KEYS) {
+                if (name.equals(key) || name.endsWith("_" + key) || name.endsWith("?" + key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private static final class Value {
+
+        final ResultHandle handle;
+        final Type type;
+
+        Value(ResultHandle handle, Type type) {
+            this.handle = handle;
+            this.type = type;
+        }
+
+    }
+
+    private static final class Alias {
+
+        final String name;
+        final Value value;
+        final Alias parent;
+
+        Alias(String name, Value value, Alias parent) {
+            this.name = name;
+            this.value = value;
+            this.parent = parent;
+        }
+
+        Alias find(String name) {
+            Alias alias = this;
+            while (alias != null) {
+                if (alias.name.equals(name)) {
+                    return alias;
+                }
+                alias = alias.parent;
+            }
+            return null;
+        }
+
+    }
+
+    private static final class UnsupportedConstructException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedConstructException(String message) {
+            super(message);
+        }
+
+    }
+
+}
@@ -141,10 +141,10 @@ public class QuteProcessor {
     private static final String CHECKED_TEMPLATE_BASE_PATH = "basePath";
     private static final String BASE_PATH = "templates";
 
-    private static final Set<String> ITERATION_METADATA_KEYS = Set.of("count", "index", "indexParity", "hasNext", "odd",
+    static final Set<String> ITERATION_METADATA_KEYS = Set.of("count", "index", "indexParity", "hasNext", "odd",
             "isOdd", "even", "isEven", "isLast", "isFirst");
 
-    private static final Function<FieldInfo, String> GETTER_FUN = new Function<FieldInfo, String>() {
+    static final Function<FieldInfo, String> GETTER_FUN = new Function<FieldInfo, String>() {
         @Override
         public String apply(FieldInfo field) {
             String prefix;
@@ -466,7 +466,8 @@ public class QuteProcessor {
         for (TemplatePathBuildItem path : templatePaths) {
             Template template = dummyEngine.getTemplate(path.getPath());
             if (template != null) {
-                analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(), path.getPath()));
+                analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(), path.getPath(),
+                        template.getNodes()));
             }
         }
 
@@ -564,6 +565,63 @@ public class QuteProcessor {
         }
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config, TemplatesAnalysisBuildItem templatesAnalysis,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplatePathBuildItem> templatePaths,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates) {
+        if (!config.precompileTemplates || checkedTemplates.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        IndexView index = beanArchiveIndex.getIndex();
+        List<TemplateExtensionMethodBuildItem> regularExtensionMethods = templateExtensionMethods.stream()
+                .filter(Predicate.not(TemplateExtensionMethodBuildItem::hasNamespace)).collect(Collectors.toUnmodifiableList());
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index,
+                new FixedLookupConfig(index, initDefaultMembersFilter(), false), regularExtensionMethods,
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        Set<String> paths = templatePaths.stream().map(TemplatePathBuildItem::getPath).collect(Collectors.toSet());
+        int count = 0;
+
+        for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, templateAnalysis, checkedTemplates);
+            if (checkedTemplate == null) {
+                continue;
+            }
+            String className = generator.generate(templateAnalysis, checkedTemplate);
+            if (className == null) {
+                continue;
+            }
+            count++;
+            reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, className));
+            compiledTemplates.produce(new CompiledTemplateBuildItem(templateAnalysis.path, className));
+            // The checked template may also be loaded by the id without the suffix, e.g. ItemResource/items
+            // In that case, the first path matched by the locator is used
+            if (!checkedTemplate.templateId.equals(templateAnalysis.path)
+                    && templateAnalysis.path.equals(locatePath(checkedTemplate.templateId, config.suffixes, paths))) {
+                compiledTemplates.produce(new CompiledTemplateBuildItem(checkedTemplate.templateId, className));
+            }
+        }
+        LOGGER.debugf("Compiled %s templates in %s ms", count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static String locatePath(String id, List<String> suffixes, Set<String> paths) {
+        if (paths.contains(id)) {
+            return id;
+        }
+        for (String suffix : suffixes) {
+            String path = id + "." + suffix;
+            if (paths.contains(path)) {
+                return path;
+            }
+        }
+        return null;
+    }
+
     static Predicate<AnnotationTarget> initDefaultMembersFilter() {
         // By default, synthetic, non-public and static members (excl. enum constants) are ignored
         Predicate<AnnotationTarget> filter = QuteProcessor::defaultFilter;
@@ -1446,7 +1504,8 @@ public class QuteProcessor {
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
             Optional<TemplateVariantsBuildItem> templateVariants,
-            List<GeneratedTemplateInitializerBuildItem> templateInitializers) {
+            List<GeneratedTemplateInitializerBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -1470,7 +1529,9 @@ public class QuteProcessor {
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
                         tags, variants, templateInitializers.stream()
-                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList())))
+                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList()),
+                        compiledTemplates.stream().collect(Collectors.toMap(CompiledTemplateBuildItem::getTemplateId,
+                                CompiledTemplateBuildItem::getClassName))))
                 .done());
     }
 
@@ -1485,7 +1546,7 @@ public class QuteProcessor {
         });
     }
 
-    private static Type resolveType(AnnotationTarget member, Match match, IndexView index,
+    static Type resolveType(AnnotationTarget member, Match match, IndexView index,
             TemplateExtensionMethodBuildItem extensionMethod) {
         Type matchType;
         if (member.kind() == Kind.FIELD) {
@@ -1855,7 +1916,7 @@ public class QuteProcessor {
         return null;
     }
 
-    private static AnnotationTarget findProperty(String name, ClassInfo clazz, LookupConfig config) {
+    static AnnotationTarget findProperty(String name, ClassInfo clazz, LookupConfig config) {
         // Attempts to find a property with the specified name
         // i.e. a public non-static non-synthetic field with the given name or a public non-static non-synthetic method with no params and the given name
         Set<DotName> interfaceNames = config.declaredMembersOnly() ? null : new HashSet<>();
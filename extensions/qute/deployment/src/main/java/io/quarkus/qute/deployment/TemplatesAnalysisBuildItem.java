@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.qute.Expression;
+import io.quarkus.qute.TemplateNode;
 
 /**
  * Represents the result of analysis of all templates.
@@ -37,11 +38,20 @@ public final class TemplatesAnalysisBuildItem extends SimpleBuildItem {
         // File path, e.g. hello.html or ItemResource/items.html
         public final String path;
 
+        // The top-level nodes of the template; may be null
+        public final List<TemplateNode> nodes;
+
         public TemplateAnalysis(String id, String generatedId, List<Expression> expressions, String path) {
+            this(id, generatedId, expressions, path, null);
+        }
+
+        public TemplateAnalysis(String id, String generatedId, List<Expression> expressions, String path,
+                List<TemplateNode> nodes) {
             this.id = id;
             this.generatedId = generatedId;
             this.expressions = expressions;
             this.path = path;
+            this.nodes = nodes;
         }
 
         Expression findExpression(int id) {
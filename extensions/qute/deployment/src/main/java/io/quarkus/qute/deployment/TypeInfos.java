@@ -163,7 +163,7 @@ final class TypeInfos {
         return part.substring(angleIdx, part.length());
     }
 
-    private static Type resolveType(String value) {
+    static Type resolveType(String value) {
         int angleIdx = value.indexOf(LEFT_ANGLE);
         if (angleIdx == -1) {
             return Type.create(DotName.createSimple(value), Kind.CLASS);
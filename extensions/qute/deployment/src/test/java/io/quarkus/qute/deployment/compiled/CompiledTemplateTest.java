@@ -0,0 +1,105 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, Detail.class)
+                    .addAsResource(new StringAsset("{#for item in items}\n"
+                            + "<li>{item.name}{#if item.active} active{#else} inactive{/if}{#if item.detail}: {item.detail.note}{/if}</li>\n"
+                            + "{#else}\n"
+                            + "No items\n"
+                            + "{/for}"),
+                            "templates/CompiledTemplateTest/items.html")
+                    .addAsResource(new StringAsset("{item.name}:{item.detail.note}"),
+                            "templates/CompiledTemplateTest/detail.html")
+                    .addAsResource(new StringAsset("{#let name=item.name}Hello {name}!{/let}"),
+                            "templates/CompiledTemplateTest/let.html")
+                    .addAsResource(new StringAsset("{item.name}"),
+                            "templates/CompiledTemplateTest/plain"))
+            .overrideConfigKey("quarkus.qute.precompile-templates", "true");
+
+    @Test
+    public void testCompiledTemplate() {
+        assertEquals("<li>&lt;foo&gt; active: bar</li>\n<li>baz inactive</li>",
+                Templates.items(List.of(new Item("<foo>", true, new Detail("bar")), new Item("baz", false, null))).render()
+                        .trim());
+        assertEquals("No items", Templates.items(List.of()).render().trim());
+        assertEquals("foo:bar", Templates.detail(new Item("foo", true, new Detail("bar"))).render());
+    }
+
+    @Test
+    public void testTemplateWithoutSuffix() {
+        // The path of the template is also its id
+        assertEquals("foo", Templates.plain(new Item("foo", true, null)).render());
+    }
+
+    @Test
+    public void testNotCompiled() {
+        // {#let} is not supported - the template is rendered as usual
+        assertEquals("Hello foo!", Templates.let(new Item("foo", true, null)).render());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance items(List<Item> items);
+
+        static native TemplateInstance detail(Item item);
+
+        static native TemplateInstance let(Item item);
+
+        static native TemplateInstance plain(Item item);
+
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final boolean active;
+        private final Detail detail;
+
+        public Item(String name, boolean active, Detail detail) {
+            this.name = name;
+            this.active = active;
+            this.detail = detail;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public Detail getDetail() {
+            return detail;
+        }
+
+    }
+
+    public static class Detail {
+
+        public final String note;
+
+        public Detail(String note) {
+            this.note = note;
+        }
+
+    }
+
+}
@@ -9,6 +9,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -24,6 +25,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -187,6 +189,12 @@ public class EngineProducer {
             builder.addTemplateInstanceInitializer(createInitializer(initializerClass));
         }
 
+        // Add compiled templates
+        for (Entry<String, String> entry : context.getCompiledTemplates().entrySet()) {
+            builder.addCompiledTemplate(entry.getKey(), createCompiledTemplate(entry.getValue()));
+            LOGGER.debugf("Added compiled template for %s: %s", entry.getKey(), entry.getValue());
+        }
+
         builder.timeout(runtimeConfig.timeout);
         builder.useAsyncTimeout(runtimeConfig.useAsyncTimeout);
 
@@ -249,6 +257,20 @@ public class EngineProducer {
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClazz);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private Optional<TemplateLocation> locate(String path) {
         URL resource = null;
         String templatePath = basePath + path;
@@ -88,4 +88,17 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public Charset defaultCharset;
 
+    /**
+     * If set to {@code true} then the templates of type-safe {@link io.quarkus.qute.CheckedTemplate}s are compiled to
+     * bytecode during the build, if possible.
+     * <p>
+     * A compiled template writes the static text directly and accesses the data through direct method invocations,
+     * synchronously. Only a subset of templates can be compiled: static text, output expressions consisting of properties
+     * only, simple {@code #if} sections and {@code #for}/{@code #each} sections iterating over a collection. A template
+     * instance that cannot be rendered by a compiled template, e.g. because an intermediate value is {@code null} or an
+     * asynchronous value is encountered, is rendered as usual.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean precompileTemplates;
+
 }
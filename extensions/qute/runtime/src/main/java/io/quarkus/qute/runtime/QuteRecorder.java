@@ -11,7 +11,7 @@ public class QuteRecorder {
 
     public Supplier<Object> createContext(List<String> resolverClasses,
             List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
-            List<String> templateInstanceInitializerClasses) {
+            List<String> templateInstanceInitializerClasses, Map<String, String> compiledTemplates) {
         return new Supplier<Object>() {
 
             @Override
@@ -43,6 +43,11 @@ public class QuteRecorder {
                         return templateInstanceInitializerClasses;
                     }
 
+                    @Override
+                    public Map<String, String> getCompiledTemplates() {
+                        return compiledTemplates;
+                    }
+
                 };
             }
         };
@@ -60,6 +65,12 @@ public class QuteRecorder {
 
         List<String> getTemplateInstanceInitializerClasses();
 
+        /**
+         *
+         * @return a map of template ids to generated compiled template classes
+         */
+        Map<String, String> getCompiledTemplates();
+
     }
 
 }
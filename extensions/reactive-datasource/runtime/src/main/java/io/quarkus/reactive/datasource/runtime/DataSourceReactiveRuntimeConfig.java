@@ -20,6 +20,19 @@ public class DataSourceReactiveRuntimeConfig {
     @ConfigItem(defaultValue = "false")
     public boolean cachePreparedStatements = false;
 
+    /**
+     * The maximum number of prepared statements cached per connection, when prepared statements caching is enabled.
+     */
+    @ConfigItem(defaultValueDocumentation = "256")
+    public OptionalInt preparedStatementCacheMaxSize = OptionalInt.empty();
+
+    /**
+     * The maximum length of the SQL string of a prepared statement that is cached, when prepared statements caching is
+     * enabled. Longer statements are not cached.
+     */
+    @ConfigItem(defaultValueDocumentation = "2048")
+    public OptionalInt preparedStatementCacheSqlLimit = OptionalInt.empty();
+
     /**
      * The datasource URL.
      */
@@ -120,6 +133,26 @@ public class DataSourceReactiveRuntimeConfig {
     @ConfigItem(defaultValueDocumentation = "no timeout")
     public Optional<Duration> idleTimeout = Optional.empty();
 
+    /**
+     * The interval at which the pool checks for idle connections that exceeded the {@code idle-timeout} and closes them.
+     */
+    @ConfigItem(defaultValueDocumentation = "1 second")
+    public Optional<Duration> poolCleanerInterval = Optional.empty();
+
+    /**
+     * The maximum number of requests waiting for a connection when the pool is exhausted. Further requests fail
+     * immediately. A negative value means the queue is unbounded.
+     */
+    @ConfigItem(defaultValueDocumentation = "unbounded")
+    public OptionalInt maxWaitQueueSize = OptionalInt.empty();
+
+    /**
+     * The number of event loops the pool connections are distributed on. By default, a connection is associated with the
+     * event loop of the context that created it.
+     */
+    @ConfigItem
+    public OptionalInt eventLoopSize = OptionalInt.empty();
+
     /**
      * Set to true to share the pool among datasources.
      * There can be multiple shared pools distinguished by <name>name</name>, when no specific name is set,
@@ -40,7 +40,7 @@ public class DB2PoolRecorder {
             DataSourcesReactiveDB2Config dataSourcesReactiveDB2Config,
             ShutdownContext shutdown) {
 
-        DB2Pool db2Pool = initialize(vertx.getValue(),
+        DB2Pool db2Pool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveDB2Config.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -53,13 +53,15 @@ public class DB2PoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.db2client.DB2Pool.newInstance(db2Pool.getValue()));
     }
 
-    private DB2Pool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private DB2Pool initialize(Vertx vertx, String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveDB2Config dataSourceReactiveDB2Config) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveDB2Config);
         DB2ConnectOptions connectOptions = toConnectOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveDB2Config);
+        // Metrics reported by the client, e.g. the pool acquisition time, are tagged with the datasource name
+        connectOptions.setMetricsName(dataSourceName);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent()) {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
@@ -82,6 +84,19 @@ public class DB2PoolRecorder {
             poolOptions.setIdleTimeout(idleTimeout).setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
         }
 
+        if (dataSourceReactiveRuntimeConfig.poolCleanerInterval.isPresent()) {
+            poolOptions.setPoolCleanerPeriod(
+                    Math.toIntExact(dataSourceReactiveRuntimeConfig.poolCleanerInterval.get().toMillis()));
+        }
+
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize.isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.eventLoopSize.isPresent()) {
+            poolOptions.setEventLoopSize(dataSourceReactiveRuntimeConfig.eventLoopSize.getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.shared) {
             poolOptions.setShared(true);
             if (dataSourceReactiveRuntimeConfig.name.isPresent()) {
@@ -140,6 +155,16 @@ public class DB2PoolRecorder {
             connectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements);
         }
 
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.isPresent()) {
+            connectOptions.setPreparedStatementCacheMaxSize(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.isPresent()) {
+            connectOptions.setPreparedStatementCacheSqlLimit(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.getAsInt());
+        }
+
         connectOptions.setSsl(dataSourceReactiveDB2Config.ssl);
 
         connectOptions.setTrustAll(dataSourceReactiveRuntimeConfig.trustAll);
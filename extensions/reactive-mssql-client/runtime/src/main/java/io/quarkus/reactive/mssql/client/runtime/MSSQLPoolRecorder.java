@@ -41,7 +41,7 @@ public class MSSQLPoolRecorder {
             DataSourcesReactiveMSSQLConfig dataSourcesReactiveMSSQLConfig,
             ShutdownContext shutdown) {
 
-        MSSQLPool mssqlPool = initialize(vertx.getValue(),
+        MSSQLPool mssqlPool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveMSSQLConfig.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -54,13 +54,15 @@ public class MSSQLPoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.mssqlclient.MSSQLPool.newInstance(mssqlPool.getValue()));
     }
 
-    private MSSQLPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private MSSQLPool initialize(Vertx vertx, String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMSSQLConfig dataSourceReactiveMSSQLConfig) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveMSSQLConfig);
         MSSQLConnectOptions mssqlConnectOptions = toMSSQLConnectOptions(dataSourceRuntimeConfig,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveMSSQLConfig);
+        // Metrics reported by the client, e.g. the pool acquisition time, are tagged with the datasource name
+        mssqlConnectOptions.setMetricsName(dataSourceName);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent()) {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
@@ -83,6 +85,19 @@ public class MSSQLPoolRecorder {
             poolOptions.setIdleTimeout(idleTimeout).setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
         }
 
+        if (dataSourceReactiveRuntimeConfig.poolCleanerInterval.isPresent()) {
+            poolOptions.setPoolCleanerPeriod(
+                    Math.toIntExact(dataSourceReactiveRuntimeConfig.poolCleanerInterval.get().toMillis()));
+        }
+
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize.isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.eventLoopSize.isPresent()) {
+            poolOptions.setEventLoopSize(dataSourceReactiveRuntimeConfig.eventLoopSize.getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.shared) {
             poolOptions.setShared(true);
             if (dataSourceReactiveRuntimeConfig.name.isPresent()) {
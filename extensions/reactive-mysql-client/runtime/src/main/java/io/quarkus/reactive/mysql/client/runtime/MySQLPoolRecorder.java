@@ -42,7 +42,7 @@ public class MySQLPoolRecorder {
             DataSourcesReactiveMySQLConfig dataSourcesReactiveMySQLConfig,
             ShutdownContext shutdown) {
 
-        MySQLPool mysqlPool = initialize(vertx.getValue(),
+        MySQLPool mysqlPool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveMySQLConfig.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -55,13 +55,15 @@ public class MySQLPoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.mysqlclient.MySQLPool.newInstance(mysqlPool.getValue()));
     }
 
-    private MySQLPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private MySQLPool initialize(Vertx vertx, String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveMySQLConfig);
         MySQLConnectOptions mysqlConnectOptions = toMySQLConnectOptions(dataSourceRuntimeConfig,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
+        // Metrics reported by the client, e.g. the pool acquisition time, are tagged with the datasource name
+        mysqlConnectOptions.setMetricsName(dataSourceName);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent()) {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
@@ -84,6 +86,19 @@ public class MySQLPoolRecorder {
             poolOptions.setIdleTimeout(idleTimeout).setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
         }
 
+        if (dataSourceReactiveRuntimeConfig.poolCleanerInterval.isPresent()) {
+            poolOptions.setPoolCleanerPeriod(
+                    Math.toIntExact(dataSourceReactiveRuntimeConfig.poolCleanerInterval.get().toMillis()));
+        }
+
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize.isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.eventLoopSize.isPresent()) {
+            poolOptions.setEventLoopSize(dataSourceReactiveRuntimeConfig.eventLoopSize.getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.shared) {
             poolOptions.setShared(true);
             if (dataSourceReactiveRuntimeConfig.name.isPresent()) {
@@ -141,6 +156,16 @@ public class MySQLPoolRecorder {
             mysqlConnectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements);
         }
 
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.isPresent()) {
+            mysqlConnectOptions.setPreparedStatementCacheMaxSize(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.isPresent()) {
+            mysqlConnectOptions.setPreparedStatementCacheSqlLimit(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.getAsInt());
+        }
+
         if (dataSourceReactiveMySQLConfig.charset.isPresent()) {
             mysqlConnectOptions.setCharset(dataSourceReactiveMySQLConfig.charset.get());
         }
@@ -35,7 +35,7 @@ public class OraclePoolRecorder {
             DataSourcesReactiveOracleConfig dataSourcesReactiveOracleConfig,
             ShutdownContext shutdown) {
 
-        OraclePool oraclePool = initialize(vertx.getValue(),
+        OraclePool oraclePool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveOracleConfig.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -48,13 +48,15 @@ public class OraclePoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.oracleclient.OraclePool.newInstance(oraclePool.getValue()));
     }
 
-    private OraclePool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private OraclePool initialize(Vertx vertx, String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveOracleConfig dataSourceReactiveOracleConfig) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveOracleConfig);
         OracleConnectOptions oracleConnectOptions = toOracleConnectOptions(dataSourceRuntimeConfig,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveOracleConfig);
+        // Metrics reported by the client, e.g. the pool acquisition time, are tagged with the datasource name
+        oracleConnectOptions.setMetricsName(dataSourceName);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent()) {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
@@ -77,6 +79,19 @@ public class OraclePoolRecorder {
             poolOptions.setIdleTimeout(idleTimeout).setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
         }
 
+        if (dataSourceReactiveRuntimeConfig.poolCleanerInterval.isPresent()) {
+            poolOptions.setPoolCleanerPeriod(
+                    Math.toIntExact(dataSourceReactiveRuntimeConfig.poolCleanerInterval.get().toMillis()));
+        }
+
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize.isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.eventLoopSize.isPresent()) {
+            poolOptions.setEventLoopSize(dataSourceReactiveRuntimeConfig.eventLoopSize.getAsInt());
+        }
+
         return poolOptions;
     }
 
@@ -42,7 +42,7 @@ public class PgPoolRecorder {
             DataSourcesReactivePostgreSQLConfig dataSourcesReactivePostgreSQLConfig,
             ShutdownContext shutdown) {
 
-        PgPool pgPool = initialize(vertx.getValue(),
+        PgPool pgPool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactivePostgreSQLConfig.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -55,13 +55,15 @@ public class PgPoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.pgclient.PgPool.newInstance(pgPool.getValue()));
     }
 
-    private PgPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private PgPool initialize(Vertx vertx, String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactivePostgreSQLConfig);
         PgConnectOptions pgConnectOptions = toPgConnectOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactivePostgreSQLConfig);
+        // Metrics reported by the client, e.g. the pool acquisition time, are tagged with the datasource name
+        pgConnectOptions.setMetricsName(dataSourceName);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent()) {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
@@ -84,6 +86,19 @@ public class PgPoolRecorder {
             poolOptions.setIdleTimeout(idleTimeout).setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
         }
 
+        if (dataSourceReactiveRuntimeConfig.poolCleanerInterval.isPresent()) {
+            poolOptions.setPoolCleanerPeriod(
+                    Math.toIntExact(dataSourceReactiveRuntimeConfig.poolCleanerInterval.get().toMillis()));
+        }
+
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize.isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.eventLoopSize.isPresent()) {
+            poolOptions.setEventLoopSize(dataSourceReactiveRuntimeConfig.eventLoopSize.getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.shared) {
             poolOptions.setShared(true);
             if (dataSourceReactiveRuntimeConfig.name.isPresent()) {
@@ -143,6 +158,16 @@ public class PgPoolRecorder {
             pgConnectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements);
         }
 
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.isPresent()) {
+            pgConnectOptions.setPreparedStatementCacheMaxSize(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.isPresent()) {
+            pgConnectOptions.setPreparedStatementCacheSqlLimit(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.getAsInt());
+        }
+
         if (dataSourceReactivePostgreSQLConfig.pipeliningLimit.isPresent()) {
             pgConnectOptions.setPipeliningLimit(dataSourceReactivePostgreSQLConfig.pipeliningLimit.getAsInt());
         }
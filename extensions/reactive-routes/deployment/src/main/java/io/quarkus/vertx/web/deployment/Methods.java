@@ -173,7 +173,8 @@ class Methods {
             .ofMethod(InjectableBean.class, "destroy",
                     void.class, Object.class,
                     CreationalContext.class);
-    static final MethodDescriptor ROUTE_HANDLER_CONSTRUCTOR = MethodDescriptor.ofConstructor(RouteHandler.class);
+    static final MethodDescriptor ROUTE_HANDLER_CONSTRUCTOR = MethodDescriptor.ofConstructor(RouteHandler.class,
+            boolean.class);
 
     static final MethodDescriptor ROUTE_HANDLERS_SET_CONTENT_TYPE = MethodDescriptor
             .ofMethod(RouteHandlers.class, "setContentType", void.class, RoutingContext.class, String.class);
@@ -217,6 +218,21 @@ class Methods {
     static final MethodDescriptor SHORT_VALUE_OF = MethodDescriptor.ofMethod(Short.class, "valueOf", Short.class, String.class);
     static final MethodDescriptor BYTE_VALUE_OF = MethodDescriptor.ofMethod(Byte.class, "valueOf", Byte.class, String.class);
 
+    static final MethodDescriptor INTEGER_PARSE_INT = MethodDescriptor.ofMethod(Integer.class, "parseInt", int.class,
+            String.class);
+    static final MethodDescriptor LONG_PARSE_LONG = MethodDescriptor.ofMethod(Long.class, "parseLong", long.class,
+            String.class);
+    static final MethodDescriptor BOOLEAN_PARSE_BOOLEAN = MethodDescriptor.ofMethod(Boolean.class, "parseBoolean",
+            boolean.class, String.class);
+    static final MethodDescriptor FLOAT_PARSE_FLOAT = MethodDescriptor.ofMethod(Float.class, "parseFloat", float.class,
+            String.class);
+    static final MethodDescriptor DOUBLE_PARSE_DOUBLE = MethodDescriptor.ofMethod(Double.class, "parseDouble", double.class,
+            String.class);
+    static final MethodDescriptor SHORT_PARSE_SHORT = MethodDescriptor.ofMethod(Short.class, "parseShort", short.class,
+            String.class);
+    static final MethodDescriptor BYTE_PARSE_BYTE = MethodDescriptor.ofMethod(Byte.class, "parseByte", byte.class,
+            String.class);
+
     static final MethodDescriptor COLLECTION_SIZE = MethodDescriptor.ofMethod(Collection.class, "size", int.class);
     static final MethodDescriptor COLLECTION_ITERATOR = MethodDescriptor.ofMethod(Collection.class, "iterator", Iterator.class);
     static final MethodDescriptor COLLECTION_ADD = MethodDescriptor.ofMethod(Collection.class, "add", boolean.class,
@@ -41,6 +41,7 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
 import org.jboss.jandex.Type.Kind;
 import org.jboss.logging.Logger;
@@ -60,6 +61,7 @@ import io.quarkus.arc.processor.Annotations;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
@@ -93,6 +95,7 @@ import io.quarkus.hibernate.validator.spi.BeanValidationAnnotationsBuildItem;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.TemplateHtmlBuilder;
 import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.security.spi.SecurityTransformerUtils;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
 import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
@@ -131,6 +134,7 @@ class ReactiveRoutesProcessor {
     private static final String VALUE_METHODS = "methods";
     private static final String VALUE_ORDER = "order";
     private static final String VALUE_TYPE = "type";
+    private static final String VALUE_REQUEST_CONTEXT = "requestContext";
     private static final String SLASH = "/";
 
     private static final List<ParameterInjector> PARAM_INJECTORS = initParamInjectors();
@@ -164,6 +168,8 @@ class ReactiveRoutesProcessor {
 
         // Collect all business methods annotated with @Route and @RouteFilter
         AnnotationStore annotationStore = validationPhase.getContext().get(BuildExtension.Key.ANNOTATION_STORE);
+        List<BeanInfo> requestScopedBeans = validationPhase.getContext().beans().withScope(BuiltinScope.REQUEST.getName())
+                .collect();
         for (BeanInfo bean : validationPhase.getContext().beans().classBeans()) {
             // NOTE: inherited business methods are not taken into account
             ClassInfo beanClass = bean.getTarget().get().asClass();
@@ -174,7 +180,8 @@ class ReactiveRoutesProcessor {
                 AnnotationInstance routeAnnotation = annotationStore.getAnnotation(method,
                         io.quarkus.vertx.web.deployment.DotNames.ROUTE);
                 if (routeAnnotation != null) {
-                    validateRouteMethod(bean, method, transformedAnnotations, beanArchive.getIndex(), routeAnnotation);
+                    validateRouteMethod(bean, method, transformedAnnotations, beanArchive.getIndex(), routeAnnotation,
+                            requestScopedBeans);
                     routes.add(routeAnnotation);
                 }
                 if (routes.isEmpty()) {
@@ -182,7 +189,8 @@ class ReactiveRoutesProcessor {
                             io.quarkus.vertx.web.deployment.DotNames.ROUTES);
                     if (routesAnnotation != null) {
                         for (AnnotationInstance annotation : routesAnnotation.value().asNestedArray()) {
-                            validateRouteMethod(bean, method, transformedAnnotations, beanArchive.getIndex(), annotation);
+                            validateRouteMethod(bean, method, transformedAnnotations, beanArchive.getIndex(), annotation,
+                                    requestScopedBeans);
                             routes.add(annotation);
                         }
                     }
@@ -383,7 +391,7 @@ class ReactiveRoutesProcessor {
                                     handlerType, produces),
                             businessMethod.getBean(), businessMethod.getMethod(), classOutput, transformedAnnotations,
                             routeString, reflectiveHierarchy, produces.length > 0 ? produces[0] : null,
-                            validatorAvailable, index);
+                            validatorAvailable, index, isRequestContextActivated(route));
                     reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
                     routeHandler = recorder.createHandler(handlerClass);
                     routeHandlers.put(routeString, routeHandler);
@@ -422,7 +430,7 @@ class ReactiveRoutesProcessor {
                     new HandlerDescriptor(filterMethod.getMethod(), beanValidationAnnotations.orElse(null), HandlerType.NORMAL,
                             new String[0]),
                     filterMethod.getBean(), filterMethod.getMethod(), classOutput, transformedAnnotations,
-                    filterMethod.getRouteFilter().toString(true), reflectiveHierarchy, null, validatorAvailable, index);
+                    filterMethod.getRouteFilter().toString(true), reflectiveHierarchy, null, validatorAvailable, index, true);
             reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
             Handler<RoutingContext> routingHandler = recorder.createHandler(handlerClass);
             AnnotationValue priorityValue = filterMethod.getRouteFilter().value();
@@ -460,6 +468,37 @@ class ReactiveRoutesProcessor {
                 .reason("Found route handler business methods").build();
     }
 
+    private void validateNoRequestContext(BeanInfo bean, MethodInfo method, List<BeanInfo> requestScopedBeans) {
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            throw new IllegalStateException(String.format(
+                    "A @RequestScoped bean may not declare a route that does not activate the request context [method: %s, bean: %s]",
+                    method, bean));
+        }
+        // The security interceptors need the SecurityIdentity, which is associated with the request context
+        if (SecurityTransformerUtils.hasSecurityAnnotation(method)
+                || SecurityTransformerUtils.hasSecurityAnnotation(method.declaringClass())) {
+            throw new IllegalStateException(String.format(
+                    "A secured route may not skip the activation of the request context [method: %s, bean: %s]",
+                    method, bean));
+        }
+        // Only direct dependencies are taken into account
+        for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+            AnnotationInstance[] qualifiers = injectionPoint.getRequiredQualifiers().toArray(new AnnotationInstance[0]);
+            for (BeanInfo dependency : requestScopedBeans) {
+                if (dependency.isAssignableTo(injectionPoint.getRequiredType(), qualifiers)) {
+                    throw new IllegalStateException(String.format(
+                            "A route that does not activate the request context is declared on a bean that injects the @RequestScoped bean %s [method: %s, bean: %s]",
+                            dependency, method, bean));
+                }
+            }
+        }
+    }
+
+    private static boolean isRequestContextActivated(AnnotationInstance routeAnnotation) {
+        AnnotationValue requestContextValue = routeAnnotation.value(VALUE_REQUEST_CONTEXT);
+        return requestContextValue == null || requestContextValue.asBoolean();
+    }
+
     private void validateRouteFilterMethod(BeanInfo bean, MethodInfo method) {
         if (!method.returnType().kind().equals(Type.Kind.VOID)) {
             throw new IllegalStateException(
@@ -475,7 +514,11 @@ class ReactiveRoutesProcessor {
     }
 
     private void validateRouteMethod(BeanInfo bean, MethodInfo method,
-            TransformedAnnotationsBuildItem transformedAnnotations, IndexView index, AnnotationInstance routeAnnotation) {
+            TransformedAnnotationsBuildItem transformedAnnotations, IndexView index, AnnotationInstance routeAnnotation,
+            List<BeanInfo> requestScopedBeans) {
+        if (!isRequestContextActivated(routeAnnotation)) {
+            validateNoRequestContext(bean, method, requestScopedBeans);
+        }
         List<Type> params = method.parameters();
         if (params.isEmpty()) {
             if (method.returnType().kind() == Kind.VOID && params.isEmpty()) {
@@ -557,7 +600,7 @@ class ReactiveRoutesProcessor {
     private String generateHandler(HandlerDescriptor desc, BeanInfo bean, MethodInfo method, ClassOutput classOutput,
             TransformedAnnotationsBuildItem transformedAnnotations, String hashSuffix,
             BuildProducer<ReflectiveHierarchyBuildItem> reflectiveHierarchy, String defaultProduces,
-            boolean validatorAvailable, IndexView index) {
+            boolean validatorAvailable, IndexView index, boolean activateRequestContext) {
 
         if (desc.requireValidation() && !validatorAvailable) {
             throw new IllegalStateException(
@@ -600,7 +643,8 @@ class ReactiveRoutesProcessor {
                     .setModifiers(ACC_PUBLIC | ACC_FINAL);
         }
 
-        implementConstructor(bean, invokerCreator, beanField, contextField, containerField, validatorField);
+        implementConstructor(bean, invokerCreator, beanField, contextField, containerField, validatorField,
+                activateRequestContext);
         implementInvoke(desc, bean, method, invokerCreator, beanField, contextField, containerField, validatorField,
                 transformedAnnotations, reflectiveHierarchy, defaultProduces, index);
 
@@ -610,10 +654,11 @@ class ReactiveRoutesProcessor {
 
     void implementConstructor(BeanInfo bean, ClassCreator invokerCreator, FieldCreator beanField,
             FieldCreator contextField,
-            FieldCreator containerField, FieldCreator validatorField) {
+            FieldCreator containerField, FieldCreator validatorField, boolean activateRequestContext) {
         MethodCreator constructor = invokerCreator.getMethodCreator("<init>", void.class);
-        // Invoke super()
-        constructor.invokeSpecialMethod(Methods.ROUTE_HANDLER_CONSTRUCTOR, constructor.getThis());
+        // Invoke super(activateRequestContext)
+        constructor.invokeSpecialMethod(Methods.ROUTE_HANDLER_CONSTRUCTOR, constructor.getThis(),
+                constructor.load(activateRequestContext));
 
         ResultHandle containerHandle = constructor
                 .invokeStaticMethod(Methods.ARC_CONTAINER);
@@ -1333,7 +1378,7 @@ class ReactiveRoutesProcessor {
                             }
                         }).build());
 
-        injectors.add(ParameterInjector.builder().matchPrimitiveWrappers()
+        injectors.add(ParameterInjector.builder().matchPrimitiveWrappers().matchPrimitives()
                 .matchType(io.quarkus.arc.processor.DotNames.STRING)
                 .matchOptionalOf(io.quarkus.arc.processor.DotNames.STRING)
                 .matchListOf(io.quarkus.arc.processor.DotNames.STRING)
@@ -1367,7 +1412,7 @@ class ReactiveRoutesProcessor {
                 })
                 .build());
 
-        injectors.add(ParameterInjector.builder().matchPrimitiveWrappers()
+        injectors.add(ParameterInjector.builder().matchPrimitiveWrappers().matchPrimitives()
                 .matchType(io.quarkus.arc.processor.DotNames.STRING)
                 .matchOptionalOf(io.quarkus.arc.processor.DotNames.STRING)
                 .matchListOf(io.quarkus.arc.processor.DotNames.STRING)
@@ -1485,6 +1530,14 @@ class ReactiveRoutesProcessor {
             if (paramName == null) {
                 throw parameterNameNotAvailable(position, method);
             }
+            if (paramType.kind() == Kind.PRIMITIVE) {
+                // String param = routingContext.request().getParam(paramName)
+                ResultHandle value = invoke.invokeInterfaceMethod(valueAccessor, invoke
+                        .invokeInterfaceMethod(Methods.REQUEST,
+                                routingContext),
+                        invoke.load(paramName));
+                return parsePrimitive(value, paramType.asPrimitiveType(), invoke, method, position);
+            }
             AssignableResultHandle paramHandle = invoke.createVariable(Object.class);
             if (paramType.name().equals(DotNames.LIST)) {
                 Type wrappedType = paramType.asParameterizedType().arguments().get(0);
@@ -1590,6 +1643,11 @@ class ReactiveRoutesProcessor {
                                     matches = true;
                                     break;
                                 }
+                                if (matchType.kind() == Kind.PRIMITIVE && matchType.asPrimitiveType()
+                                        .primitive() == paramType.asPrimitiveType().primitive()) {
+                                    matches = true;
+                                    break;
+                                }
                                 if (matchType.kind() == Kind.PARAMETERIZED_TYPE && matchType.name().equals(paramType.name())
                                         && matchType.asParameterizedType().arguments()
                                                 .equals(paramType.asParameterizedType().arguments())) {
@@ -1678,6 +1736,16 @@ class ReactiveRoutesProcessor {
                 return this;
             }
 
+            Builder matchPrimitives() {
+                List<PrimitiveType> primitives = Arrays.asList(PrimitiveType.INT, PrimitiveType.LONG, PrimitiveType.SHORT,
+                        PrimitiveType.BOOLEAN, PrimitiveType.BYTE, PrimitiveType.CHAR, PrimitiveType.DOUBLE,
+                        PrimitiveType.FLOAT);
+                for (PrimitiveType primitive : primitives) {
+                    matchType(primitive);
+                }
+                return this;
+            }
+
             Builder matchOptionalOf(DotName className) {
                 return matchOptionalOf(Type.create(className, Kind.CLASS));
             }
@@ -1793,6 +1861,80 @@ class ReactiveRoutesProcessor {
         }
     }
 
+    static ResultHandle parsePrimitive(ResultHandle value, PrimitiveType paramType, BytecodeCreator invoke,
+            MethodInfo method, int position) {
+        // The value is parsed directly and no wrapper is allocated, for example:
+        // long param = 0;
+        // if(value != null) {
+        //    try {
+        //       param = Long.parseLong(value);
+        //    } catch(Throwable e) {
+        //       ...
+        //    }
+        // }
+        AssignableResultHandle paramHandle;
+        ResultHandle defaultValue;
+        MethodDescriptor parseMethod;
+        switch (paramType.primitive()) {
+            case INT:
+                paramHandle = invoke.createVariable(int.class);
+                defaultValue = invoke.load(0);
+                parseMethod = Methods.INTEGER_PARSE_INT;
+                break;
+            case LONG:
+                paramHandle = invoke.createVariable(long.class);
+                defaultValue = invoke.load(0L);
+                parseMethod = Methods.LONG_PARSE_LONG;
+                break;
+            case BOOLEAN:
+                paramHandle = invoke.createVariable(boolean.class);
+                defaultValue = invoke.load(false);
+                parseMethod = Methods.BOOLEAN_PARSE_BOOLEAN;
+                break;
+            case CHAR:
+                paramHandle = invoke.createVariable(char.class);
+                defaultValue = invoke.load(0);
+                parseMethod = Methods.STRING_CHAR_AT;
+                break;
+            case FLOAT:
+                paramHandle = invoke.createVariable(float.class);
+                defaultValue = invoke.load(0.0f);
+                parseMethod = Methods.FLOAT_PARSE_FLOAT;
+                break;
+            case DOUBLE:
+                paramHandle = invoke.createVariable(double.class);
+                defaultValue = invoke.load(0.0d);
+                parseMethod = Methods.DOUBLE_PARSE_DOUBLE;
+                break;
+            case BYTE:
+                paramHandle = invoke.createVariable(byte.class);
+                defaultValue = invoke.load(0);
+                parseMethod = Methods.BYTE_PARSE_BYTE;
+                break;
+            case SHORT:
+                paramHandle = invoke.createVariable(short.class);
+                defaultValue = invoke.load(0);
+                parseMethod = Methods.SHORT_PARSE_SHORT;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported param type: " + paramType);
+        }
+        // A missing value results in the default value of the primitive type
+        invoke.assign(paramHandle, defaultValue);
+        BytecodeCreator notNull = invoke.ifNotNull(value).trueBranch();
+        TryBlock tryBlock = notNull.tryBlock();
+        CatchBlockCreator catchBlock = tryBlock.addCatch(Throwable.class);
+        catchBlock.throwException(IllegalArgumentException.class,
+                "Error converting parameter at position " + position + " of method " + method,
+                catchBlock.getCaughtException());
+        if (paramType.primitive() == PrimitiveType.Primitive.CHAR) {
+            tryBlock.assign(paramHandle, tryBlock.invokeVirtualMethod(parseMethod, value, tryBlock.load(0)));
+        } else {
+            tryBlock.assign(paramHandle, tryBlock.invokeStaticMethod(parseMethod, value));
+        }
+        return paramHandle;
+    }
+
     interface ResultHandleProvider {
 
         ResultHandle get(MethodInfo method, Type paramType, Set<AnnotationInstance> annotations,
@@ -0,0 +1,50 @@
+package io.quarkus.vertx.web.context;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.web.Route;
+
+public class NoRequestContextRequestScopedDependencyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(MyRoutes.class, Counter.class))
+            .setExpectedException(IllegalStateException.class);
+
+    @Test
+    public void testValidationFailed() {
+        fail();
+    }
+
+    @Singleton
+    static class MyRoutes {
+
+        @Inject
+        Counter counter;
+
+        @Route(path = "no-context", requestContext = false)
+        String noContext() {
+            return "" + counter.get();
+        }
+
+    }
+
+    @RequestScoped
+    static class Counter {
+
+        int get() {
+            return 1;
+        }
+
+    }
+
+}
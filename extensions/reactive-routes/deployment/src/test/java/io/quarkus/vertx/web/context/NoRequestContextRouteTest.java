@@ -0,0 +1,44 @@
+package io.quarkus.vertx.web.context;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.is;
+
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.web.Param;
+import io.quarkus.vertx.web.Route;
+
+public class NoRequestContextRouteTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(MyRoutes.class));
+
+    @Test
+    public void testRequestContext() {
+        get("/no-context?id=1").then().statusCode(200).body(is("1:false"));
+        get("/context?id=2").then().statusCode(200).body(is("2:true"));
+    }
+
+    @Singleton
+    static class MyRoutes {
+
+        @Route(path = "no-context", requestContext = false)
+        String noContext(@Param int id) {
+            return id + ":" + Arc.container().requestContext().isActive();
+        }
+
+        @Route(path = "context")
+        String context(@Param int id) {
+            return id + ":" + Arc.container().requestContext().isActive();
+        }
+
+    }
+
+}
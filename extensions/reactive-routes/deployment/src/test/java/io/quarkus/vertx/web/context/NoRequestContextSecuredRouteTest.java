@@ -0,0 +1,38 @@
+package io.quarkus.vertx.web.context;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import javax.annotation.security.RolesAllowed;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.web.Route;
+
+public class NoRequestContextSecuredRouteTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(MyRoutes.class))
+            .setExpectedException(IllegalStateException.class);
+
+    @Test
+    public void testValidationFailed() {
+        fail();
+    }
+
+    @Singleton
+    static class MyRoutes {
+
+        @RolesAllowed("admin")
+        @Route(path = "no-context", requestContext = false)
+        String noContext() {
+            return "secret";
+        }
+
+    }
+
+}
@@ -71,6 +71,13 @@ public class RouteMethodParametersTest {
                 .body(is("hello 42"));
         when().get("/hello-param-conversion-optional?id=1").then().statusCode(200)
                 .body(is("hello 1"));
+        when().get("/hello-primitive-params?id=22&size=100&valid=true&ratio=0.5&initial=q").then().statusCode(200)
+                .body(is("id=22,size=100,valid=true,ratio=0.5,initial=q"));
+        when().get("/hello-primitive-params?initial=q").then().statusCode(200)
+                .body(is("id=0,size=0,valid=false,ratio=0.0,initial=q"));
+        when().get("/hello-primitive-params?id=foo").then().statusCode(500);
+        given().header("My-Number-Header", "7").get("/hello-primitive-header").then().statusCode(200)
+                .body(is("8"));
     }
 
     static class SimpleBean {
@@ -177,6 +184,17 @@ public class RouteMethodParametersTest {
             return "hello " + id;
         }
 
+        @Route
+        String helloPrimitiveParams(@Param int id, @Param long size, @Param boolean valid, @Param double ratio,
+                @Param char initial) {
+            return String.format("id=%s,size=%s,valid=%s,ratio=%s,initial=%s", id, size, valid, ratio, initial);
+        }
+
+        @Route
+        String helloPrimitiveHeader(@Header("My-Number-Header") short numberHeader) {
+            return String.valueOf(numberHeader + 1);
+        }
+
     }
 
     public static class Person {
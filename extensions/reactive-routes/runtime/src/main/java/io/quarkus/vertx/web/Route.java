@@ -166,6 +166,19 @@ public @interface Route {
      */
     String[] consumes() default {};
 
+    /**
+     * If set to {@code false} the CDI request context is not activated for the route unless it is already active, e.g.
+     * activated by a {@link RouteFilter}.
+     * <p>
+     * This avoids the cost of creating and destroying the request context for each request, which is noticeable for
+     * routes that handle a large number of small requests. However, such a route cannot make use of {@code @RequestScoped}
+     * beans and the current {@code SecurityIdentity} is not associated with the request. The build fails if the declaring
+     * bean is {@code @RequestScoped} or if it injects a {@code @RequestScoped} bean.
+     *
+     * @return {@code true} if the request context should be activated for the route
+     */
+    boolean requestContext() default true;
+
     enum HandlerType {
 
         /**
@@ -27,8 +27,19 @@ public abstract class RouteHandler implements Handler<RoutingContext> {
     private final CurrentIdentityAssociation currentIdentityAssociation;
     private final CurrentVertxRequest currentVertxRequest;
     private final ManagedContext requestContext;
+    private final boolean activateRequestContext;
 
     public RouteHandler() {
+        this(true);
+    }
+
+    /**
+     *
+     * @param activateRequestContext {@code false} if the request context should not be activated for the route
+     * @see Route#requestContext()
+     */
+    public RouteHandler(boolean activateRequestContext) {
+        this.activateRequestContext = activateRequestContext;
         this.securityIdentityEvent = Arc.container().beanManager().getEvent().select(SecurityIdentity.class);
         this.currentVertxRequest = Arc.container().instance(CurrentVertxRequest.class).get();
         this.requestContext = Arc.container().requestContext();
@@ -59,6 +70,9 @@ public abstract class RouteHandler implements Handler<RoutingContext> {
                 securityIdentityEvent.fire(user.getSecurityIdentity());
             }
             invoke(context);
+        } else if (!activateRequestContext) {
+            // The route does not need the request context - skip the activation and the identity association
+            invoke(context);
         } else {
             try {
                 // First attempt to obtain the request context state.
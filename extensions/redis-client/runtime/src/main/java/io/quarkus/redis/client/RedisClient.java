@@ -6,6 +6,7 @@ import java.util.List;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.redis.client.runtime.RedisClientsProducer;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 /**
@@ -38,6 +39,25 @@ public interface RedisClient {
 
     void close();
 
+    /**
+     * Sends the given commands to Redis in a single write, without waiting for the response of a command before sending the
+     * next one. The commands are not executed atomically, other clients can send commands in between.
+     *
+     * @param commands the commands, e.g. {@code Request.cmd(Command.SET).arg("key").arg("value")}
+     * @return the responses of the commands, in the same order as the commands
+     */
+    List<Response> batch(List<Request> commands);
+
+    /**
+     * Sends the given commands to Redis in a single write, wrapped in a {@code MULTI}/{@code EXEC} transaction. All the
+     * commands are sent on the same connection and are executed atomically. In a Redis cluster, all the keys used by the
+     * commands must belong to the same hash slot.
+     *
+     * @param commands the commands, e.g. {@code Request.cmd(Command.INCR).arg("counter")}
+     * @return the responses of the commands, in the same order as the commands
+     */
+    List<Response> transaction(List<Request> commands);
+
     Response append(String arg0, String arg1);
 
     Response asking();
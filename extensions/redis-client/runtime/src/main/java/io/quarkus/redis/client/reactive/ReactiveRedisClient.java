@@ -8,6 +8,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.runtime.RedisClientsProducer;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 /**
@@ -38,6 +39,29 @@ public interface ReactiveRedisClient {
 
     void close();
 
+    /**
+     * Sends the given commands to Redis in a single write, without waiting for the response of a command before sending the
+     * next one. The commands are not executed atomically, other clients can send commands in between.
+     *
+     * @param commands the commands, e.g. {@code Request.cmd(Command.SET).arg("key").arg("value")}
+     * @return the responses of the commands, in the same order as the commands
+     */
+    Uni<List<Response>> batch(List<Request> commands);
+
+    List<Response> batchAndAwait(List<Request> commands);
+
+    /**
+     * Sends the given commands to Redis in a single write, wrapped in a {@code MULTI}/{@code EXEC} transaction. All the
+     * commands are sent on the same connection and are executed atomically. In a Redis cluster, all the keys used by the
+     * commands must belong to the same hash slot.
+     *
+     * @param commands the commands, e.g. {@code Request.cmd(Command.INCR).arg("counter")}
+     * @return the responses of the commands, in the same order as the commands
+     */
+    Uni<List<Response>> transaction(List<Request> commands);
+
+    List<Response> transactionAndAwait(List<Request> commands);
+
     Uni<Response> append(String arg0, String arg1);
 
     Response appendAndAwait(String arg0, String arg1);
@@ -4,13 +4,17 @@ import java.util.List;
 
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 class ReactiveRedisClientImpl implements ReactiveRedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
 
-    public ReactiveRedisClientImpl(RedisAPI redisAPI) {
+    public ReactiveRedisClientImpl(Redis redis, RedisAPI redisAPI) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
     }
 
@@ -19,6 +23,26 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public Uni<List<Response>> batch(List<Request> commands) {
+        return RedisCommandBatch.batch(redis, commands);
+    }
+
+    @Override
+    public List<Response> batchAndAwait(List<Request> commands) {
+        return batch(commands).await().indefinitely();
+    }
+
+    @Override
+    public Uni<List<Response>> transaction(List<Request> commands) {
+        return RedisCommandBatch.transaction(redis, commands);
+    }
+
+    @Override
+    public List<Response> transactionAndAwait(List<Request> commands) {
+        return transaction(commands).await().indefinitely();
+    }
+
     @Override
     public Uni<Response> append(String arg0, String arg1) {
         return redisAPI.append(arg0, arg1);
@@ -5,7 +5,7 @@ import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
 
-class RedisAPIContainer {
+public class RedisAPIContainer {
     private final Redis redis;
 
     private final RedisAPI redisAPI;
@@ -37,8 +37,8 @@ public class RedisClientsProducer {
                 RedisAPI redisAPI = RedisAPI.api(redis);
                 MutinyRedis mutinyRedis = new MutinyRedis(redis);
                 MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-                RedisClient redisClient = new RedisClientImpl(mutinyRedisAPI, timeout);
-                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI);
+                RedisClient redisClient = new RedisClientImpl(mutinyRedis, mutinyRedisAPI, timeout);
+                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedis, mutinyRedisAPI);
                 return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI);
             }
         });
@@ -52,7 +52,7 @@ public class RedisClientsProducer {
         Redis redis = Redis.createClient(vertx, options);
         RedisAPI redisAPI = RedisAPI.api(redis);
         MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-        return new RedisClientImpl(mutinyRedisAPI, timeout);
+        return new RedisClientImpl(new MutinyRedis(redis), mutinyRedisAPI, timeout);
     }
 
     public ReactiveRedisClient getReactiveRedisClient(String name) {
@@ -62,7 +62,7 @@ public class RedisClientsProducer {
         Redis redis = Redis.createClient(vertx, options);
         RedisAPI redisAPI = RedisAPI.api(redis);
         MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-        return new ReactiveRedisClientImpl(mutinyRedisAPI);
+        return new ReactiveRedisClientImpl(new MutinyRedis(redis), mutinyRedisAPI);
     }
 
     public static void close() {
@@ -0,0 +1,65 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+
+/**
+ * Sends several commands to Redis in a single write, optionally wrapped in a {@code MULTI}/{@code EXEC} transaction.
+ */
+final class RedisCommandBatch {
+
+    private RedisCommandBatch() {
+    }
+
+    static Uni<List<Response>> batch(Redis redis, List<Request> commands) {
+        if (commands.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        return redis.batch(commands);
+    }
+
+    static Uni<List<Response>> transaction(Redis redis, List<Request> commands) {
+        if (commands.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        List<Request> requests = new ArrayList<>(commands.size() + 2);
+        requests.add(Request.cmd(Command.MULTI));
+        requests.addAll(commands);
+        requests.add(Request.cmd(Command.EXEC));
+        // MULTI, the commands and EXEC must be sent on the same connection
+        return redis.connect().onItem().transformToUni(new Function<RedisConnection, Uni<? extends List<Response>>>() {
+            @Override
+            public Uni<? extends List<Response>> apply(RedisConnection connection) {
+                return connection.batch(requests).eventually(new Runnable() {
+                    @Override
+                    public void run() {
+                        connection.close();
+                    }
+                });
+            }
+        }).onItem().transform(new Function<List<Response>, List<Response>>() {
+            @Override
+            public List<Response> apply(List<Response> responses) {
+                // The responses of MULTI and of the queued commands are just QUEUED, the results are returned by EXEC
+                Response exec = responses.get(responses.size() - 1);
+                if (exec == null) {
+                    throw new IllegalStateException("The Redis transaction was aborted");
+                }
+                List<Response> results = new ArrayList<>(exec.size());
+                for (int i = 0; i < exec.size(); i++) {
+                    results.add(exec.get(i));
+                }
+                return results;
+            }
+        });
+    }
+}
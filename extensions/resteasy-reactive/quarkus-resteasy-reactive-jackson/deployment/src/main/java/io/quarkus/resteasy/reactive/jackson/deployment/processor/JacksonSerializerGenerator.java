@@ -0,0 +1,344 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a Jackson {@link StdSerializer} for a plain class, writing the properties of the class directly instead of
+ * going through the reflection based {@code BeanSerializer}.
+ * <p>
+ * Only classes for which the generated serializer produces the same output as the default Jackson serializer are
+ * supported, see {@link #isSupported(ClassInfo)}.
+ */
+final class JacksonSerializerGenerator {
+
+    static final String SERIALIZER_SUFFIX = "$quarkusjacksonserializer";
+
+    private static final String JACKSON_PACKAGE_PREFIX = "com.fasterxml.jackson.";
+    // java.beans.Transient is supported by Jackson and Kotlin classes are handled by the Kotlin module
+    private static final String JAVA_BEANS_PACKAGE_PREFIX = "java.beans.";
+    private static final DotName KOTLIN_METADATA = DotName.createSimple("kotlin.Metadata");
+
+    private static final int ACC_BRIDGE = 0x0040;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final MethodDescriptor WRITE_START_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStartObject", void.class, Object.class);
+    private static final MethodDescriptor SET_CURRENT_VALUE = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "setCurrentValue", void.class, Object.class);
+    private static final MethodDescriptor WRITE_END_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeEndObject", void.class);
+    private static final MethodDescriptor WRITE_STRING_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStringField", void.class, String.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeBooleanField", void.class, String.class, boolean.class);
+    private static final MethodDescriptor WRITE_INT_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, int.class);
+    private static final MethodDescriptor WRITE_LONG_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, long.class);
+    private static final MethodDescriptor WRITE_FLOAT_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, float.class);
+    private static final MethodDescriptor WRITE_DOUBLE_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, double.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_FIELD = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeField", void.class, String.class, Object.class, JsonGenerator.class);
+    private static final MethodDescriptor TYPE_ID = MethodDescriptor.ofMethod(TypeSerializer.class, "typeId",
+            WritableTypeId.class, Object.class, JsonToken.class);
+    private static final MethodDescriptor WRITE_TYPE_PREFIX = MethodDescriptor.ofMethod(TypeSerializer.class,
+            "writeTypePrefix", WritableTypeId.class, JsonGenerator.class, WritableTypeId.class);
+    private static final MethodDescriptor WRITE_TYPE_SUFFIX = MethodDescriptor.ofMethod(TypeSerializer.class,
+            "writeTypeSuffix", WritableTypeId.class, JsonGenerator.class, WritableTypeId.class);
+    private static final FieldDescriptor START_OBJECT = FieldDescriptor.of(JsonToken.class, "START_OBJECT",
+            JsonToken.class);
+    private static final MethodDescriptor CHARACTER_VALUE_OF = MethodDescriptor.ofMethod(Character.class, "valueOf",
+            Character.class, char.class);
+
+    private final IndexView index;
+
+    JacksonSerializerGenerator(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * @return the class for which a serializer can be generated, or {@code null} if the given type is not supported
+     */
+    ClassInfo supportedClass(Type type) {
+        if (type.kind() != Type.Kind.CLASS) {
+            return null;
+        }
+        ClassInfo classInfo = index.getClassByName(type.name());
+        if (classInfo == null || !isSupported(classInfo)) {
+            return null;
+        }
+        return classInfo;
+    }
+
+    /**
+     * A class is supported if it is a public, non generic, concrete class that directly extends {@code Object}, has at
+     * least one property and doesn't use any annotation that would change the way Jackson serializes it. The annotations
+     * of the implemented interfaces are inherited by Jackson, so they must not use such annotations either.
+     */
+    boolean isSupported(ClassInfo classInfo) {
+        if (!Modifier.isPublic(classInfo.flags()) || Modifier.isAbstract(classInfo.flags())
+                || Modifier.isInterface(classInfo.flags()) || classInfo.isEnum()
+                || classInfo.nestingType() == ClassInfo.NestingType.ANONYMOUS
+                || classInfo.nestingType() == ClassInfo.NestingType.LOCAL) {
+            return false;
+        }
+        if (!classInfo.typeParameters().isEmpty() || classInfo.superName() == null
+                || !classInfo.superName().equals(ResteasyReactiveDotNames.OBJECT)) {
+            return false;
+        }
+        if (classInfo.name().toString().startsWith("java.")) {
+            return false;
+        }
+        if (hasJacksonAnnotations(classInfo)) {
+            return false;
+        }
+        return !properties(classInfo).isEmpty();
+    }
+
+    private boolean hasJacksonAnnotations(ClassInfo classInfo) {
+        for (DotName annotation : classInfo.annotations().keySet()) {
+            String annotationName = annotation.toString();
+            if (annotationName.startsWith(JACKSON_PACKAGE_PREFIX) || annotationName.startsWith(JAVA_BEANS_PACKAGE_PREFIX)
+                    || annotation.equals(KOTLIN_METADATA)) {
+                return true;
+            }
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (interfaceName.toString().startsWith("java.")) {
+                continue;
+            }
+            ClassInfo interfaceInfo = index.getClassByName(interfaceName);
+            // The annotations of an interface that is not indexed are unknown
+            if (interfaceInfo == null || hasJacksonAnnotations(interfaceInfo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the types of the properties of the given class
+     */
+    List<Type> propertyTypes(ClassInfo classInfo) {
+        List<Type> types = new ArrayList<>();
+        for (Property property : properties(classInfo).values()) {
+            types.add(property.type());
+        }
+        return types;
+    }
+
+    /**
+     * Generates the serializer of the given class and returns its name.
+     * <p>
+     * Besides {@code serialize}, the serializer implements {@code serializeWithType}, which is used when a type id is
+     * written along with the value, e.g. for a property annotated with {@code @JsonTypeInfo} in another class.
+     */
+    String generate(ClassInfo classInfo, ClassOutput classOutput) {
+        String className = classInfo.name().toString();
+        String serializerClassName = className + SERIALIZER_SUFFIX;
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className(serializerClassName)
+                .superClass(StdSerializer.class)
+                .build()) {
+
+            MethodCreator constructor = classCreator.getMethodCreator("<init>", void.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(StdSerializer.class, Class.class),
+                    constructor.getThis(), constructor.loadClass(className));
+            constructor.returnValue(null);
+
+            MethodCreator serialize = classCreator.getMethodCreator("serialize", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class);
+            serialize.addException(IOException.class);
+            ResultHandle value = serialize.checkCast(serialize.getMethodParam(0), className);
+            ResultHandle generator = serialize.getMethodParam(1);
+            ResultHandle provider = serialize.getMethodParam(2);
+
+            serialize.invokeVirtualMethod(WRITE_START_OBJECT, generator, value);
+            writeProperties(serialize, classInfo, value, generator, provider);
+            serialize.invokeVirtualMethod(WRITE_END_OBJECT, generator);
+            serialize.returnValue(null);
+
+            // Same as BeanSerializerBase.serializeWithType(), the type id handling writes the start and end of the object
+            MethodCreator serializeWithType = classCreator.getMethodCreator("serializeWithType", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class, TypeSerializer.class);
+            serializeWithType.addException(IOException.class);
+            value = serializeWithType.checkCast(serializeWithType.getMethodParam(0), className);
+            generator = serializeWithType.getMethodParam(1);
+            provider = serializeWithType.getMethodParam(2);
+            ResultHandle typeSerializer = serializeWithType.getMethodParam(3);
+
+            serializeWithType.invokeVirtualMethod(SET_CURRENT_VALUE, generator, value);
+            ResultHandle typeId = serializeWithType.invokeVirtualMethod(TYPE_ID, typeSerializer, value,
+                    serializeWithType.readStaticField(START_OBJECT));
+            typeId = serializeWithType.invokeVirtualMethod(WRITE_TYPE_PREFIX, typeSerializer, generator, typeId);
+            writeProperties(serializeWithType, classInfo, value, generator, provider);
+            serializeWithType.invokeVirtualMethod(WRITE_TYPE_SUFFIX, typeSerializer, generator, typeId);
+            serializeWithType.returnValue(null);
+        }
+        return serializerClassName;
+    }
+
+    private void writeProperties(BytecodeCreator serialize, ClassInfo classInfo, ResultHandle value,
+            ResultHandle generator, ResultHandle provider) {
+        for (Map.Entry<String, Property> entry : properties(classInfo).entrySet()) {
+            Property property = entry.getValue();
+            ResultHandle name = serialize.load(entry.getKey());
+            ResultHandle propertyValue = property.getter != null
+                    ? serialize.invokeVirtualMethod(MethodDescriptor.of(property.getter), value)
+                    : serialize.readInstanceField(property.field, value);
+            writeProperty(serialize, property.type(), name, propertyValue, generator, provider);
+        }
+    }
+
+    private void writeProperty(BytecodeCreator serialize, Type type, ResultHandle name, ResultHandle value,
+            ResultHandle generator, ResultHandle provider) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            switch (primitive) {
+                case BOOLEAN:
+                    serialize.invokeVirtualMethod(WRITE_BOOLEAN_FIELD, generator, name, value);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    serialize.invokeVirtualMethod(WRITE_INT_FIELD, generator, name, value);
+                    return;
+                case LONG:
+                    serialize.invokeVirtualMethod(WRITE_LONG_FIELD, generator, name, value);
+                    return;
+                case FLOAT:
+                    serialize.invokeVirtualMethod(WRITE_FLOAT_FIELD, generator, name, value);
+                    return;
+                case DOUBLE:
+                    serialize.invokeVirtualMethod(WRITE_DOUBLE_FIELD, generator, name, value);
+                    return;
+                case CHAR:
+                    // Jackson writes characters as strings, let it handle it
+                    serialize.invokeVirtualMethod(DEFAULT_SERIALIZE_FIELD, provider, name,
+                            serialize.invokeStaticMethod(CHARACTER_VALUE_OF, value), generator);
+                    return;
+                default:
+                    throw new IllegalStateException("Unsupported primitive type " + primitive);
+            }
+        }
+        if (type.name().equals(ResteasyReactiveDotNames.STRING)) {
+            serialize.invokeVirtualMethod(WRITE_STRING_FIELD, generator, name, value);
+            return;
+        }
+        // Other types are serialized by the serializers configured on the ObjectMapper
+        serialize.invokeVirtualMethod(DEFAULT_SERIALIZE_FIELD, provider, name, value, generator);
+    }
+
+    /**
+     * Collects the properties the same way the default Jackson configuration does: public getters and public fields,
+     * a getter taking precedence over a field with the same name. The properties are ordered by field declaration
+     * order, followed by the getters that don't have a matching field.
+     */
+    private Map<String, Property> properties(ClassInfo classInfo) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (FieldInfo field : classInfo.unsortedFields()) {
+            if (Modifier.isStatic(field.flags()) || (field.flags() & ACC_SYNTHETIC) != 0) {
+                continue;
+            }
+            Property property = new Property();
+            if (Modifier.isPublic(field.flags()) && !Modifier.isTransient(field.flags())) {
+                property.field = field;
+            }
+            properties.put(field.name(), property);
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            String name = getterPropertyName(method);
+            if (name != null) {
+                properties.computeIfAbsent(name, k -> new Property()).getter = method;
+            }
+        }
+        List<String> withoutAccessor = new ArrayList<>();
+        for (Map.Entry<String, Property> entry : properties.entrySet()) {
+            if (entry.getValue().field == null && entry.getValue().getter == null) {
+                withoutAccessor.add(entry.getKey());
+            }
+        }
+        for (String name : withoutAccessor) {
+            properties.remove(name);
+        }
+        return properties;
+    }
+
+    private static String getterPropertyName(MethodInfo method) {
+        if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags())
+                || (method.flags() & (ACC_BRIDGE | ACC_SYNTHETIC)) != 0
+                || !method.parameters().isEmpty() || !method.typeParameters().isEmpty()
+                || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        if (name.startsWith("get") && name.length() > 3) {
+            return manglePropertyName(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            return manglePropertyName(name.substring(2));
+        }
+        return null;
+    }
+
+    /**
+     * Same as the legacy Jackson property name mangling: all the leading upper case characters are lower cased.
+     */
+    private static String manglePropertyName(String basename) {
+        StringBuilder sb = null;
+        for (int i = 0; i < basename.length(); i++) {
+            char upper = basename.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(basename);
+            }
+            sb.setCharAt(i, lower);
+        }
+        return sb == null ? basename : sb.toString();
+    }
+
+    private static final class Property {
+
+        FieldInfo field;
+        MethodInfo getter;
+
+        Type type() {
+            return getter != null ? getter.returnType() : field.type();
+        }
+    }
+}
@@ -3,8 +3,10 @@ package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_NDJSON;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_STREAM_JSON;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -33,14 +35,17 @@ import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
@@ -54,6 +59,7 @@ import io.quarkus.resteasy.reactive.jackson.runtime.mappers.NativeInvalidDefinit
 import io.quarkus.resteasy.reactive.jackson.runtime.security.SecurityCustomSerialization;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersCustomizer;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyWriter;
@@ -269,29 +275,10 @@ public class ResteasyReactiveJacksonProcessor {
                 continue;
             }
 
-            Type returnType = methodInfo.returnType();
-            if (returnType.kind() == Type.Kind.VOID) {
+            Type effectiveReturnType = getEffectiveReturnType(methodInfo.returnType());
+            if (effectiveReturnType == null) {
                 continue;
             }
-            Type effectiveReturnType = returnType;
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
-                if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
-                    continue;
-                }
-
-                effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
-            }
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
-            } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
-            }
 
             ClassInfo effectiveReturnClassInfo = indexView.getClassByName(effectiveReturnType.name());
             if ((effectiveReturnClassInfo == null) || effectiveReturnClassInfo.name().equals(ResteasyReactiveDotNames.OBJECT)) {
@@ -330,6 +317,87 @@ public class ResteasyReactiveJacksonProcessor {
         }
     }
 
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void generateSerializers(ResteasyReactiveServerJacksonConfig config,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClassProducer,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeanProducer,
+            ResteasyReactiveServerJacksonRecorder recorder, ShutdownContextBuildItem shutdown) {
+        if (!config.generateSerializers) {
+            return;
+        }
+        IndexView indexView = index.getIndex();
+        JacksonSerializerGenerator generator = new JacksonSerializerGenerator(indexView);
+        Deque<Type> types = new ArrayDeque<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            Type effectiveReturnType = getEffectiveReturnType(entry.getMethodInfo().returnType());
+            if (effectiveReturnType != null) {
+                types.add(effectiveReturnType);
+            }
+        }
+
+        // The types of the properties of the returned classes get a generated serializer too
+        Set<DotName> processed = new HashSet<>();
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClassProducer, true);
+        while (!types.isEmpty()) {
+            ClassInfo classInfo = generator.supportedClass(types.poll());
+            if (classInfo == null || !processed.add(classInfo.name())
+                    || classInfo.annotations().containsKey(SECURE_FIELD)) {
+                continue;
+            }
+            String serializerClassName = generator.generate(classInfo, classOutput);
+            recorder.recordGeneratedSerializer(classInfo.name().toString(), serializerClassName);
+            for (Type propertyType : generator.propertyTypes(classInfo)) {
+                Type effectivePropertyType = getEffectiveReturnType(propertyType);
+                if (effectivePropertyType != null) {
+                    types.add(effectivePropertyType);
+                }
+            }
+        }
+        if (!processed.isEmpty()) {
+            log.debugf("Generated Jackson serializers for %s", processed);
+            additionalBeanProducer.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersCustomizer.class));
+            recorder.configureShutdown(shutdown);
+        }
+    }
+
+    /**
+     * @return the type actually serialized for the given return type, or {@code null} if it can't be determined
+     */
+    private static Type getEffectiveReturnType(Type returnType) {
+        if (returnType.kind() == Type.Kind.VOID) {
+            return null;
+        }
+        Type effectiveReturnType = returnType;
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+
+            effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
+        } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
+        }
+        return effectiveReturnType;
+    }
+
     private String getMethodId(MethodInfo methodInfo) {
         return getMethodId(methodInfo, methodInfo.declaringClass());
     }
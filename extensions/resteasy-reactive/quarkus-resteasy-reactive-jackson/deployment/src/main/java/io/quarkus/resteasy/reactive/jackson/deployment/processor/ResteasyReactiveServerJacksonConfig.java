@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson")
+public class ResteasyReactiveServerJacksonConfig {
+
+    /**
+     * If enabled, Jackson serializers are generated at build time for the types returned by the resource methods,
+     * instead of being built using reflection on first use.
+     * <p>
+     * Serializers are only generated for plain classes: classes that directly extend {@code Object}, are not generic and
+     * don't use any Jackson annotation. The generated serializers are not used if the {@code ObjectMapper} uses a property
+     * naming strategy, a non-default property inclusion or visibility, or sorts the properties alphabetically.
+     * <p>
+     * Only serializers are generated, the request bodies are still read by the default Jackson deserializers.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean generateSerializers;
+}
@@ -0,0 +1,170 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class GeneratedSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Order.class, Customer.class, Annotated.class, Holder.class,
+                    OrderResource.class))
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.generate-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testGeneratedSerializersAreUsed() throws JsonMappingException {
+        assertTrue(serializerClassName(Order.class).endsWith("$quarkusjacksonserializer"));
+        assertTrue(serializerClassName(Customer.class).endsWith("$quarkusjacksonserializer"));
+        // classes using Jackson annotations keep using the default serializer
+        assertTrue(serializerClassName(Annotated.class).startsWith("com.fasterxml.jackson"));
+    }
+
+    @Test
+    public void testSerialization() {
+        RestAssured.get("/orders")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.equalTo("[{\"id\":1,\"reference\":\"ref-1\",\"amount\":10.5,\"paid\":true,"
+                        + "\"customer\":{\"name\":\"Bob\",\"email\":null},\"date\":\"2022-01-15\",\"urlpath\":\"/1\"},"
+                        + "{\"id\":2,\"reference\":\"ref-2\",\"amount\":0.0,\"paid\":false,"
+                        + "\"customer\":{\"name\":\"Alice\",\"email\":\"alice@example.com\"},\"date\":null,\"urlpath\":\"/2\"}]"));
+        RestAssured.get("/orders/annotated")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("{\"renamed\":\"value\"}"));
+    }
+
+    @Test
+    public void testDefaultSerializerUsedWithCustomVisibility() throws JsonMappingException {
+        ObjectMapper custom = objectMapper.copy().setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        assertTrue(serializerClassName(custom, Order.class).startsWith("com.fasterxml.jackson"));
+        assertTrue(serializerClassName(objectMapper, Order.class).endsWith("$quarkusjacksonserializer"));
+    }
+
+    @Test
+    public void testSerializationWithTypeId() throws JsonProcessingException {
+        assertEquals("{\"value\":{\"@class\":\"" + Customer.class.getName()
+                + "\",\"name\":\"Bob\",\"email\":null}}",
+                objectMapper.writeValueAsString(new Holder(new Customer("Bob", null))));
+    }
+
+    private String serializerClassName(Class<?> type) throws JsonMappingException {
+        return serializerClassName(objectMapper, type);
+    }
+
+    private static String serializerClassName(ObjectMapper mapper, Class<?> type) throws JsonMappingException {
+        return mapper.getSerializerProviderInstance().findValueSerializer(type).getClass().getName();
+    }
+
+    @Path("/orders")
+    public static class OrderResource {
+
+        @GET
+        public List<Order> orders() {
+            return List.of(new Order(1, "ref-1", 10.5, true, new Customer("Bob", null), LocalDate.of(2022, 1, 15)),
+                    new Order(2, "ref-2", 0, false, new Customer("Alice", "alice@example.com"), null));
+        }
+
+        @GET
+        @Path("/annotated")
+        public Annotated annotated() {
+            return new Annotated("value");
+        }
+    }
+
+    public static class Order {
+
+        public final long id;
+        private final String reference;
+        private final double amount;
+        private final boolean paid;
+        public final Customer customer;
+        private final LocalDate date;
+
+        public Order(long id, String reference, double amount, boolean paid, Customer customer, LocalDate date) {
+            this.id = id;
+            this.reference = reference;
+            this.amount = amount;
+            this.paid = paid;
+            this.customer = customer;
+            this.date = date;
+        }
+
+        public String getReference() {
+            return reference;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public String getURLPath() {
+            return "/" + id;
+        }
+    }
+
+    public static class Customer {
+
+        public String name;
+        public String email;
+
+        public Customer(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+    }
+
+    public static class Holder {
+
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        public Object value;
+
+        public Holder(Object value) {
+            this.value = value;
+        }
+    }
+
+    public static class Annotated {
+
+        @JsonProperty("renamed")
+        public String value;
+
+        public Annotated(String value) {
+            this.value = value;
+        }
+    }
+}
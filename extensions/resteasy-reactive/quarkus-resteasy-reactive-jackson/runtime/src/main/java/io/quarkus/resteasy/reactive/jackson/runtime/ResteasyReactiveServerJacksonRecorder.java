@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiFunction;
 
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
@@ -16,6 +17,7 @@ public class ResteasyReactiveServerJacksonRecorder {
 
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
+    private static final Map<Class<?>, JsonSerializer<?>> generatedSerializers = new HashMap<>();
 
     public void recordJsonView(String methodId, String className) {
         jsonViewMap.put(methodId, loadClass(className));
@@ -25,12 +27,22 @@ public class ResteasyReactiveServerJacksonRecorder {
         customSerializationMap.put(methodId, loadClass(className));
     }
 
+    public void recordGeneratedSerializer(String className, String serializerClassName) {
+        try {
+            generatedSerializers.put(loadClass(className),
+                    (JsonSerializer<?>) loadClass(serializerClassName).getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to create the generated serializer of class '" + className + "'", e);
+        }
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
             public void run() {
                 jsonViewMap.clear();
                 customSerializationMap.clear();
+                generatedSerializers.clear();
             }
         });
     }
@@ -44,6 +56,10 @@ public class ResteasyReactiveServerJacksonRecorder {
         return (Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>>) customSerializationMap.get(methodId);
     }
 
+    public static Map<Class<?>, JsonSerializer<?>> generatedSerializers() {
+        return generatedSerializers;
+    }
+
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
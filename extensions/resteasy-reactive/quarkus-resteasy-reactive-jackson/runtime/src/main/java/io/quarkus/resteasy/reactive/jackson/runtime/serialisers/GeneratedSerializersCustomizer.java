@@ -0,0 +1,92 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.util.Map;
+
+import javax.inject.Singleton;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+
+/**
+ * Registers the serializers generated at build time for the types returned by the resource methods.
+ * <p>
+ * This customizer is applied first so that the serializers registered by the application take precedence.
+ */
+@Singleton
+public class GeneratedSerializersCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        Map<Class<?>, JsonSerializer<?>> serializers = ResteasyReactiveServerJacksonRecorder.generatedSerializers();
+        if (serializers.isEmpty()) {
+            return;
+        }
+        SimpleModule module = new SimpleModule("quarkus-generated-serializers");
+        module.setSerializers(new GeneratedSerializers(serializers));
+        objectMapper.registerModule(module);
+    }
+
+    @Override
+    public int priority() {
+        return Integer.MAX_VALUE;
+    }
+
+    static final class GeneratedSerializers extends Serializers.Base {
+
+        private final Map<Class<?>, JsonSerializer<?>> serializers;
+
+        GeneratedSerializers(Map<Class<?>, JsonSerializer<?>> serializers) {
+            this.serializers = serializers;
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonSerializer<?> serializer = serializers.get(type.getRawClass());
+            if (serializer == null || !isDefaultConfig(config, type, beanDesc)) {
+                return null;
+            }
+            return serializer;
+        }
+
+        /**
+         * The generated serializers write the public fields and getters, named after the fields and getters, in
+         * declaration order. Fall back to the default serializer if the configuration of the {@code ObjectMapper} would
+         * change that.
+         */
+        private static boolean isDefaultConfig(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            Class<?> rawClass = type.getRawClass();
+            if (config.getPropertyNamingStrategy() != null
+                    || config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                    || !config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                    || config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+                    || config.isEnabled(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS)
+                    || config.isEnabled(MapperFeature.PROPAGATE_TRANSIENT_MARKER)
+                    || !config.isEnabled(MapperFeature.AUTO_DETECT_FIELDS)
+                    || !config.isEnabled(MapperFeature.AUTO_DETECT_GETTERS)
+                    || !config.isEnabled(MapperFeature.AUTO_DETECT_IS_GETTERS)
+                    || config.findMixInClassFor(rawClass) != null
+                    || config.getDefaultTyper(type) != null) {
+                return false;
+            }
+            // The visibility checker is only replaced when the default visibility is changed, either globally or for
+            // this type
+            if (config.getDefaultVisibilityChecker(rawClass, beanDesc.getClassInfo()) != VisibilityChecker.Std
+                    .defaultInstance()) {
+                return false;
+            }
+            JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(rawClass).getValueInclusion();
+            return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
+import java.util.Collections;
+
+import javax.ws.rs.core.MediaType;
+
 import org.jboss.jandex.DotName;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateInstanceMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -23,6 +31,16 @@ public class ResteasyReactiveQuteProcessor {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    void registerWriter(BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<MessageBodyWriterBuildItem> additionalWriters) {
+        additionalBean.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClass(TemplateInstanceMessageBodyWriter.class.getName())
+                .setUnremovable().build());
+        additionalWriters.produce(new MessageBodyWriterBuildItem(TemplateInstanceMessageBodyWriter.class.getName(),
+                TemplateInstance.class.getName(), Collections.singletonList(MediaType.WILDCARD)));
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(new ReflectiveHierarchyIgnoreWarningBuildItem.DotNameExclusion(
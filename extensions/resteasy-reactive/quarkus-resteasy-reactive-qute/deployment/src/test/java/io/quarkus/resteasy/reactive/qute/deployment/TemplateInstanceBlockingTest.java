@@ -0,0 +1,111 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.Blocking;
+
+public class TemplateInstanceBlockingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, TemplateExceptionMapper.class)
+                    .addAsResource(new StringAsset("{#for i in total}{i}:{blockingAllowed}\n{/for}"), "templates/item.txt")
+                    .addAsResource(new StringAsset("{#for i in total}{i}:{missing.name}\n{/for}"), "templates/broken.txt")
+                    .addAsResource(new StringAsset("{name}"), "templates/latin.txt"));
+
+    @Test
+    public void testSmallOutput() {
+        when().get("/test?total=1").then().statusCode(200).body(Matchers.is("1:true\n"));
+    }
+
+    @Test
+    public void testLargeOutput() {
+        // The output is larger than the response buffer and is written in chunks
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 20_000; i++) {
+            expected.append(i).append(":true\n");
+        }
+        when().get("/test?total=20000").then().statusCode(200).body(Matchers.is(expected.toString()));
+    }
+
+    @Test
+    public void testRenderingFailureMapped() {
+        // The failure occurs before anything is written to the response
+        when().get("/test/broken?total=20000").then().statusCode(409).body(Matchers.is("Rendering failed"));
+    }
+
+    @Test
+    public void testMediaTypeCharset() {
+        byte[] body = when().get("/test/latin").then().statusCode(200).extract().asByteArray();
+        Assertions.assertArrayEquals("caf\u00e9".getBytes(StandardCharsets.ISO_8859_1), body);
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template item;
+
+        @Inject
+        Template broken;
+
+        @Inject
+        Template latin;
+
+        @Blocking
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get(@QueryParam("total") int total) {
+            return item.data("total", total).data("blockingAllowed", BlockingOperationControl.isBlockingAllowed());
+        }
+
+        @Blocking
+        @GET
+        @Path("broken")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance broken(@QueryParam("total") int total) {
+            return broken.data("total", total);
+        }
+
+        @Blocking
+        @GET
+        @Path("latin")
+        @Produces("text/plain;charset=ISO-8859-1")
+        public TemplateInstance latin() {
+            return latin.data("name", "caf\u00e9");
+        }
+    }
+
+    @Provider
+    public static class TemplateExceptionMapper implements ExceptionMapper<TemplateException> {
+
+        @Override
+        public Response toResponse(TemplateException exception) {
+            return Response.status(409).entity("Rendering failed").build();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Writes the chunks of a rendered template directly to the response output stream.
+ * <p>
+ * The chunks are encoded into the buffers of the output stream and each buffer is written to the wire as soon as it's
+ * full, i.e. the rendered template is never held in memory as a single string. The writes block the current thread if the
+ * connection cannot keep up, therefore the {@link TemplateResponseFilter} only leaves a template instance as the response
+ * entity if blocking is allowed.
+ * <p>
+ * Nothing is written to the output stream before the first chunk is rendered. As the result tree is resolved before the
+ * first chunk is produced, a failure of the rendering is still handled by the exception mappers, before the response is
+ * committed. A failure or timeout that occurs once the response is committed aborts the response.
+ */
+public class TemplateInstanceMessageBodyWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        OutputStream stream = context.getOrCreateOutputStream();
+        write(instance, context.getResponseMediaType(), stream);
+        // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
+        stream.close();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        write(instance, mediaType, entityStream);
+    }
+
+    private void write(TemplateInstance instance, MediaType mediaType, OutputStream stream) throws IOException {
+        // UTF-8 unless the media type specifies a charset
+        Writer writer = new OutputStreamWriter(stream, MessageReaderUtil.charsetFromMediaType(mediaType));
+        try {
+            instance.render(writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+}
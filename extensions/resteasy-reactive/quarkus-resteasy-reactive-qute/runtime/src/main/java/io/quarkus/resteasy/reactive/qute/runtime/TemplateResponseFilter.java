@@ -16,6 +16,7 @@ import io.quarkus.qute.Engine;
 import io.quarkus.qute.TemplateException;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
+import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
 
 public class TemplateResponseFilter {
@@ -61,6 +62,16 @@ public class TemplateResponseFilter {
             mediaType = responseContext.getMediaType();
         }
 
+        if (BlockingOperationControl.isBlockingAllowed()) {
+            // Stream the rendered template directly to the response - see TemplateInstanceMessageBodyWriter
+            if (mediaType != null) {
+                responseContext.setEntity(instance, null, mediaType);
+            } else {
+                responseContext.setEntity(instance);
+            }
+            return null;
+        }
+
         Uni<String> uni = instance.createUni();
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
@@ -341,6 +341,7 @@ public class ResteasyReactiveProcessor {
             BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
             BeanContainerBuildItem beanContainerBuildItem,
             ResteasyReactiveConfig config,
+            ResteasyReactiveServerConfig serverConfig,
             Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformerBuildItemBuildProducer,
@@ -430,6 +431,7 @@ public class ResteasyReactiveProcessor {
                             .setInjectableBeans(injectableBeans)
                             .setAdditionalWriters(additionalWriters)
                             .setDefaultBlocking(appResult.getBlockingDefault())
+                            .setDefaultRunOnVirtualThread(serverConfig.runOnVirtualThread)
                             .setApplicationScanningResult(appResult)
                             .setMultipartParameterIndexerExtension(
                                     new GeneratedMultipartParamIndexerExtension(transformationConsumer, classOutput))
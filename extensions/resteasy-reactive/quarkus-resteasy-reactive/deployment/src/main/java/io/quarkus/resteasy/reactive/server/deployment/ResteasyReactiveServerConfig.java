@@ -17,4 +17,11 @@ public class ResteasyReactiveServerConfig {
      */
     @ConfigItem
     Optional<String> path;
+
+    /**
+     * If set to {@code true} all blocking resource methods are executed on a virtual thread, as if they were annotated with
+     * {@code @RunOnVirtualThread}. If the JVM does not support virtual threads, the worker thread pool is used instead.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean runOnVirtualThread;
 }
@@ -0,0 +1,137 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.RunOnVirtualThread;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+
+public class RunOnVirtualThreadTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(VirtualThreadResource.class, VirtualThreadClassResource.class, Counter.class);
+                }
+            });
+
+    @Test
+    public void testMethod() {
+        RestAssured.get("/virtual/method")
+                .then().statusCode(200).body(Matchers.is("virtual=" + virtualThreadsSupported() + ";blocking=true;counter=1"));
+        RestAssured.get("/virtual/worker")
+                .then().statusCode(200).body(Matchers.is("virtual=false;blocking=true;counter=1"));
+    }
+
+    @Test
+    public void testClass() {
+        RestAssured.get("/virtual-class/blocking")
+                .then().statusCode(200).body(Matchers.is("virtual=" + virtualThreadsSupported() + ";blocking=true;counter=1"));
+        // non-blocking methods of an annotated class stay on the event loop
+        RestAssured.get("/virtual-class/uni")
+                .then().statusCode(200).body(Matchers.is("virtual=false;blocking=false;counter=1"));
+    }
+
+    @Test
+    public void testSupported() throws Exception {
+        if (Runtime.version().feature() >= 21) {
+            assertEquals(true, virtualThreadsSupported());
+        }
+    }
+
+    static boolean virtualThreadsSupported() {
+        try {
+            Method newExecutor = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            newExecutor.invoke(null);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    static String describe(Counter counter) {
+        boolean virtual;
+        try {
+            virtual = (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        } catch (Exception e) {
+            virtual = false;
+        }
+        // the counter is request scoped, i.e. the request context must be active on the current thread
+        return "virtual=" + virtual + ";blocking=" + BlockingOperationControl.isBlockingAllowed() + ";counter="
+                + counter.increment();
+    }
+
+    @Path("virtual")
+    public static class VirtualThreadResource {
+
+        @Inject
+        Counter counter;
+
+        @RunOnVirtualThread
+        @Blocking
+        @Path("method")
+        @GET
+        public String method() {
+            return describe(counter);
+        }
+
+        @Blocking
+        @Path("worker")
+        @GET
+        public String worker() {
+            return describe(counter);
+        }
+    }
+
+    @RunOnVirtualThread
+    @Path("virtual-class")
+    public static class VirtualThreadClassResource {
+
+        @Inject
+        Counter counter;
+
+        @Blocking
+        @Path("blocking")
+        @GET
+        public String blocking() {
+            return describe(counter);
+        }
+
+        @Path("uni")
+        @GET
+        public Uni<String> uni() {
+            return Uni.createFrom().item(describe(counter));
+        }
+    }
+
+    @RequestScoped
+    public static class Counter {
+
+        private int value;
+
+        int increment() {
+            return ++value;
+        }
+    }
+
+}
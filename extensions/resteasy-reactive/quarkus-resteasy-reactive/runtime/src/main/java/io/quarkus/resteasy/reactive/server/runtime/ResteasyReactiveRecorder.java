@@ -58,7 +58,7 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder imp
     public static final Supplier<Executor> EXECUTOR_SUPPLIER = new Supplier<Executor>() {
         @Override
         public Executor get() {
-            return ExecutorRecorder.getCurrent();
+            return ExecutorRecorder.getBlockingDispatchExecutor();
         }
     };
 
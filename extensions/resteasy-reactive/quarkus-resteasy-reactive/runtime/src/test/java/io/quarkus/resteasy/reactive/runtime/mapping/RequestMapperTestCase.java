@@ -18,23 +18,42 @@ public class RequestMapperTestCase {
 
         RequestMapper.RequestMatch<String> result = mapper.map("/bar/34/44");
         Assertions.assertEquals("/bar/{p1}/{p2}", result.value);
-        Assertions.assertEquals("34", result.pathParamValues[0]);
-        Assertions.assertEquals("44", result.pathParamValues[1]);
+        Assertions.assertEquals("34", result.getPathParamValue(0));
+        Assertions.assertEquals("44", result.getPathParamValue(1));
         Assertions.assertNull(mapper.map("/foo"));
         Assertions.assertEquals("/id", mapper.map("/id").value);
         result = mapper.map("/id/34");
         Assertions.assertEquals("/id/{param}", result.value);
-        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertEquals("34", result.getPathParamValue(0));
         result = mapper.map("/id/34/");
         Assertions.assertNotNull(result);
         Assertions.assertEquals("/id/{param}", result.value);
-        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertEquals("34", result.getPathParamValue(0));
         result = mapper.map("/bar/34");
         Assertions.assertEquals("/bar/{p1}", result.value);
-        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertEquals("34", result.getPathParamValue(0));
 
     }
 
+    @Test
+    public void testPathParamsAreDecodedOnAccess() {
+        RequestMapper<String> mapper = mapper("/foo/{name}", "/foo/{name}/bar", "/regex/{id: [0-9]+}/{rest}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/foo/hello%20world/bar");
+        Assertions.assertEquals("/foo/{name}/bar", result.value);
+        Assertions.assertEquals(1, result.getPathParamCount());
+        Assertions.assertEquals("hello world", result.getPathParamValue(0));
+        Assertions.assertNull(result.getPathParamValue(1));
+
+        result = mapper.map("/regex/42/a%2Bb");
+        Assertions.assertEquals("/regex/{id: [0-9]+}/{rest}", result.value);
+        Assertions.assertEquals(2, result.getPathParamCount());
+        Assertions.assertEquals("42", result.getPathParamValue(0));
+        Assertions.assertEquals("a+b", result.getPathParamValue(1));
+        Assertions.assertArrayEquals(new String[] { "42", "a+b" }, result.getPathParamValues());
+        Assertions.assertNull(mapper.map("/regex/abc/def"));
+    }
+
     RequestMapper<String> mapper(String... vals) {
         List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
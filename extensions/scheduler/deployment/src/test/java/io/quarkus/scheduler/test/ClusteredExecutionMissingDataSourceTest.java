@@ -0,0 +1,30 @@
+package io.quarkus.scheduler.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredExecutionMissingDataSourceTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(IllegalStateException.class)
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true");
+
+    @Test
+    public void test() {
+    }
+
+    static class Jobs {
+
+        @Scheduled(every = "1s")
+        void clustered() {
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.TriggerLock;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, FirstExecutionOnlyLock.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true");
+
+    @Test
+    public void testExecution() {
+        try {
+            // Wait until Jobs#clustered() is executed 1x and then claimed by "another instance" 2x
+            if (Jobs.SKIPPED_LATCH.await(10, TimeUnit.SECONDS)) {
+                assertEquals(1, Jobs.COUNTER.get());
+                assertTrue(FirstExecutionOnlyLock.CLAIMS.get() >= 3);
+            } else {
+                fail("Jobs were not executed in 10 seconds!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Singleton
+    static class FirstExecutionOnlyLock implements TriggerLock {
+
+        static final AtomicInteger CLAIMS = new AtomicInteger(0);
+
+        @Override
+        public boolean tryAcquire(String triggerId, Instant fireTime) {
+            return CLAIMS.incrementAndGet() == 1;
+        }
+
+    }
+
+    static class Jobs {
+
+        static final AtomicInteger COUNTER = new AtomicInteger(0);
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "1s")
+        void clustered() {
+            COUNTER.incrementAndGet();
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            SKIPPED_LATCH.countDown();
+        }
+    }
+}
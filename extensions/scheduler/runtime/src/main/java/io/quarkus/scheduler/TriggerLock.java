@@ -0,0 +1,32 @@
+package io.quarkus.scheduler;
+
+import java.time.Instant;
+
+/**
+ * A lock that is used to make sure that a scheduled method is only executed by a single application instance when the
+ * scheduler runs in cluster mode, i.e. if {@code quarkus.scheduler.cluster.enabled} is set to {@code true}.
+ * <p>
+ * Every instance evaluates the triggers independently. Before a scheduled method is invoked the instance attempts to
+ * claim the execution for the given trigger and fire time. Only the instance that succeeds executes the method, all the
+ * other instances skip the execution and fire the {@link SkippedExecution} event.
+ * <p>
+ * The scheduler uses a lock backed by the default datasource or a local lock by default. An application can provide a
+ * bean that implements this interface in order to use a different store.
+ *
+ * @see io.quarkus.scheduler.Scheduled
+ */
+public interface TriggerLock {
+
+    /**
+     * Attempts to claim the execution of the given trigger. An execution that was already claimed, or an execution that
+     * is older than an already claimed execution of the same trigger, must not be claimed again.
+     * <p>
+     * This method is called from the thread that invokes the scheduled method and may block.
+     *
+     * @param triggerId The trigger identity
+     * @param fireTime The fire time, normalized so that it's the same for all the instances in the cluster
+     * @return {@code true} if the execution was claimed by this instance, {@code false} otherwise
+     */
+    boolean tryAcquire(String triggerId, Instant fireTime);
+
+}
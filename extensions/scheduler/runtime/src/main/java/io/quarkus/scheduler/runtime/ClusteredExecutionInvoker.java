@@ -0,0 +1,82 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.FailedExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.TriggerLock;
+
+/**
+ * A scheduled invoker wrapper that skips the execution if it was claimed by another instance in the cluster.
+ *
+ * @see TriggerLock
+ */
+public final class ClusteredExecutionInvoker implements ScheduledInvoker {
+
+    private static final Logger LOGGER = Logger.getLogger(ClusteredExecutionInvoker.class);
+
+    private final ScheduledInvoker delegate;
+    private final TriggerLock lock;
+    private final long interval;
+    private final Event<SkippedExecution> event;
+    private final Event<FailedExecution> failedExecutionEvent;
+
+    /**
+     * @param interval The interval of the trigger in milliseconds, or {@code 0} for cron-based triggers
+     */
+    public ClusteredExecutionInvoker(ScheduledInvoker delegate, TriggerLock lock, long interval,
+            Event<SkippedExecution> event, Event<FailedExecution> failedExecutionEvent) {
+        this.delegate = delegate;
+        this.lock = lock;
+        this.interval = interval;
+        this.event = event;
+        this.failedExecutionEvent = failedExecutionEvent;
+    }
+
+    @Override
+    public void invoke(ScheduledExecution execution) throws Exception {
+        boolean claimed;
+        try {
+            claimed = lock.tryAcquire(execution.getTrigger().getId(), clusterFireTime(execution.getScheduledFireTime()));
+        } catch (Throwable t) {
+            // The delegate is not invoked, so the failure is not reported by the StatusEmitterInvoker
+            LOGGER.errorf(t, "Unable to claim the execution of a scheduled task for trigger %s", execution.getTrigger());
+            FailedExecution failedExecution = new FailedExecution(execution, t);
+            failedExecutionEvent.fireAsync(failedExecution);
+            failedExecutionEvent.fire(failedExecution);
+            throw t;
+        }
+        if (claimed) {
+            delegate.invoke(execution);
+        } else {
+            LOGGER.debugf("Skipped scheduled invoker execution claimed by another instance: %s",
+                    delegate.getClass().getName());
+            SkippedExecution payload = new SkippedExecution(execution, "Execution claimed by another instance");
+            event.fire(payload);
+            event.fireAsync(payload);
+        }
+    }
+
+    @Override
+    public void invokeBean(ScheduledExecution param) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Cron fire times are the same for all instances, and so are the fire times of interval triggers which are aligned with
+     * the interval when the cluster is enabled. The scheduled fire time is nevertheless rounded to the nearest window, so
+     * that the instances claim the same window as long as their fire times differ by less than half the interval (or half
+     * a second for cron triggers).
+     */
+    Instant clusterFireTime(Instant scheduledFireTime) {
+        long millis = scheduledFireTime.toEpochMilli();
+        long window = interval > 0 ? interval : 1000;
+        return Instant.ofEpochMilli(Math.floorDiv(millis + window / 2, window) * window);
+    }
+
+}
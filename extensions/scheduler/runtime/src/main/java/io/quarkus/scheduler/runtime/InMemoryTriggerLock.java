@@ -0,0 +1,31 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.quarkus.scheduler.TriggerLock;
+
+/**
+ * A trigger lock that only coordinates the schedulers within a single JVM.
+ * <p>
+ * It's mostly useful for development and testing.
+ */
+public final class InMemoryTriggerLock implements TriggerLock {
+
+    private final ConcurrentMap<String, Instant> claimed = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(String triggerId, Instant fireTime) {
+        boolean[] acquired = new boolean[1];
+        claimed.compute(triggerId, (id, last) -> {
+            if (last == null || last.isBefore(fireTime)) {
+                acquired[0] = true;
+                return fireTime;
+            }
+            return last;
+        });
+        return acquired[0];
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.TriggerLock;
+
+/**
+ * A trigger lock backed by a database table.
+ * <p>
+ * The table contains one row per trigger with the last claimed fire time. An execution is claimed either by moving the
+ * fire time of an existing row forward or by inserting the first row for a trigger. Both statements are atomic, so only
+ * a single instance succeeds for a given fire time.
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_LOCKS (TRIGGER_ID VARCHAR(255) NOT NULL PRIMARY KEY, FIRE_TIME BIGINT NOT NULL)
+ * </pre>
+ */
+public final class JdbcTriggerLock implements TriggerLock {
+
+    private static final Logger LOG = Logger.getLogger(JdbcTriggerLock.class);
+
+    private final Supplier<DataSource> dataSource;
+    private final String createTable;
+    private final String update;
+    private final String insert;
+    private volatile boolean createTableIfMissing;
+
+    public JdbcTriggerLock(Supplier<DataSource> dataSource, String tableName, boolean createTable) {
+        this.dataSource = dataSource;
+        this.createTable = "CREATE TABLE " + tableName
+                + " (TRIGGER_ID VARCHAR(255) NOT NULL PRIMARY KEY, FIRE_TIME BIGINT NOT NULL)";
+        this.update = "UPDATE " + tableName + " SET FIRE_TIME = ? WHERE TRIGGER_ID = ? AND FIRE_TIME < ?";
+        this.insert = "INSERT INTO " + tableName + " (TRIGGER_ID, FIRE_TIME) VALUES (?, ?)";
+        this.createTableIfMissing = createTable;
+    }
+
+    @Override
+    public boolean tryAcquire(String triggerId, Instant fireTime) {
+        long fireTimeMillis = fireTime.toEpochMilli();
+        try (Connection connection = dataSource.get().getConnection()) {
+            connection.setAutoCommit(true);
+            if (createTableIfMissing) {
+                createTable(connection);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(update)) {
+                statement.setLong(1, fireTimeMillis);
+                statement.setString(2, triggerId);
+                statement.setLong(3, fireTimeMillis);
+                if (statement.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                statement.setString(1, triggerId);
+                statement.setLong(2, fireTimeMillis);
+                return statement.executeUpdate() > 0;
+            } catch (SQLException e) {
+                // Either the row already exists and the execution was claimed by another instance,
+                // or it was inserted concurrently by another instance
+                LOG.debugf("Execution of trigger %s at %s not claimed: %s", triggerId, fireTime, e.getMessage());
+                return false;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to claim the execution of trigger " + triggerId + " at " + fireTime, e);
+        }
+    }
+
+    private void createTable(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createTable);
+            LOG.debugf("Scheduler lock table created: %s", createTable);
+        } catch (SQLException e) {
+            // Most likely the table already exists
+            LOG.debugf("Scheduler lock table not created: %s", e.getMessage());
+        }
+        createTableIfMissing = false;
+    }
+
+}
@@ -1,7 +1,9 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -20,4 +22,64 @@ public class SchedulerRuntimeConfig {
      */
     @ConfigItem(defaultValue = "1")
     public Duration overdueGracePeriod;
+
+    /**
+     * The number of threads used to execute the scheduled methods.
+     * <p>
+     * If not set then the scheduled methods are executed on the shared worker thread pool. If set then a dedicated pool of
+     * the given size is used, so that long-running or blocking scheduled methods do not compete with other workloads.
+     */
+    @ConfigItem
+    public OptionalInt workerPoolSize;
+
+    /**
+     * Cluster configuration.
+     */
+    @ConfigItem
+    public ClusterConfig cluster;
+
+    @ConfigGroup
+    public static class ClusterConfig {
+
+        /**
+         * If set to {@code true} then every execution of a scheduled method is claimed via a
+         * {@link io.quarkus.scheduler.TriggerLock} first, so that it's only executed by a single application instance.
+         * Instances that fail to claim the execution skip it.
+         * <p>
+         * If the application provides a bean that implements {@link io.quarkus.scheduler.TriggerLock} then this bean is
+         * used and the {@code lock-store} is ignored.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The store used to claim the executions.
+         */
+        @ConfigItem(defaultValue = "jdbc")
+        public LockStore lockStore;
+
+        /**
+         * The name of the table used by the {@code jdbc} lock store. The default datasource is used.
+         */
+        @ConfigItem(defaultValue = "QUARKUS_SCHEDULER_LOCKS")
+        public String tableName;
+
+        /**
+         * If set to {@code true} then the {@code jdbc} lock store attempts to create the table on first use.
+         */
+        @ConfigItem(defaultValue = "true")
+        public boolean createTable;
+
+    }
+
+    public enum LockStore {
+        /**
+         * Executions are claimed in a table of the default datasource.
+         */
+        JDBC,
+        /**
+         * Executions are only claimed within the current JVM.
+         */
+        IN_MEMORY,
+    }
 }
@@ -11,9 +11,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
@@ -21,9 +24,11 @@ import javax.annotation.Priority;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
+import javax.sql.DataSource;
 
 import org.jboss.logging.Logger;
 import org.jboss.threads.JBossScheduledThreadPoolExecutor;
@@ -44,6 +49,8 @@ import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.scheduler.SuccessfulExecution;
 import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.TriggerLock;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.ClusterConfig;
 import io.quarkus.scheduler.runtime.util.SchedulerUtils;
 
 @Typed(Scheduler.class)
@@ -57,25 +64,39 @@ public class SimpleScheduler implements Scheduler {
 
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
+    private final ExecutorService workerExecutor;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
     private final boolean enabled;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
-            Event<FailedExecution> failedExecutionEvent) {
+            Event<FailedExecution> failedExecutionEvent, Instance<TriggerLock> triggerLocks) {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
-        this.executor = context.getExecutor();
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
+            this.workerExecutor = null;
+            this.executor = context.getExecutor();
             LOG.info("Simple scheduler is disabled by config property and will not be started");
         } else if (context.getScheduledMethods().isEmpty()) {
             this.scheduledExecutor = null;
+            this.workerExecutor = null;
+            this.executor = context.getExecutor();
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
         } else {
+            if (schedulerRuntimeConfig.workerPoolSize.isPresent()) {
+                this.workerExecutor = createWorkerExecutor(schedulerRuntimeConfig.workerPoolSize.getAsInt());
+                this.executor = workerExecutor;
+            } else {
+                this.workerExecutor = null;
+                this.executor = context.getExecutor();
+            }
+            TriggerLock triggerLock = schedulerRuntimeConfig.cluster.enabled
+                    ? createTriggerLock(schedulerRuntimeConfig.cluster, triggerLocks)
+                    : null;
             this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
                 @Override
                 public void run() {
@@ -91,10 +112,14 @@ public class SimpleScheduler implements Scheduler {
                 for (Scheduled scheduled : method.getSchedules()) {
                     nameSequence++;
                     Optional<SimpleTrigger> trigger = createTrigger(method.getInvokerClassName(), parser, scheduled,
-                            nameSequence, schedulerRuntimeConfig.overdueGracePeriod);
+                            nameSequence, schedulerRuntimeConfig.overdueGracePeriod, triggerLock != null);
                     if (trigger.isPresent()) {
                         ScheduledInvoker invoker = new StatusEmitterInvoker(context.createInvoker(method.getInvokerClassName()),
                                 successExecutionEvent, failedExecutionEvent);
+                        if (triggerLock != null) {
+                            invoker = new ClusteredExecutionInvoker(invoker, triggerLock, trigger.get().getInterval(),
+                                    skippedExecutionEvent, failedExecutionEvent);
+                        }
                         if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
                             invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
                         }
@@ -132,6 +157,9 @@ public class SimpleScheduler implements Scheduler {
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+        }
     }
 
     void checkTriggers() {
@@ -216,8 +244,50 @@ public class SimpleScheduler implements Scheduler {
         return enabled && running;
     }
 
+    private static ExecutorService createWorkerExecutor(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid scheduler worker pool size: " + size);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "quarkus-scheduler-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private static TriggerLock createTriggerLock(ClusterConfig clusterConfig, Instance<TriggerLock> triggerLocks) {
+        if (triggerLocks.isResolvable()) {
+            LOG.debug("Cluster mode enabled - using a custom trigger lock");
+            return triggerLocks.get();
+        }
+        switch (clusterConfig.lockStore) {
+            case IN_MEMORY:
+                LOG.debug("Cluster mode enabled - using an in-memory trigger lock");
+                return new InMemoryTriggerLock();
+            case JDBC:
+                if (!Arc.container().select(DataSource.class).isResolvable()) {
+                    throw new IllegalStateException("The jdbc lock store of the scheduler cluster mode requires the default"
+                            + " datasource, configure a datasource or set quarkus.scheduler.cluster.lock-store");
+                }
+                LOG.debugf("Cluster mode enabled - using a jdbc trigger lock backed by table %s", clusterConfig.tableName);
+                // The datasource is looked up lazily so that it does not need to be initialized before the scheduler
+                return new JdbcTriggerLock(() -> Arc.container().instance(DataSource.class).get(), clusterConfig.tableName,
+                        clusterConfig.createTable);
+            default:
+                throw new IllegalStateException("Unsupported lock store: " + clusterConfig.lockStore);
+        }
+    }
+
+    /**
+     * @param aligned Whether the fire times of an interval trigger are aligned with the interval, so that they are the same
+     *        for all the instances of a cluster
+     */
     Optional<SimpleTrigger> createTrigger(String invokerClass, CronParser parser, Scheduled scheduled, int nameSequence,
-            Duration defaultGracePeriod) {
+            Duration defaultGracePeriod, boolean aligned) {
         String id = SchedulerUtils.lookUpPropertyValue(scheduled.identity());
         if (id.isEmpty()) {
             id = nameSequence + "_" + invokerClass;
@@ -252,7 +322,7 @@ public class SimpleScheduler implements Scheduler {
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod)));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), aligned));
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
@@ -332,6 +402,13 @@ public class SimpleScheduler implements Scheduler {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the interval in milliseconds, or {@code 0} if the trigger is not interval-based
+         */
+        long getInterval() {
+            return 0;
+        }
+
         public String getId() {
             return id;
         }
@@ -351,11 +428,13 @@ public class SimpleScheduler implements Scheduler {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        private final boolean aligned;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, boolean aligned) {
             super(id, start);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
+            this.aligned = aligned;
         }
 
         @Override
@@ -363,6 +442,16 @@ public class SimpleScheduler implements Scheduler {
             if (now.isBefore(start)) {
                 return null;
             }
+            if (aligned) {
+                // The scheduled fire time is the start of the current window, missed windows are skipped
+                if (lastFireTime != null && now.isBefore(lastFireTime.plus(Duration.ofMillis(interval)))) {
+                    return null;
+                }
+                long millis = now.toInstant().toEpochMilli();
+                lastFireTime = Instant.ofEpochMilli(millis - (millis % interval)).atZone(now.getZone());
+                LOG.tracef("%s fired", this);
+                return lastFireTime;
+            }
             if (lastFireTime == null) {
                 // First execution
                 lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
@@ -378,6 +467,11 @@ public class SimpleScheduler implements Scheduler {
             return null;
         }
 
+        @Override
+        long getInterval() {
+            return interval;
+        }
+
         @Override
         public Instant getNextFireTime() {
             return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
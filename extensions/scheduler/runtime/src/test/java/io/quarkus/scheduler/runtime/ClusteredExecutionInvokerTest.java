@@ -0,0 +1,48 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+
+public class ClusteredExecutionInvokerTest {
+
+    @Test
+    void testClusterFireTimeAcrossWindowBoundary() {
+        ClusteredExecutionInvoker invoker = new ClusteredExecutionInvoker(null, null, 10_000, null, null);
+        Assertions.assertEquals(Instant.ofEpochMilli(20_000), invoker.clusterFireTime(Instant.ofEpochMilli(19_900)));
+        Assertions.assertEquals(Instant.ofEpochMilli(20_000), invoker.clusterFireTime(Instant.ofEpochMilli(20_300)));
+    }
+
+    @Test
+    void testClusterFireTimeCron() {
+        ClusteredExecutionInvoker invoker = new ClusteredExecutionInvoker(null, null, 0, null, null);
+        Assertions.assertEquals(Instant.ofEpochMilli(5_000), invoker.clusterFireTime(Instant.ofEpochMilli(4_998)));
+        Assertions.assertEquals(Instant.ofEpochMilli(5_000), invoker.clusterFireTime(Instant.ofEpochMilli(5_002)));
+    }
+
+    @Test
+    void testAlignedIntervalTrigger() {
+        ZonedDateTime start = Instant.ofEpochMilli(0).atZone(ZoneOffset.UTC);
+        IntervalTrigger first = new IntervalTrigger("first", start, 10_000, Duration.ofSeconds(1), true);
+        IntervalTrigger second = new IntervalTrigger("second", start, 10_000, Duration.ofSeconds(1), true);
+
+        // The instances are started at different times but their fire times are the same
+        Assertions.assertEquals(at(10_000), first.evaluate(at(13_000)));
+        Assertions.assertEquals(at(10_000), second.evaluate(at(18_000)));
+        Assertions.assertNull(first.evaluate(at(19_000)));
+        Assertions.assertEquals(at(20_000), first.evaluate(at(20_000)));
+        Assertions.assertEquals(at(20_000), second.evaluate(at(21_000)));
+        // Missed windows are skipped
+        Assertions.assertEquals(at(50_000), first.evaluate(at(52_000)));
+    }
+
+    private static ZonedDateTime at(long millis) {
+        return Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC);
+    }
+}
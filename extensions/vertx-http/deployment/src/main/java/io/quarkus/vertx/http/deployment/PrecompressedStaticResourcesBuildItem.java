@@ -0,0 +1,25 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> etags;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> etags) {
+        this.etags = etags;
+    }
+
+    /**
+     *
+     * @return the strong ETag of the compressed variant of each precompressed resource, indexed by path
+     */
+    public Map<String, String> getEtags() {
+        return etags;
+    }
+}
@@ -2,7 +2,9 @@ package io.quarkus.vertx.http.deployment;
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -10,11 +12,16 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -25,11 +32,16 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeBuild;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
 
 /**
@@ -37,6 +49,9 @@ import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
  */
 public class StaticResourcesProcessor {
 
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of("html", "htm", "css", "js", "mjs", "map", "json",
+            "svg", "txt", "xml", "csv", "wasm");
+
     @Deprecated
     public static final class StaticResourcesBuildItem extends SimpleBuildItem {
 
@@ -120,17 +135,79 @@ public class StaticResourcesProcessor {
         }
     }
 
+    /**
+     * Compresses the compressible static resources so that they do not have to be compressed for each request.
+     * The resources may change in dev mode, so they are not compressed there.
+     */
+    @BuildStep
+    void precompressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) throws IOException {
+        if (!staticResources.isPresent() || !httpBuildTimeConfig.staticResources.precompress
+                || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            return;
+        }
+        long minSize = httpBuildTimeConfig.staticResources.precompressMinSize.asLongValue();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, String> etags = new HashMap<>();
+        for (io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem.Entry entry : staticResources.get()
+                .getEntries()) {
+            if (entry.isDirectory() || !isCompressible(entry.getPath())) {
+                continue;
+            }
+            byte[] content;
+            try (InputStream stream = classLoader
+                    .getResourceAsStream(StaticResourcesRecorder.META_INF_RESOURCES + entry.getPath())) {
+                if (stream == null) {
+                    // e.g. generated by another build step
+                    continue;
+                }
+                content = stream.readAllBytes();
+            }
+            if (content.length < minSize) {
+                continue;
+            }
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(content);
+            }
+            byte[] compressedContent = compressed.toByteArray();
+            if (compressedContent.length >= content.length) {
+                continue;
+            }
+            String name = StaticResourcesRecorder.PRECOMPRESSED_RESOURCES + entry.getPath() + ".gz";
+            generatedResources.produce(new GeneratedResourceBuildItem(name, compressedContent));
+            nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+            etags.put(entry.getPath(), '"' + HashUtil.sha256(compressedContent) + '"');
+        }
+        if (!etags.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(etags));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, String> precompressed = precompressedStaticResources.isPresent()
+                    ? precompressedStaticResources.get().getEtags()
+                    : Collections.emptyMap();
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), precompressed)));
         }
     }
 
+    private static boolean isCompressible(String path) {
+        int extension = path.lastIndexOf('.');
+        return extension > path.lastIndexOf('/')
+                && COMPRESSIBLE_EXTENSIONS.contains(path.substring(extension + 1).toLowerCase(Locale.ROOT));
+    }
+
     @BuildStep(onlyIf = NativeBuild.class)
     public void nativeImageResource(Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
             BuildProducer<NativeImageResourceBuildItem> producer) {
@@ -0,0 +1,127 @@
+package io.quarkus.vertx.http.staticresources;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    static String script;
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("console.log('Hello World');\n");
+        }
+        script = sb.toString();
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(script), "META-INF/resources/app.js")
+                    .addAsResource(new StringAsset("small"), "META-INF/resources/small.txt"));
+
+    @Test
+    public void testCompressedVariant() {
+        String etag = RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .header("ETag", notNullValue())
+                .header("Cache-Control", "public, immutable, max-age=86400")
+                .header("Last-Modified", notNullValue())
+                .header("Date", notNullValue())
+                .body(is(script))
+                .extract().header("ETag");
+
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag)
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"other\", W/" + etag)
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "*")
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"other\"")
+                .get("/app.js")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testIfModifiedSince() {
+        String lastModified = RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .extract().header("Last-Modified");
+
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-Modified-Since", lastModified)
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .body(is(script));
+    }
+
+    @Test
+    public void testIdentity() {
+        String body = RestAssured.given()
+                .config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "identity")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .extract().asString();
+        assertEquals(script, body);
+    }
+
+    @Test
+    public void testSmallResourceNotCompressed() {
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .get("/small.txt")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is("small"));
+    }
+}
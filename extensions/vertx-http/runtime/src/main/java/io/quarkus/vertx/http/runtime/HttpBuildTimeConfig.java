@@ -52,6 +52,12 @@ public class HttpBuildTimeConfig {
     @ConfigItem(defaultValue = "q")
     public String nonApplicationRootPath;
 
+    /**
+     * Static resources configuration.
+     */
+    @ConfigItem
+    public StaticResourcesConfig staticResources;
+
     /**
      * The REST Assured client timeout for testing.
      */
@@ -0,0 +1,28 @@
+package io.quarkus.vertx.http.runtime;
+
+public final class HttpCompressionUtils {
+
+    private HttpCompressionUtils() {
+
+    }
+
+    /**
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @return {@code true} if the client accepts a gzip encoded response, i.e. lists gzip without a zero quality value
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            int parameters = coding.indexOf(';');
+            String name = (parameters < 0 ? coding : coding.substring(0, parameters)).trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                // gzip;q=0 means the client refuses gzip
+                return parameters < 0 || !coding.substring(parameters + 1).replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
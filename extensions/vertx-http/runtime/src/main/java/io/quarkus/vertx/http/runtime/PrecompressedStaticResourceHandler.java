@@ -0,0 +1,181 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.StaticHandler;
+
+/**
+ * Serves the gzip variant of the static resources compressed at build time to the clients accepting gzip.
+ * <p>
+ * The compressed variants are loaded from the classpath when the handler is created, so that no I/O happens on the event
+ * loop, and then kept in memory, so neither the resource nor its compression is computed again. Requests that cannot be
+ * served with a compressed variant are passed to the next handler. The cache headers and the conditional requests are
+ * handled like {@link StaticHandler} does with its default configuration.
+ */
+final class PrecompressedStaticResourceHandler implements Handler<RoutingContext> {
+
+    private static final String DEFAULT_CONTENT_ENCODING = "UTF-8";
+    private static final String GZIP = "gzip";
+    private static final String CACHE_CONTROL = "public, immutable, max-age=" + StaticHandler.DEFAULT_MAX_AGE_SECONDS;
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    private final Map<String, String> etags;
+    private final Map<String, Content> contents;
+
+    /**
+     *
+     * @param etags the strong ETag of the compressed variant of each precompressed resource
+     * @param classLoader the class loader of the application
+     */
+    PrecompressedStaticResourceHandler(Map<String, String> etags, ClassLoader classLoader) {
+        this.etags = etags;
+        this.contents = new HashMap<>();
+        for (String path : etags.keySet()) {
+            contents.put(path, load(path, classLoader));
+        }
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        if (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) {
+            ctx.next();
+            return;
+        }
+        String path = StaticResourcesRecorder.relativePath(ctx);
+        if (path.endsWith("/")) {
+            path = path + "index.html";
+        }
+        String etag = etags.get(path);
+        if (etag == null) {
+            ctx.next();
+            return;
+        }
+        HttpServerResponse response = ctx.response();
+        // The response depends on the encoding whether or not the compressed variant is served
+        response.headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!HttpCompressionUtils.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            ctx.next();
+            return;
+        }
+        Content content = contents.get(path);
+
+        response.putHeader(HttpHeaders.ETAG, etag);
+        writeCacheHeaders(response, content.lastModified);
+        if (isFresh(request, etag, content.lastModified)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + DEFAULT_CONTENT_ENCODING);
+            } else {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        }
+        response.putHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        if (request.method() == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(content.buffer.length()));
+            response.end();
+        } else {
+            response.end(content.buffer);
+        }
+    }
+
+    private static Content load(String path, ClassLoader classLoader) {
+        URL url = classLoader.getResource(StaticResourcesRecorder.PRECOMPRESSED_RESOURCES + path + ".gz");
+        if (url == null) {
+            throw new IllegalStateException("Precompressed variant of the static resource " + path + " not found");
+        }
+        try {
+            URLConnection connection = url.openConnection();
+            long lastModified = connection.getLastModified();
+            if (lastModified <= 0) {
+                lastModified = System.currentTimeMillis();
+            }
+            try (InputStream stream = connection.getInputStream()) {
+                // HTTP dates have a resolution of one second
+                return new Content(Buffer.buffer(stream.readAllBytes()), lastModified / 1000 * 1000);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCacheHeaders(HttpServerResponse response, long lastModified) {
+        if (!response.headers().contains(HttpHeaders.CACHE_CONTROL)) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        if (!response.headers().contains(HttpHeaders.LAST_MODIFIED)) {
+            response.putHeader(HttpHeaders.LAST_MODIFIED, HTTP_DATE.format(Instant.ofEpochMilli(lastModified)));
+        }
+        response.putHeader(HttpHeaders.DATE, HTTP_DATE.format(Instant.now()));
+    }
+
+    /**
+     * If-None-Match takes precedence over If-Modified-Since, which is ignored when both are present (RFC 7232, section 6).
+     */
+    static boolean isFresh(HttpServerRequest request, String etag, long lastModified) {
+        String noneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (noneMatch != null) {
+            return matches(noneMatch, etag);
+        }
+        String modifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (modifiedSince == null) {
+            return false;
+        }
+        try {
+            return ZonedDateTime.parse(modifiedSince.trim(), HTTP_DATE).toInstant().toEpochMilli() >= lastModified;
+        } catch (DateTimeParseException e) {
+            // An invalid date is ignored
+            return false;
+        }
+    }
+
+    /**
+     * If-None-Match uses the weak comparison, so a weak validator matches the strong ETag of the resource.
+     */
+    static boolean matches(String noneMatch, String etag) {
+        for (String candidate : noneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Content {
+
+        final Buffer buffer;
+        final long lastModified;
+
+        Content(Buffer buffer, long lastModified) {
+            this.buffer = buffer;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
@@ -79,6 +80,13 @@ public class QuarkusErrorHandler implements Handler<RoutingContext> {
                 event.response().setStatusCode(HttpResponseStatus.FORBIDDEN.code()).end();
                 return;
             }
+            if (event.failure() instanceof RejectedExecutionException) {
+                // No worker thread is available, e.g. the concurrency limit of the thread pool was reached
+                log.debugf(event.failure(), "Blocking processing of HTTP request to %s was rejected",
+                        event.request().uri());
+                event.response().setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code()).end();
+                return;
+            }
             if (event.failure() instanceof AuthenticationFailedException) {
                 //generally this should be handled elsewhere
                 //but if we get to this point bad things have happened
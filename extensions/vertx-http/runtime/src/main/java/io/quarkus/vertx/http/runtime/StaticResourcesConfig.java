@@ -0,0 +1,32 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Configuration of the static resources served from {@code META-INF/resources}.
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * If the compressible static resources (HTML, CSS, JavaScript, JSON, SVG...) should be compressed with gzip
+     * at build time.
+     *
+     * The compressed variant is served, from memory and with a strong `ETag`, to the clients accepting gzip,
+     * so that the resource does not have to be compressed for each request.
+     * This has no effect in dev mode.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean precompress;
+
+    /**
+     * The minimum size of the static resources compressed at build time.
+     * Compressing smaller resources does not save enough bytes to be worth it.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize precompressMinSize;
+}
@@ -3,6 +3,7 @@ package io.quarkus.vertx.http.runtime;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -16,6 +17,7 @@ import io.vertx.ext.web.handler.StaticHandler;
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
 
     private static volatile List<Path> hotDeploymentResourcePaths;
 
@@ -23,7 +25,12 @@ public class StaticResourcesRecorder {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     *
+     * @param knownPaths the paths of the static resources
+     * @param precompressedResources the strong ETags of the resources compressed at build time, indexed by path
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> precompressedResources) {
 
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
@@ -51,14 +58,14 @@ public class StaticResourcesRecorder {
         }
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
+            if (!precompressedResources.isEmpty()) {
+                handlers.add(new PrecompressedStaticResourceHandler(precompressedResources, currentCl));
+            }
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
-                    String rel = ctx.mountPoint() == null ? ctx.normalizedPath()
-                            : ctx.normalizedPath().substring(
-                                    // let's be extra careful here in case Vert.x normalizes the mount points at some point
-                                    ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
+                    String rel = relativePath(ctx);
                     if (knownPaths.contains(rel)) {
                         staticHandler.handle(ctx);
                     } else {
@@ -81,4 +88,11 @@ public class StaticResourcesRecorder {
         };
     }
 
+    static String relativePath(RoutingContext ctx) {
+        return ctx.mountPoint() == null ? ctx.normalizedPath()
+                : ctx.normalizedPath().substring(
+                        // let's be extra careful here in case Vert.x normalizes the mount points at some point
+                        ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
+    }
+
 }
@@ -0,0 +1,21 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HttpCompressionUtilsTest {
+
+    @Test
+    public void testAcceptsGzip() {
+        assertTrue(HttpCompressionUtils.acceptsGzip("gzip"));
+        assertTrue(HttpCompressionUtils.acceptsGzip("deflate, GZIP"));
+        assertTrue(HttpCompressionUtils.acceptsGzip("gzip;q=0.5, identity"));
+        assertFalse(HttpCompressionUtils.acceptsGzip(null));
+        assertFalse(HttpCompressionUtils.acceptsGzip("identity"));
+        assertFalse(HttpCompressionUtils.acceptsGzip("gzip; q=0"));
+        assertFalse(HttpCompressionUtils.acceptsGzip("gzip;q=0.000, deflate"));
+        assertFalse(HttpCompressionUtils.acceptsGzip("x-gzip"));
+    }
+}
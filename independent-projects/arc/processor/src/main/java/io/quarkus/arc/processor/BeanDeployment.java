@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -69,6 +70,7 @@ public class BeanDeployment {
 
     private final List<BeanInfo> beans;
     private volatile Map<DotName, List<BeanInfo>> beansByType;
+    private volatile Map<BeanInfo, Integer> requestContextIndexes;
 
     private final List<InterceptorInfo> interceptors;
     private final List<DecoratorInfo> decorators;
@@ -454,6 +456,30 @@ public class BeanDeployment {
         return Collections.unmodifiableList(beans);
     }
 
+    /**
+     * {@link javax.enterprise.context.RequestScoped} beans are assigned a dense index so that the built-in request context
+     * can store their instances in an array. The indexes are only computed once all the beans are known.
+     *
+     * @param bean
+     * @return the index of the given bean in the request context, or {@code -1} if the bean is not request scoped
+     */
+    int getRequestContextIndex(BeanInfo bean) {
+        Map<BeanInfo, Integer> indexes = requestContextIndexes;
+        if (indexes == null) {
+            indexes = new HashMap<>();
+            List<BeanInfo> requestScoped = beans.stream()
+                    .filter(b -> BuiltinScope.REQUEST.is(b.getScope()))
+                    .sorted(Comparator.comparing(BeanInfo::getIdentifier))
+                    .collect(Collectors.toList());
+            for (int i = 0; i < requestScoped.size(); i++) {
+                indexes.put(requestScoped.get(i), i);
+            }
+            requestContextIndexes = indexes;
+        }
+        Integer index = indexes.get(bean);
+        return index != null ? index : -1;
+    }
+
     Collection<BeanInfo> getBeansByRawType(DotName typeName) {
         var ret = beansByType.get(typeName);
         if (ret == null) {
@@ -237,6 +237,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -329,6 +330,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -431,6 +433,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -519,6 +522,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -1747,6 +1751,21 @@ public class BeanGenerator extends AbstractGenerator {
         }
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        int index = bean.getDeployment().getRequestContextIndex(bean);
+        if (index >= 0) {
+            MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getRequestContextIndex.returnValue(getRequestContextIndex.load(index));
+        }
+    }
+
     protected void implementIsDefaultBean(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator isDefaultBean = beanCreator.getMethodCreator("isDefaultBean", boolean.class)
                 .setModifiers(ACC_PUBLIC);
@@ -141,6 +141,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return 0;
     }
 
+    /**
+     * {@link javax.enterprise.context.RequestScoped} beans are assigned a dense index at build time, so that the built-in
+     * request context can store their instances in an array instead of a map.
+     *
+     * @return the index of the bean in the request context, or {@code -1} if no index was assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
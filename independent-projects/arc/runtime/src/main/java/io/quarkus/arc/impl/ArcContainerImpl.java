@@ -144,6 +144,7 @@ public class ArcContainerImpl implements ArcContainer {
         }
         // register built-in beans
         addBuiltInBeans(beans);
+        requestContext.initIndexedBeans(beans);
 
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
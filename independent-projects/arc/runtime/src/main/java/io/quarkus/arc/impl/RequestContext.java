@@ -6,14 +6,19 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -26,6 +31,9 @@ import org.jboss.logging.Logger;
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * Instances of beans that were assigned a {@link InjectableBean#getRequestContextIndex() request context index} at build
+ * time are stored in an array, any other contextual falls back to a map.
  *
  * @author Martin Kouba
  */
@@ -40,6 +48,9 @@ class RequestContext implements ManagedContext {
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
+    // the length of the array used to store the instances of indexed beans; 0 if all instances are stored in the map
+    private int indexedBeans;
+
     public RequestContext() {
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
@@ -51,6 +62,32 @@ class RequestContext implements ManagedContext {
         return RequestScoped.class;
     }
 
+    /**
+     * Must be called before the context is used for the first time.
+     *
+     * @param beans all the beans of the container
+     */
+    void initIndexedBeans(List<InjectableBean<?>> beans) {
+        int count = 0;
+        for (InjectableBean<?> bean : beans) {
+            count = Math.max(count, bean.getRequestContextIndex() + 1);
+        }
+        boolean[] used = new boolean[count];
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0) {
+                if (used[index]) {
+                    // the same index was assigned by multiple deployments - do not use the indexes at all
+                    LOGGER.debugf("Duplicate request context index %s found for %s", index, bean);
+                    count = 0;
+                    break;
+                }
+                used[index] = true;
+            }
+        }
+        this.indexedBeans = count;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
@@ -65,14 +102,13 @@ class RequestContext implements ManagedContext {
             // Thread local not set - context is not active!
             return null;
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctxMap = currentContext.get().value;
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxMap.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(bean);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctxMap.put(contextual, instance);
+            ctxState.put(bean, instance);
         }
         return instance.get();
     }
@@ -96,12 +132,12 @@ class RequestContext implements ManagedContext {
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get().value;
-        if (ctx == null) {
+        RequestContextState ctxState = currentContext.get();
+        if (ctxState == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(bean);
         return instance == null ? null : instance.get();
     }
 
@@ -112,12 +148,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get().value;
-        if (ctx == null) {
+        RequestContextState ctxState = currentContext.get();
+        if (ctxState == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = ctxState.remove(contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -126,7 +162,7 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(indexedBeans));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -175,13 +211,13 @@ class RequestContext implements ManagedContext {
         if (state instanceof RequestContextState) {
             RequestContextState reqState = ((RequestContextState) state);
             reqState.isValid.set(false);
-            destroy(reqState.value);
+            destroy(reqState);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -190,7 +226,6 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                //Performance: avoid an iterator on the map elements
                 currentContext.forEach(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
@@ -203,7 +238,7 @@ class RequestContext implements ManagedContext {
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -238,18 +273,98 @@ class RequestContext implements ManagedContext {
 
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RequestContextState, AtomicReferenceArray> INDEXED_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(RequestContextState.class, AtomicReferenceArray.class, "indexed");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RequestContextState, ConcurrentMap> OTHERS_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(RequestContextState.class, ConcurrentMap.class, "others");
+
+        private final int capacity;
+        // both are created lazily, as most requests only use a few beans, or none at all
+        private volatile AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
         private final AtomicBoolean isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        RequestContextState(int capacity) {
+            this.capacity = capacity;
             this.isValid = new AtomicBoolean(true);
         }
 
+        ContextInstanceHandle<?> get(InjectableBean<?> bean) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0 && index < capacity) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+                return indexed == null ? null : indexed.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.get(bean);
+        }
+
+        void put(InjectableBean<?> bean, ContextInstanceHandle<?> instance) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0 && index < capacity) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+                if (indexed == null) {
+                    INDEXED_UPDATER.compareAndSet(this, null, new AtomicReferenceArray<>(capacity));
+                    indexed = this.indexed;
+                }
+                indexed.set(index, instance);
+            } else {
+                ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+                if (others == null) {
+                    OTHERS_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+                    others = this.others;
+                }
+                others.put(bean, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+            if (index >= 0 && index < capacity) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+                return indexed == null ? null : indexed.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.remove(contextual);
+        }
+
+        void forEach(Consumer<ContextInstanceHandle<?>> action) {
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed != null) {
+                for (int i = 0; i < capacity; i++) {
+                    ContextInstanceHandle<?> instance = indexed.get(i);
+                    if (instance != null) {
+                        action.accept(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                //Performance: avoid an iterator on the map elements
+                others.forEach((contextual, instance) -> action.accept(instance));
+            }
+        }
+
+        void clear() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed != null) {
+                for (int i = 0; i < capacity; i++) {
+                    indexed.set(i, null);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                others.clear();
+            }
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> result = new HashMap<>();
+            forEach(instance -> result.put(instance.getBean(), instance.get()));
+            return Collections.unmodifiableMap(result);
         }
 
         @Override
@@ -202,6 +202,28 @@ public class RequestContextTest {
         }
     }
 
+    @Test
+    public void testIndexedBeanState() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        assertEquals(0, controllerBean.getRequestContextIndex());
+        assertEquals(-1, arc.instance(Boom.class).getBean().getRequestContextIndex());
+
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            Controller controller = arc.instance(Controller.class).get();
+            String id = controller.getId();
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+            assertEquals(id, requestContext.get(controllerBean).getId());
+            requestContext.destroy(controllerBean);
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNotEquals(id, controller.getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @ApplicationScoped
     public static class Boom {
 
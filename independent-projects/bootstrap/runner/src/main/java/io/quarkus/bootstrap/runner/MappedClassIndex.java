@@ -0,0 +1,200 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * A single file that contains the uncompressed bytes of all the classes of the fast-jar class path, together with
+ * an offset table that is used to locate them.
+ *
+ * At runtime the file is memory mapped, and class bytes are sliced straight from the mapped buffer, which means
+ * that loading a class does not need to open, lock or inflate the jar that contains it.
+ *
+ * Every entry records the index of the class path element it was read from, so that classes are still defined with
+ * the {@link java.security.ProtectionDomain} and package information of their original jar.
+ * Multi-release jars are not packed, as the class that needs to be loaded depends on the runtime version of the JVM.
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public final class MappedClassIndex {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ByteBuffer data;
+    private final Map<String, Integer> slots;
+    private final int[] classPathIndexes;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    private MappedClassIndex(ByteBuffer data, Map<String, Integer> slots, int[] classPathIndexes, int[] offsets,
+            int[] lengths) {
+        this.data = data;
+        this.slots = slots;
+        this.classPathIndexes = classPathIndexes;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    /**
+     * @return the slot of the given class resource, or {@code -1} if it is not part of the index
+     */
+    int getSlot(String classResource) {
+        Integer slot = slots.get(classResource);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @return the index in the class path of the element that contained the class in the given slot
+     */
+    int getClassPathIndex(int slot) {
+        return classPathIndexes[slot];
+    }
+
+    /**
+     * @return a read-only view of the bytes of the class in the given slot, backed by the mapped file
+     */
+    ByteBuffer getClassData(int slot) {
+        ByteBuffer result = data.duplicate();
+        result.position(offsets[slot]);
+        result.limit(offsets[slot] + lengths[slot]);
+        return result.slice();
+    }
+
+    int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Writes the index for the given class path, in class path order.
+     */
+    public static void write(Path target, List<Path> classPath) throws IOException {
+        // classes that were already seen earlier on the class path shadow later ones, exactly as they would
+        // when they are looked up jar by jar
+        Set<String> seen = new HashSet<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> classPathIndexes = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        Path dataFile = Files.createTempFile(target.getParent(), "classes", ".tmp");
+        try {
+            long dataLength = 0;
+            try (OutputStream dataOut = new BufferedOutputStream(Files.newOutputStream(dataFile))) {
+                for (int i = 0; i < classPath.size(); i++) {
+                    try (JarFile zip = new JarFile(classPath.get(i).toFile())) {
+                        boolean multiRelease = isMultiRelease(zip);
+                        Enumeration<? extends ZipEntry> entries = zip.entries();
+                        while (entries.hasMoreElements()) {
+                            ZipEntry entry = entries.nextElement();
+                            String name = entry.getName();
+                            if (entry.isDirectory() || !name.endsWith(CLASS_SUFFIX)
+                                    || name.startsWith(SerializedApplication.META_INF_VERSIONS)
+                                    || !seen.add(name) || multiRelease) {
+                                continue;
+                            }
+                            try (InputStream in = zip.getInputStream(entry)) {
+                                byte[] bytes = in.readAllBytes();
+                                dataOut.write(bytes);
+                                dataLength += bytes.length;
+                                names.add(name);
+                                classPathIndexes.add(i);
+                                lengths.add(bytes.length);
+                            }
+                        }
+                    }
+                }
+            }
+            try (DataOutputStream header = new DataOutputStream(headerBytes)) {
+                header.writeInt(MAGIC);
+                header.writeInt(VERSION);
+                header.writeInt(names.size());
+                for (int i = 0; i < names.size(); i++) {
+                    byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+                    header.writeShort(name.length);
+                    header.write(name);
+                    header.writeShort(classPathIndexes.get(i));
+                    header.writeInt(lengths.get(i));
+                }
+            }
+            if (dataLength + headerBytes.size() > Integer.MAX_VALUE) {
+                throw new IOException("Unable to create a mapped class index larger than 2GB");
+            }
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+                headerBytes.writeTo(out);
+                Files.copy(dataFile, out);
+            }
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
+    /**
+     * Maps the given index file into memory and reads its offset table.
+     */
+    public static MappedClassIndex read(Path file) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (data.getInt() != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        if (data.getInt() != VERSION) {
+            throw new RuntimeException("Wrong mapped class index version");
+        }
+        int size = data.getInt();
+        Map<String, Integer> slots = new HashMap<>((int) (size / 0.75f) + 1);
+        int[] classPathIndexes = new int[size];
+        int[] offsets = new int[size];
+        int[] lengths = new int[size];
+        byte[] nameBuffer = new byte[256];
+        for (int i = 0; i < size; i++) {
+            int nameLength = Short.toUnsignedInt(data.getShort());
+            if (nameLength > nameBuffer.length) {
+                nameBuffer = new byte[nameLength];
+            }
+            data.get(nameBuffer, 0, nameLength);
+            slots.put(new String(nameBuffer, 0, nameLength, StandardCharsets.UTF_8), i);
+            classPathIndexes[i] = Short.toUnsignedInt(data.getShort());
+            lengths[i] = data.getInt();
+        }
+        int offset = data.position();
+        for (int i = 0; i < size; i++) {
+            offsets[i] = offset;
+            offset += lengths[i];
+        }
+        return new MappedClassIndex(data, slots, classPathIndexes, offsets, lengths);
+    }
+
+    private static boolean isMultiRelease(JarFile zip) throws IOException {
+        Manifest manifest = zip.getManifest();
+        if (manifest == null) {
+            return false;
+        }
+        Attributes ma = manifest.getMainAttributes();
+        return ma != null && Boolean.parseBoolean(ma.getValue(Attributes.Name.MULTI_RELEASE));
+    }
+}
@@ -35,21 +35,35 @@ public final class RunnerClassLoader extends ClassLoader {
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
     private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    // optional memory mapped copy of all the classes, with the class path elements they were read from
+    private final MappedClassIndex mappedClassIndex;
+    private final ClassLoadingResource[] classPathResources;
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    //Only written while holding the lock on the above field, as they are related; it is volatile so that the
+    //boot phase, where all class loading threads would otherwise contend on that lock, can skip it entirely.
+    private volatile boolean postBootPhase = false;
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        this(parent, resourceDirectoryMap, parentFirstPackages, nonExistentResources, fullyIndexedDirectories,
+                directlyIndexedResourcesIndexMap, null, null);
+    }
+
+    RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
+            Set<String> parentFirstPackages, Set<String> nonExistentResources,
+            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
+            MappedClassIndex mappedClassIndex, ClassLoadingResource[] classPathResources) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.mappedClassIndex = mappedClassIndex;
+        this.classPathResources = classPathResources;
     }
 
     @Override
@@ -86,6 +100,23 @@ public final class RunnerClassLoader extends ClassLoader {
         }
         if (resources != null) {
             String classResource = name.replace('.', '/') + ".class";
+            if (mappedClassIndex != null) {
+                int slot = mappedClassIndex.getSlot(classResource);
+                if (slot != -1) {
+                    //fast path: the bytes are sliced straight from the mapped file, no jar needs to be accessed
+                    ClassLoadingResource resource = classPathResources[mappedClassIndex.getClassPathIndex(slot)];
+                    definePackage(packageName, resources);
+                    try {
+                        return defineClass(name, mappedClassIndex.getClassData(slot), resource.getProtectionDomain());
+                    } catch (LinkageError e) {
+                        loaded = findLoadedClass(name);
+                        if (loaded != null) {
+                            return loaded;
+                        }
+                        throw e;
+                    }
+                }
+            }
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
@@ -108,12 +139,12 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase) {
+            //We only want to limit the jar buffers after the initial bootstrap has been completed
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
             // This is not a cache aiming to accurately retain the most hot resources:
             // it's too small to benefit from traditional hit metrics,
             // we rather prefer to keep it very light.
@@ -33,11 +33,12 @@ import java.util.zip.ZipEntry;
 public class SerializedApplication {
 
     public static final String META_INF_VERSIONS = "META-INF/versions/";
+    public static final String MAPPED_CLASS_INDEX = "quarkus/quarkus-classes.idx";
     // the files immediately (i.e. not recursively) under these paths should all be indexed
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -61,10 +62,24 @@ public class SerializedApplication {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, false);
+    }
+
+    /**
+     * @param mappedClassIndex if true a {@link MappedClassIndex} of the class path is written to
+     *        {@link #MAPPED_CLASS_INDEX}, and used by the {@link RunnerClassLoader} to load classes
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, boolean mappedClassIndex)
+            throws IOException {
+        if (mappedClassIndex) {
+            MappedClassIndex.write(applicationRoot.resolve(MAPPED_CLASS_INDEX), classPath);
+        }
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(mappedClassIndex);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
@@ -110,6 +125,7 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            boolean hasMappedClassIndex = in.readBoolean();
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
@@ -157,9 +173,14 @@ public class SerializedApplication {
                 }
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            MappedClassIndex mappedClassIndex = null;
+            if (hasMappedClassIndex) {
+                mappedClassIndex = MappedClassIndex.read(appRoot.resolve(MAPPED_CLASS_INDEX));
+            }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap,
+                    mappedClassIndex, allClassLoadingResources);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init(runnerClassLoader);
             }
@@ -0,0 +1,61 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedClassIndex}
+ */
+public class MappedClassIndexTest {
+
+    /**
+     * Tests that classes are read back from the mapped file with the class path element they came from, and that
+     * classes present earlier on the class path shadow later ones
+     */
+    @Test
+    public void testClassesAreIndexedInClassPathOrder() throws Exception {
+        final Path testDir = Files.createTempDirectory("mapped-class-index");
+        final Path first = createJar(testDir, "first.jar", "org/acme/A.class", "a", "org/acme/B.class", "b1",
+                "application.properties", "ignored");
+        final Path second = createJar(testDir, "second.jar", "org/acme/B.class", "b2", "org/other/C.class", "c");
+        final Path indexFile = testDir.resolve("classes.idx");
+        MappedClassIndex.write(indexFile, List.of(first, second));
+
+        final MappedClassIndex index = MappedClassIndex.read(indexFile);
+        Assertions.assertEquals(3, index.size());
+        assertClass(index, "org/acme/A.class", 0, "a");
+        assertClass(index, "org/acme/B.class", 0, "b1");
+        assertClass(index, "org/other/C.class", 1, "c");
+        Assertions.assertEquals(-1, index.getSlot("application.properties"));
+        Assertions.assertEquals(-1, index.getSlot("org/acme/Missing.class"));
+    }
+
+    private static void assertClass(MappedClassIndex index, String resource, int classPathIndex, String content) {
+        final int slot = index.getSlot(resource);
+        Assertions.assertNotEquals(-1, slot, resource + " is missing in the index");
+        Assertions.assertEquals(classPathIndex, index.getClassPathIndex(slot));
+        final ByteBuffer data = index.getClassData(slot);
+        final byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        Assertions.assertEquals(content, new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static Path createJar(Path dir, String name, String... entries) {
+        final JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < entries.length; i += 2) {
+            jar.add(new StringAsset(entries[i + 1]), entries[i]);
+        }
+        final Path jarFilePath = dir.resolve(name);
+        jar.as(ZipExporter.class).exportTo(jarFilePath.toFile(), true);
+        return jarFilePath;
+    }
+}
@@ -0,0 +1,201 @@
+package io.quarkus.qute;
+
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A template compiled to bytecode, usually during the build.
+ * <p>
+ * A compiled template produces the same output as the template it was compiled from. However, the static text is written
+ * directly and the data is accessed through direct method invocations, synchronously. The value resolvers and the async
+ * resolution of the template nodes are not used at all.
+ * <p>
+ * A compiled template is only used if its {@link #getFingerprint() fingerprint} matches the template loaded by the
+ * engine and if the template instance data is set via {@link TemplateInstance#data(String, Object)}. If the compiled
+ * template encounters a value it cannot handle, e.g. an intermediate {@code null} value or an asynchronous result, the
+ * template instance is rendered as usual instead. The type of the data is checked before the rendering starts, whereas
+ * the values resolved during the rendering, e.g. the elements of an iterable, are checked when they are used.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the fingerprint of the template this class was compiled from
+     * @see #fingerprint(List)
+     */
+    int getFingerprint();
+
+    /**
+     *
+     * @param output
+     */
+    void render(Output output);
+
+    /**
+     * The fingerprint is computed from the structure of a template, i.e. the static text, the expressions and the sections.
+     *
+     * @param nodes
+     * @return the fingerprint of the given template nodes
+     * @see Template#getNodes()
+     */
+    static int fingerprint(List<TemplateNode> nodes) {
+        int result = 1;
+        for (TemplateNode node : nodes) {
+            result = 31 * result + fingerprint(node);
+        }
+        return result;
+    }
+
+    private static int fingerprint(TemplateNode node) {
+        if (node.isText()) {
+            return node.asText().getValue().hashCode();
+        } else if (node.isExpression()) {
+            return fingerprint(node.asExpression().getExpression());
+        } else if (node.isSection()) {
+            SectionNode section = node.asSection();
+            int result = section.getName().hashCode();
+            for (SectionBlock block : section.getBlocks()) {
+                result = 31 * result + block.label.hashCode();
+                for (Expression expression : block.expressions.values()) {
+                    result = 31 * result + fingerprint(expression);
+                }
+                result = 31 * result + fingerprint(block.getNodes());
+            }
+            return result;
+        }
+        return node.getClass().getName().hashCode();
+    }
+
+    private static int fingerprint(Expression expression) {
+        return 31 * expression.getGeneratedId() + expression.toOriginalString().hashCode();
+    }
+
+    /**
+     * The output of a compiled template.
+     * <p>
+     * The methods of this class are invoked by the generated code.
+     */
+    final class Output {
+
+        private final Map<String, Object> data;
+        private final StringBuilder builder;
+        private final Engine engine;
+        private final Expression[] expressions;
+
+        Output(Map<String, Object> data, StringBuilder builder, Engine engine, Expression[] expressions) {
+            this.data = data;
+            this.builder = builder;
+            this.engine = engine;
+            this.expressions = expressions;
+        }
+
+        /**
+         * Writes the static text.
+         *
+         * @param text
+         */
+        public void text(String text) {
+            builder.append(text);
+        }
+
+        /**
+         * Writes the value of an expression.
+         *
+         * @param value
+         * @param expressionId
+         */
+        public void value(Object value, int expressionId) {
+            value = checkSync(value);
+            if (value instanceof Optional) {
+                value = ((Optional<?>) value).orElse(null);
+            }
+            if (value != null) {
+                builder.append(engine.mapResult(value, expressions[expressionId]));
+            }
+        }
+
+        /**
+         *
+         * @param key
+         * @return the data for the given key
+         */
+        public Object data(String key) {
+            Object value = data.get(key);
+            if (value == null && !data.containsKey(key)) {
+                throw Fallback.INSTANCE;
+            }
+            return checkSync(value);
+        }
+
+        /**
+         * The data must be an instance of the declared type, if set.
+         *
+         * @param key
+         * @param type
+         */
+        public void checkData(String key, Class<?> type) {
+            Object value = data.get(key);
+            if (value != null && !type.isInstance(value)) {
+                throw Fallback.INSTANCE;
+            }
+        }
+
+        /**
+         * Intermediate values of an expression must not be {@code null} and must be an instance of the expected type.
+         *
+         * @param value
+         * @param type
+         * @return the value
+         */
+        public Object nonNull(Object value, Class<?> type) {
+            if (value == null) {
+                throw Fallback.INSTANCE;
+            }
+            value = checkSync(value);
+            if (!type.isInstance(value)) {
+                throw Fallback.INSTANCE;
+            }
+            return value;
+        }
+
+        /**
+         *
+         * @param value
+         * @return {@code true} if the value is not falsy
+         * @see Booleans#isFalsy(Object)
+         */
+        public boolean test(Object value) {
+            return !Booleans.isFalsy(checkSync(value));
+        }
+
+        private static Object checkSync(Object value) {
+            if (value instanceof CompletionStage || value instanceof ResultNode
+                    || value instanceof Uni) {
+                throw Fallback.INSTANCE;
+            }
+            return value;
+        }
+
+    }
+
+    /**
+     * Signals that the template instance cannot be rendered by the compiled template.
+     */
+    final class Fallback extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final Fallback INSTANCE = new Fallback();
+
+        private Fallback() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
@@ -28,6 +28,7 @@ public final class EngineBuilder {
     final List<ValueResolver> valueResolvers;
     final List<NamespaceResolver> namespaceResolvers;
     final List<TemplateLocator> locators;
+    final Map<String, CompiledTemplate> compiledTemplates;
     final List<ResultMapper> resultMappers;
     final List<TemplateInstance.Initializer> initializers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
@@ -43,6 +44,7 @@ public final class EngineBuilder {
         this.valueResolvers = new ArrayList<>();
         this.namespaceResolvers = new ArrayList<>();
         this.locators = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
@@ -187,6 +189,20 @@ public final class EngineBuilder {
         return this;
     }
 
+    /**
+     * The compiled template is used to render the template with the given id if the template is loaded by a
+     * {@link TemplateLocator} and if the template was compiled from the same content.
+     *
+     * @param id
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String id, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(id, compiledTemplate);
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
@@ -29,6 +29,7 @@ class EngineImpl implements Engine {
     private final Evaluator evaluator;
     private final Map<String, Template> templates;
     private final List<TemplateLocator> locators;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
@@ -45,6 +46,7 @@ class EngineImpl implements Engine {
         this.evaluator = new EvaluatorImpl(this.valueResolvers, this.namespaceResolvers, builder.strictRendering);
         this.templates = new ConcurrentHashMap<>();
         this.locators = sort(builder.locators);
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
@@ -155,7 +157,13 @@ class EngineImpl implements Engine {
             Optional<TemplateLocation> location = locator.locate(id);
             if (location.isPresent()) {
                 try (Reader r = location.get().read()) {
-                    return newParser(id, ensureBufferedReader(r), location.get().getVariant(), generateId()).parse();
+                    TemplateImpl template = newParser(id, ensureBufferedReader(r), location.get().getVariant(), generateId())
+                            .parse();
+                    CompiledTemplate compiled = compiledTemplates.get(id);
+                    if (compiled != null && !template.setCompiled(compiled)) {
+                        LOGGER.debugf("Compiled template %s ignored - the template %s does not match", compiled, id);
+                    }
+                    return template;
                 } catch (IOException e) {
                     LOGGER.warn("Unable to close the reader for " + id, e);
                 }
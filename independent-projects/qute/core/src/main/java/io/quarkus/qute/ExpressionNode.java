@@ -9,7 +9,7 @@ import org.jboss.logging.Logger;
 /**
  * This node holds a single expression such as {@code foo.bar}.
  */
-class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<ResultNode>> {
+public class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<ResultNode>> {
 
     private static final Logger LOG = Logger.getLogger("io.quarkus.qute.nodeResolve");
 
@@ -56,6 +56,20 @@ class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<R
         return expression.isLiteral();
     }
 
+    @Override
+    public boolean isExpression() {
+        return true;
+    }
+
+    @Override
+    public ExpressionNode asExpression() {
+        return this;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
     Engine getEngine() {
         return engine;
     }
@@ -113,7 +113,7 @@ class Parser implements Function<String, Expression>, ParserHelper {
         }
     }
 
-    Template parse() {
+    TemplateImpl parse() {
 
         sectionStack.addFirst(SectionNode.builder(ROOT_HELPER_NAME, origin(0), this, this::parserError)
                 .setEngine(engine)
@@ -56,6 +56,14 @@ public final class SectionBlock {
         return nodes.isEmpty();
     }
 
+    /**
+     *
+     * @return an immutable list of template nodes
+     */
+    public List<TemplateNode> getNodes() {
+        return nodes;
+    }
+
     List<Expression> getExpressions() {
         List<Expression> expressions = new ArrayList<>();
         expressions.addAll(this.expressions.values());
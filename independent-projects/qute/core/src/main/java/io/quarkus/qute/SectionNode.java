@@ -12,7 +12,7 @@ import org.jboss.logging.Logger;
 /**
  * Section node.
  */
-class SectionNode implements TemplateNode {
+public class SectionNode implements TemplateNode {
 
     private static final Logger LOG = Logger.getLogger("io.quarkus.qute.nodeResolve");
 
@@ -51,6 +51,36 @@ class SectionNode implements TemplateNode {
         return origin;
     }
 
+    /**
+     *
+     * @return the name of the section, e.g. {@code if}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     *
+     * @return an immutable list of blocks, the main block is always the first one
+     */
+    public List<SectionBlock> getBlocks() {
+        return blocks;
+    }
+
+    public SectionHelper getHelper() {
+        return helper;
+    }
+
+    @Override
+    public boolean isSection() {
+        return true;
+    }
+
+    @Override
+    public SectionNode asSection() {
+        return this;
+    }
+
     void optimizeNodes(Set<TemplateNode> nodes) {
         for (SectionBlock block : blocks) {
             block.optimizeNodes(nodes);
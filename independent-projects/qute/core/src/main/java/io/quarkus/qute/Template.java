@@ -133,4 +133,14 @@ public interface Template {
      */
     Optional<Variant> getVariant();
 
+    /**
+     * The nodes of a template can be used to inspect the structure of the template, e.g. by a template compiler.
+     *
+     * @return an immutable list of the top-level nodes of the template
+     * @throws UnsupportedOperationException If the template does not support this operation
+     */
+    default List<TemplateNode> getNodes() {
+        throw new UnsupportedOperationException();
+    }
+
 }
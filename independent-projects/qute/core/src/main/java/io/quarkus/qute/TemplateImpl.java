@@ -3,6 +3,7 @@ package io.quarkus.qute;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -19,6 +20,9 @@ class TemplateImpl implements Template {
     private final EngineImpl engine;
     private final Optional<Variant> variant;
     final SectionNode root;
+    // The compiled template and the expressions indexed by the generated id, may be null
+    private CompiledTemplate compiled;
+    private Expression[] expressionsById;
 
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
@@ -49,6 +53,35 @@ class TemplateImpl implements Template {
         return generatedId;
     }
 
+    @Override
+    public List<TemplateNode> getNodes() {
+        return root.blocks.get(0).nodes;
+    }
+
+    /**
+     * Must be called before the template is published.
+     *
+     * @param compiled
+     * @return {@code true} if the compiled template matches this template
+     */
+    boolean setCompiled(CompiledTemplate compiled) {
+        if (compiled.getFingerprint() != CompiledTemplate.fingerprint(getNodes())) {
+            return false;
+        }
+        List<Expression> expressions = getExpressions();
+        int maxId = 0;
+        for (Expression expression : expressions) {
+            maxId = Math.max(maxId, expression.getGeneratedId());
+        }
+        Expression[] expressionsById = new Expression[maxId + 1];
+        for (Expression expression : expressions) {
+            expressionsById[expression.getGeneratedId()] = expression;
+        }
+        this.expressionsById = expressionsById;
+        this.compiled = compiled;
+        return true;
+    }
+
     @Override
     public Optional<Variant> getVariant() {
         return variant;
@@ -63,9 +96,13 @@ class TemplateImpl implements Template {
 
         @Override
         public String render() {
+            String compiledResult = renderCompiled();
+            if (compiledResult != null) {
+                return compiledResult;
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return renderNodes().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -139,11 +176,37 @@ class TemplateImpl implements Template {
         }
 
         private CompletionStage<String> renderAsyncNoTimeout() {
+            String compiledResult;
+            try {
+                compiledResult = renderCompiled();
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+            if (compiledResult != null) {
+                return CompletedStage.of(compiledResult);
+            }
+            return renderNodes();
+        }
+
+        private CompletionStage<String> renderNodes() {
             StringBuilder builder = new StringBuilder(1028);
-            return renderData(data(), builder::append).thenApply(v -> builder.toString());
+            return renderNodes(data(), builder::append).thenApply(v -> builder.toString());
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            try {
+                String compiledResult = renderCompiled();
+                if (compiledResult != null) {
+                    consumer.accept(compiledResult);
+                    return CompletedStage.VOID;
+                }
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+            return renderNodes(data, consumer);
+        }
+
+        private CompletionStage<Void> renderNodes(Object data, Consumer<String> consumer) {
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
@@ -165,6 +228,25 @@ class TemplateImpl implements Template {
             return result;
         }
 
+        /**
+         *
+         * @return the rendered template or {@code null} if the compiled template cannot be used
+         */
+        private String renderCompiled() {
+            if (compiled == null || data != null) {
+                // Only the named data can be accessed by a compiled template
+                return null;
+            }
+            StringBuilder builder = new StringBuilder(1028);
+            try {
+                compiled.render(new CompiledTemplate.Output(dataMap != null ? dataMap : Collections.emptyMap(), builder,
+                        engine, expressionsById));
+            } catch (CompiledTemplate.Fallback e) {
+                return null;
+            }
+            return builder.toString();
+        }
+
         @Override
         public String toString() {
             return "Instance of " + TemplateImpl.this.toString();
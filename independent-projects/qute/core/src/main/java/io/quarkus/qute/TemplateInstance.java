@@ -2,8 +2,16 @@ package io.quarkus.qute;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import org.reactivestreams.Subscription;
 
 /**
  * Represents an instance of {@link Template}.
@@ -70,6 +78,86 @@ public interface TemplateInstance {
      */
     String render();
 
+    /**
+     * Triggers rendering and writes the chunks of the rendered template to the given appendable as soon as they are
+     * produced. Unlike {@link #render()}, the output is never held in memory as a single string. Note that this method
+     * blocks the current thread!
+     * <p>
+     * The chunks are always written from the current thread. Nothing is written if the rendering fails before the first
+     * chunk is produced. If the rendering times out then it's cancelled and no chunk is written afterwards.
+     *
+     * @param appendable To append the chunks of the rendered template to, e.g. a {@link java.io.Writer}
+     * @throws UncheckedIOException If an I/O error occurs while writing to the appendable
+     * @see #createMulti()
+     */
+    default void render(Appendable appendable) {
+        long timeout = getTimeout();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        // One chunk is requested at a time, so the queue holds at most a chunk and a failure or the end marker
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(2);
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        Object end = new Object();
+        createMulti().subscribe().withSubscriber(new MultiSubscriber<String>() {
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(1);
+            }
+
+            @Override
+            public void onItem(String item) {
+                queue.add(item);
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                queue.add(failure);
+            }
+
+            @Override
+            public void onCompletion() {
+                queue.add(end);
+            }
+        });
+        try {
+            while (true) {
+                Object next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == end) {
+                    return;
+                } else if (next == null) {
+                    cancel(subscription);
+                    throw new TemplateException(toString() + " rendering timeout [" + timeout + "ms] occured");
+                } else if (next instanceof Throwable) {
+                    if (next instanceof RuntimeException) {
+                        throw (RuntimeException) next;
+                    } else {
+                        throw new IllegalStateException((Throwable) next);
+                    }
+                }
+                try {
+                    appendable.append((String) next);
+                } catch (IOException e) {
+                    cancel(subscription);
+                    throw new UncheckedIOException(e);
+                }
+                // The next chunk is only produced once this one is written
+                subscription.get().request(1);
+            }
+        } catch (InterruptedException e) {
+            cancel(subscription);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void cancel(AtomicReference<Subscription> subscription) {
+        Subscription s = subscription.get();
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
     /**
      * Triggers rendering.
      *
@@ -39,6 +39,42 @@ public interface TemplateNode {
         return false;
     }
 
+    /**
+     *
+     * @return {@code true} if the node represents a static text
+     */
+    default boolean isText() {
+        return false;
+    }
+
+    /**
+     *
+     * @return {@code true} if the node represents an output expression
+     */
+    default boolean isExpression() {
+        return false;
+    }
+
+    /**
+     *
+     * @return {@code true} if the node represents a section
+     */
+    default boolean isSection() {
+        return false;
+    }
+
+    default TextNode asText() {
+        throw new IllegalStateException();
+    }
+
+    default ExpressionNode asExpression() {
+        throw new IllegalStateException();
+    }
+
+    default SectionNode asSection() {
+        throw new IllegalStateException();
+    }
+
     /**
      * Represents an origin of a template node.
      */
@@ -36,6 +36,16 @@ public class TextNode implements TemplateNode, ResultNode {
         return value;
     }
 
+    @Override
+    public boolean isText() {
+        return true;
+    }
+
+    @Override
+    public TextNode asText() {
+        return this;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
         consumer.accept(value);
@@ -0,0 +1,144 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.quarkus.qute.TemplateLocator.TemplateLocation;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    private static final String CONTENT = "Hello {name}!";
+
+    @Test
+    public void testCompiledTemplate() {
+        HelloCompiled compiled = new HelloCompiled(CompiledTemplate.fingerprint(Engine.builder().addDefaults().build()
+                .parse(CONTENT).getNodes()));
+        Engine engine = engineWith(compiled);
+        Template hello = engine.getTemplate("hello");
+        assertEquals("Hello <foo>!", hello.data("name", "<foo>").render());
+        assertEquals(1, compiled.renders.get());
+        assertEquals("Hello <foo>!", hello.data("name", "<foo>").renderAsync().toCompletableFuture().join());
+        assertEquals(2, compiled.renders.get());
+        // Data object cannot be accessed by the compiled template
+        assertEquals("Hello foo!", hello.data(Map.of("name", "foo")).render());
+        assertEquals(2, compiled.renders.get());
+        // Parsed templates are never compiled
+        assertEquals("Hello foo!", engine.parse(CONTENT, null, "hello").data("name", "foo").render());
+        assertEquals(2, compiled.renders.get());
+    }
+
+    @Test
+    public void testFallback() {
+        HelloCompiled compiled = new HelloCompiled(CompiledTemplate.fingerprint(Engine.builder().addDefaults().build()
+                .parse(CONTENT).getNodes()));
+        Engine engine = engineWith(compiled);
+        // Async data is not supported by the compiled template
+        assertEquals("Hello foo!", engine.getTemplate("hello").data("name", CompletedStage.of("foo")).render());
+        assertEquals(1, compiled.renders.get());
+        assertEquals(1, compiled.fallbacks.get());
+    }
+
+    @Test
+    public void testDataTypeMismatch() {
+        HelloCompiled compiled = new HelloCompiled(CompiledTemplate.fingerprint(Engine.builder().addDefaults().build()
+                .parse(CONTENT).getNodes()));
+        Engine engine = engineWith(compiled);
+        // The data is checked before anything is rendered
+        assertEquals("Hello 1!", engine.getTemplate("hello").data("name", 1).render());
+        assertEquals(1, compiled.renders.get());
+        assertEquals(1, compiled.fallbacks.get());
+        assertEquals(0, compiled.values.get());
+    }
+
+    @Test
+    public void testClassCastExceptionNotHidden() {
+        CompiledTemplate compiled = new CompiledTemplate() {
+
+            @Override
+            public int getFingerprint() {
+                return CompiledTemplate.fingerprint(Engine.builder().addDefaults().build().parse(CONTENT).getNodes());
+            }
+
+            @Override
+            public void render(Output output) {
+                // E.g. thrown by a getter
+                throw new ClassCastException();
+            }
+        };
+        Engine engine = engineWith(compiled);
+        assertThrows(ClassCastException.class, () -> engine.getTemplate("hello").data("name", "foo").render());
+    }
+
+    @Test
+    public void testFingerprintMismatch() {
+        HelloCompiled compiled = new HelloCompiled(CompiledTemplate.fingerprint(Engine.builder().addDefaults().build()
+                .parse("Hello {name}?").getNodes()));
+        Engine engine = engineWith(compiled);
+        assertEquals("Hello foo!", engine.getTemplate("hello").data("name", "foo").render());
+        assertEquals(0, compiled.renders.get());
+    }
+
+    private static Engine engineWith(CompiledTemplate compiled) {
+        return Engine.builder().addDefaults()
+                .addCompiledTemplate("hello", compiled)
+                .addLocator(id -> Optional.of(new TemplateLocation() {
+
+                    @Override
+                    public Reader read() {
+                        return new StringReader(CONTENT);
+                    }
+
+                    @Override
+                    public Optional<Variant> getVariant() {
+                        return Optional.empty();
+                    }
+
+                })).build();
+    }
+
+    // This is what a generated class would look like
+    static class HelloCompiled implements CompiledTemplate {
+
+        private final int fingerprint;
+        final AtomicInteger renders = new AtomicInteger();
+        final AtomicInteger fallbacks = new AtomicInteger();
+        final AtomicInteger values = new AtomicInteger();
+
+        HelloCompiled(int fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public int getFingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public void render(Output output) {
+            renders.incrementAndGet();
+            try {
+                output.checkData("name", String.class);
+            } catch (Fallback e) {
+                fallbacks.incrementAndGet();
+                throw e;
+            }
+            output.text("Hello ");
+            try {
+                values.incrementAndGet();
+                output.value(output.data("name"), 1);
+            } catch (Fallback e) {
+                fallbacks.incrementAndGet();
+                throw e;
+            }
+            output.text("!");
+        }
+
+    }
+
+}
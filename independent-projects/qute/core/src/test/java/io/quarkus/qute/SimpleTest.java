@@ -1,16 +1,21 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.qute.Results.NotFound;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.LongAdder;
 import org.junit.jupiter.api.Test;
@@ -286,4 +291,76 @@ public class SimpleTest {
                         .data("foo", true, "bar", false).render());
         assertEquals(3, invocations.longValue());
     }
+
+    @Test
+    public void testRenderAppendable() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#for i in total}{i}:{name}{#if i_hasNext},{/if}{/for}");
+        List<String> chunks = new ArrayList<>();
+        Appendable appendable = new Appendable() {
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) {
+                return append(csq.subSequence(start, end));
+            }
+
+            @Override
+            public Appendable append(char c) {
+                return append(String.valueOf(c));
+            }
+
+            @Override
+            public Appendable append(CharSequence csq) {
+                chunks.add(csq.toString());
+                return this;
+            }
+        };
+        template.data("total", 3).data("name", "foo").render(appendable);
+        assertEquals("1:foo,2:foo,3:foo", String.join("", chunks));
+        // The output is appended chunk by chunk
+        assertTrue(chunks.size() > 1);
+
+        Appendable failing = new Appendable() {
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException("Closed");
+            }
+
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException("Closed");
+            }
+
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException("Closed");
+            }
+        };
+        try {
+            template.data("total", 3).data("name", "foo").render(failing);
+            fail();
+        } catch (UncheckedIOException expected) {
+            assertEquals("Closed", expected.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testRenderAppendableTimeout() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{name}:{value}");
+        StringBuilder builder = new StringBuilder();
+        CompletableFuture<String> value = new CompletableFuture<>();
+        try {
+            template.data("name", "foo").data("value", value).setAttribute(TemplateInstance.TIMEOUT, 50)
+                    .render(builder);
+            fail();
+        } catch (TemplateException expected) {
+            assertTrue(expected.getMessage().contains("rendering timeout [50ms] occured"), expected.getMessage());
+        }
+        // The rendering is cancelled - nothing is appended once it completes
+        value.complete("bar");
+        assertEquals("", builder.toString());
+    }
+
 }
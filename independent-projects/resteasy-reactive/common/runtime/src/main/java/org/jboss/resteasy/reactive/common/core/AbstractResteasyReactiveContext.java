@@ -8,8 +8,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.container.CompletionCallback;
 import javax.ws.rs.container.ConnectionCallback;
+import javax.ws.rs.core.Response;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.PreserveTargetException;
 import org.jboss.resteasy.reactive.spi.RestHandler;
@@ -82,10 +85,18 @@ public abstract class AbstractResteasyReactiveContext<T extends AbstractResteasy
                         ctxtExecutor.execute(this);
                     }
                 } else {
-                    lastExecutor.execute(this);
+                    try {
+                        lastExecutor.execute(this);
+                    } catch (RejectedExecutionException e) {
+                        rejected(e);
+                    }
                 }
             } else {
-                executor.execute(this);
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    rejected(e);
+                }
             }
         }
     }
@@ -206,7 +217,11 @@ public abstract class AbstractResteasyReactiveContext<T extends AbstractResteasy
                 }
                 if (exec != null) {
                     //outside sync block
-                    exec.execute(this);
+                    try {
+                        exec.execute(this);
+                    } catch (RejectedExecutionException e) {
+                        rejected(e);
+                    }
                 } else if (resumed) {
                     resume();
                 }
@@ -215,6 +230,20 @@ public abstract class AbstractResteasyReactiveContext<T extends AbstractResteasy
         }
     }
 
+    /**
+     * Called if the executor the request should be resumed on rejected it, e.g. because it is saturated.
+     * The request then fails with a 503 response processed on the event loop.
+     */
+    private void rejected(RejectedExecutionException e) {
+        lastExecutor = null;
+        if (abortHandlerChainStarted) {
+            handleUnrecoverableError(e);
+            return;
+        }
+        handleException(new WebApplicationException(e, Response.Status.SERVICE_UNAVAILABLE), true);
+        getEventLoop().execute(this);
+    }
+
     protected void beginAsyncProcessing() {
 
     }
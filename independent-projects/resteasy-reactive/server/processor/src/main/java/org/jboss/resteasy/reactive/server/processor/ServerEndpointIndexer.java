@@ -20,6 +20,7 @@ import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNa
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.SET;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.SORTED_SET;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.ZONED_DATE_TIME;
+import static org.jboss.resteasy.reactive.server.processor.util.ResteasyReactiveServerDotNames.RUN_ON_VIRTUAL_THREAD;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -88,9 +89,11 @@ public class ServerEndpointIndexer
     protected final List<MethodScanner> methodScanners;
     protected final FieldInjectionIndexerExtension fieldInjectionHandler;
     protected final ConverterSupplierIndexerExtension converterSupplierIndexerExtension;
+    protected final boolean defaultRunOnVirtualThread;
 
     protected ServerEndpointIndexer(AbstractBuilder builder) {
         super(builder);
+        this.defaultRunOnVirtualThread = builder.defaultRunOnVirtualThread;
         this.endpointInvokerFactory = builder.endpointInvokerFactory;
         this.methodScanners = new ArrayList<>(builder.methodScanners);
         this.fieldInjectionHandler = builder.fieldInjectionIndexerExtension;
@@ -208,11 +211,29 @@ public class ServerEndpointIndexer
             methodAnnotationNames.add(instance.name().toString());
         }
         method.setMethodAnnotationNames(methodAnnotationNames);
+        method.setRunOnVirtualThread(isRunOnVirtualThread(method, currentClassInfo, info, annotationStore));
 
         // validate the path
         validateMethodPath(method, currentClassInfo, info);
     }
 
+    private boolean isRunOnVirtualThread(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info,
+            AnnotationStore annotationStore) {
+        if (annotationStore.getAnnotation(info, RUN_ON_VIRTUAL_THREAD) != null) {
+            if (!method.isBlocking()) {
+                throw new DeploymentException("Method '" + info.name() + "' of class '" + currentClassInfo.name()
+                        + "' is annotated with @RunOnVirtualThread but it is not blocking");
+            }
+            return true;
+        }
+        if (annotationStore.getAnnotation(currentClassInfo, RUN_ON_VIRTUAL_THREAD) != null) {
+            // the class level annotation only applies to the blocking methods
+            return method.isBlocking();
+        }
+        // the default only applies to the methods that are blocking anyway
+        return defaultRunOnVirtualThread && method.isBlocking();
+    }
+
     private void validateMethodPath(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info) {
         try {
             new URITemplate(method.getPath(), false);
@@ -485,6 +506,7 @@ public class ServerEndpointIndexer
         private List<MethodScanner> methodScanners = new ArrayList<>();
         private FieldInjectionIndexerExtension fieldInjectionIndexerExtension;
         private ConverterSupplierIndexerExtension converterSupplierIndexerExtension = new ReflectionConverterIndexerExtension();
+        private boolean defaultRunOnVirtualThread;
 
         public EndpointInvokerFactory getEndpointInvokerFactory() {
             return endpointInvokerFactory;
@@ -515,6 +537,15 @@ public class ServerEndpointIndexer
             return (B) this;
         }
 
+        /**
+         * If set to {@code true} all blocking methods run on virtual threads, as if they were annotated with
+         * {@link org.jboss.resteasy.reactive.server.RunOnVirtualThread}.
+         */
+        public B setDefaultRunOnVirtualThread(boolean defaultRunOnVirtualThread) {
+            this.defaultRunOnVirtualThread = defaultRunOnVirtualThread;
+            return (B) this;
+        }
+
         @Override
         public ServerEndpointIndexer build() {
             return new ServerEndpointIndexer(this);
@@ -2,6 +2,7 @@ package org.jboss.resteasy.reactive.server.processor.util;
 
 import javax.ws.rs.core.Context;
 import org.jboss.jandex.DotName;
+import org.jboss.resteasy.reactive.server.RunOnVirtualThread;
 import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 import org.jboss.resteasy.reactive.server.ServerResponseFilter;
 import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
@@ -24,5 +25,6 @@ public class ResteasyReactiveServerDotNames {
     public static final DotName QUARKUS_REST_CONTAINER_REQUEST_CONTEXT = DotName
             .createSimple(ResteasyReactiveContainerRequestContext.class.getName());
     public static final DotName SIMPLIFIED_RESOURCE_INFO = DotName.createSimple(SimpleResourceInfo.class.getName());
+    public static final DotName RUN_ON_VIRTUAL_THREAD = DotName.createSimple(RunOnVirtualThread.class.getName());
 
 }
@@ -0,0 +1,25 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * When used on a blocking resource method, or on a resource class, the blocking part of the request processing is executed
+ * on a new virtual thread instead of a thread of the worker pool.
+ * <p>
+ * A virtual thread does not hold a platform thread while it waits for I/O, so slow downstream calls no longer limit the
+ * number of concurrent requests to the size of the worker pool. However, a virtual thread that blocks inside a
+ * {@code synchronized} block or a native call pins its carrier thread, which reduces the concurrency back to the number of
+ * carrier threads.
+ * <p>
+ * If the JVM does not support virtual threads, the worker pool is used.
+ * <p>
+ * When used on a class, the annotation only applies to the blocking methods of the class. Using this annotation on a method
+ * that is not blocking results in a deployment failure.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface RunOnVirtualThread {
+}
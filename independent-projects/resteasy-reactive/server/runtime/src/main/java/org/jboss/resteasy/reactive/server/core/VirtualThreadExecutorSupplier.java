@@ -0,0 +1,65 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.jboss.logging.Logger;
+
+/**
+ * Supplies an executor that starts a new virtual thread for each task.
+ * <p>
+ * Virtual threads are only available on recent JDKs, so the executor is looked up reflectively. If it cannot be created
+ * (e.g. the JDK does not support virtual threads, or they are a preview feature that is not enabled) a warning is logged
+ * and the fallback executor is used instead.
+ *
+ * @see org.jboss.resteasy.reactive.server.RunOnVirtualThread
+ */
+public class VirtualThreadExecutorSupplier implements Supplier<Executor> {
+
+    private static final Logger log = Logger.getLogger(VirtualThreadExecutorSupplier.class);
+
+    private final Supplier<Executor> fallback;
+    private volatile Executor executor;
+    private volatile boolean unsupported;
+
+    public VirtualThreadExecutorSupplier(Supplier<Executor> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Executor get() {
+        Executor current = executor;
+        if (current != null) {
+            return current;
+        }
+        if (!unsupported) {
+            synchronized (this) {
+                if (executor == null && !unsupported) {
+                    executor = createExecutor();
+                    unsupported = executor == null;
+                }
+                if (executor != null) {
+                    return executor;
+                }
+            }
+        }
+        return fallback.get();
+    }
+
+    private Executor createExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            log.warn("Virtual threads are not supported by the current JDK (" + System.getProperty("java.version")
+                    + "), endpoints annotated with @RunOnVirtualThread are executed on the worker thread pool");
+        } catch (InvocationTargetException e) {
+            // e.g. UnsupportedOperationException thrown if the preview features are not enabled
+            log.warn("Virtual threads are not enabled, endpoints annotated with @RunOnVirtualThread are executed on the "
+                    + "worker thread pool: " + e.getCause());
+        }
+        return null;
+    }
+}
@@ -144,8 +144,8 @@ public class ClassRoutingHandler implements ServerRestHandler {
 
         requestContext.restart(target.value);
         requestContext.setRemaining(target.remaining);
-        for (int i = 0; i < target.pathParamValues.length; ++i) {
-            String pathParamValue = target.pathParamValues[i];
+        for (int i = 0; i < target.getPathParamCount(); ++i) {
+            String pathParamValue = target.getPathParamValue(i);
             if (pathParamValue == null) {
                 break;
             }
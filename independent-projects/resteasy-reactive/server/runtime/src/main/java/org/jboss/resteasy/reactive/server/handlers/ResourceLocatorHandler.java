@@ -81,9 +81,9 @@ public class ResourceLocatorHandler implements ServerRestHandler {
         requestContext.setEndpointInstance(locator);
         requestContext.setResult(null);
         requestContext.restart(res.value, true);
-        requestContext.setMaxPathParams(res.pathParamValues.length);
-        for (int i = 0; i < res.pathParamValues.length; ++i) {
-            String pathParamValue = res.pathParamValues[i];
+        requestContext.setMaxPathParams(res.getMaxPathParams());
+        for (int i = 0; i < res.getPathParamCount(); ++i) {
+            String pathParamValue = res.getPathParamValue(i);
             if (pathParamValue == null) {
                 break;
             }
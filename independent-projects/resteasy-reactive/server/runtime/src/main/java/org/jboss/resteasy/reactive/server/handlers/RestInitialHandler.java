@@ -68,12 +68,12 @@ public class RestInitialHandler implements ServerRestHandler {
         requestContext.restart(target.value.handlers);
         requestContext.setMaxPathParams(target.value.maxPathParams);
         requestContext.setRemaining(target.remaining);
-        for (int i = 0; i < target.pathParamValues.length; ++i) {
-            String pathParamValue = target.pathParamValues[i];
+        for (int i = 0; i < target.getPathParamCount(); ++i) {
+            String pathParamValue = target.getPathParamValue(i);
             if (pathParamValue == null) {
                 break;
             }
-            requestContext.setPathParamValue(i, target.pathParamValues[i]);
+            requestContext.setPathParamValue(i, pathParamValue);
         }
     }
 
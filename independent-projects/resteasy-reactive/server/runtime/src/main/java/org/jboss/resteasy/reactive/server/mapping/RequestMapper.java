@@ -57,9 +57,11 @@ public class RequestMapper<T> {
         }
 
         List<RequestPath<T>> value = initialMatch.getValue();
+        // parameter boundaries are recorded as [start, end) offsets into the path, and are shared between
+        // all the candidates, so a failed candidate does not allocate or decode anything
+        int[] paramBounds = null;
         for (int index = 0; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
@@ -73,21 +75,21 @@ public class RequestMapper<T> {
                         break;
                     }
                     matchPos = matcher.end();
+                    if (paramBounds == null) {
+                        paramBounds = new int[maxParams * 2];
+                    }
                     for (String name : segment.names) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
+                        paramBounds[paramCount * 2] = matcher.start(name);
+                        paramBounds[paramCount * 2 + 1] = matcher.end(name);
+                        paramCount++;
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+                    if (!path.regionMatches(matchPos, segment.literalText, 0, segment.literalText.length())) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
+                        break;
                     }
+                    matchPos += segment.literalText.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
@@ -97,11 +99,16 @@ public class RequestMapper<T> {
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
+                    if (paramBounds == null) {
+                        paramBounds = new int[maxParams * 2];
+                    }
+                    paramBounds[paramCount * 2] = start;
+                    paramBounds[paramCount * 2 + 1] = matchPos;
+                    paramCount++;
                 }
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+            if (!matched) {
+                continue;
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
@@ -110,7 +117,7 @@ public class RequestMapper<T> {
                 doPrefixMatch = (matchPos == 1 || path.charAt(matchPos) == '/') //matchPos == 1 corresponds to '/' as a root level match
                         && (prefixAllowed || matchPos == pathLength - 1); //if prefix is allowed, or the remainder is only a trailing /
             }
-            if (matched && (fullMatch || doPrefixMatch)) {
+            if (fullMatch || doPrefixMatch) {
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -121,7 +128,8 @@ public class RequestMapper<T> {
                         remaining = path.substring(matchPos);
                     }
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                return new RequestMatch(potentialMatch.template, potentialMatch.value, path, paramBounds, paramCount,
+                        maxParams, remaining);
             }
         }
         return null;
@@ -156,27 +164,110 @@ public class RequestMapper<T> {
     }
 
     public static class RequestMatch<T> {
+        private static final String[] NO_PARAMS = new String[0];
+
         public final URITemplate template;
         public final T value;
+        public final String remaining;
+        private final String path;
         /**
-         * The matched parameters in order.
-         * <p>
-         * Note that this array may be larger than required, and padded with null values at the end
+         * The [start, end) offsets of the matched parameters in the path, or {@code null} if the values were
+         * supplied directly. A start offset of {@code -1} denotes an optional regex group that did not match.
          */
-        public final String[] pathParamValues;
-        public final String remaining;
+        private final int[] pathParamBounds;
+        private final int pathParamCount;
+        private final int maxPathParams;
+        /**
+         * The decoded values, only materialized when a parameter is actually read.
+         */
+        private String[] pathParamValues;
 
         public RequestMatch(URITemplate template, T value, String[] pathParamValues, String remaining) {
             this.template = template;
             this.value = value;
+            this.remaining = remaining;
+            this.path = null;
+            this.pathParamBounds = null;
+            int count = 0;
+            while (count < pathParamValues.length && pathParamValues[count] != null) {
+                count++;
+            }
+            this.pathParamCount = count;
+            this.maxPathParams = pathParamValues.length;
             this.pathParamValues = pathParamValues;
+        }
+
+        RequestMatch(URITemplate template, T value, String path, int[] pathParamBounds, int pathParamCount,
+                int maxPathParams, String remaining) {
+            this.template = template;
+            this.value = value;
             this.remaining = remaining;
+            this.path = path;
+            this.pathParamBounds = pathParamBounds;
+            this.pathParamCount = pathParamCount;
+            this.maxPathParams = maxPathParams;
+        }
+
+        /**
+         * @return the number of parameters that were matched
+         */
+        public int getPathParamCount() {
+            return pathParamCount;
+        }
+
+        /**
+         * @return the maximum number of parameters of any template of the mapper that produced this match
+         */
+        public int getMaxPathParams() {
+            return maxPathParams;
+        }
+
+        /**
+         * Returns the decoded value of the matched parameter at the given index. The value is only extracted
+         * from the path and decoded on first access.
+         */
+        public String getPathParamValue(int index) {
+            if (index >= pathParamCount) {
+                return null;
+            }
+            if (pathParamValues == null) {
+                pathParamValues = new String[maxPathParams];
+            }
+            String result = pathParamValues[index];
+            if (result == null && pathParamBounds != null) {
+                int start = pathParamBounds[index * 2];
+                if (start < 0) {
+                    return null;
+                }
+                result = URIDecoder.decodeURIComponent(path.substring(start, pathParamBounds[index * 2 + 1]), false);
+                pathParamValues[index] = result;
+            }
+            return result;
+        }
+
+        /**
+         * The matched parameters in order.
+         * <p>
+         * Note that this array may be larger than required, and padded with null values at the end.
+         * This decodes all parameters, prefer {@link #getPathParamValue(int)} when possible.
+         */
+        public String[] getPathParamValues() {
+            if (maxPathParams == 0) {
+                return NO_PARAMS;
+            }
+            for (int i = 0; i < pathParamCount; ++i) {
+                getPathParamValue(i);
+            }
+            if (pathParamValues == null) {
+                pathParamValues = new String[maxPathParams];
+            }
+            return pathParamValues;
         }
 
         @Override
         public String toString() {
             return "RequestMatch{ value: " + value + ", template: " + template + ", pathParamValues: "
-                    + Arrays.toString(pathParamValues) + " }";
+                    + Arrays.toString(getPathParamValues()) + " }";
         }
     }
 
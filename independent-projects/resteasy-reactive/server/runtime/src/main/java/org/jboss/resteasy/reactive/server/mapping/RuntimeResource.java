@@ -34,6 +34,8 @@ public class RuntimeResource {
     private final Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score;
     private final MediaType streamElementType;
     private final Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers;
+    // not volatile, this is only a hint
+    private int responseSizeHint;
 
     public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPath, ServerMediaType produces,
             List<MediaType> consumes,
@@ -145,6 +147,18 @@ public class RuntimeResource {
         return classExceptionMappers;
     }
 
+    /**
+     * The size of the last response body written for this resource method, used to size the response buffer
+     * of the next response.
+     */
+    public int getResponseSizeHint() {
+        return responseSizeHint;
+    }
+
+    public void setResponseSizeHint(int responseSizeHint) {
+        this.responseSizeHint = responseSizeHint;
+    }
+
     @Override
     public String toString() {
         return "RuntimeResource{ method: " + javaMethodName + ", path: " + path + "}";
@@ -1,34 +1,37 @@
 package org.jboss.resteasy.reactive.server.vertx;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 
 public class ResteasyReactiveOutputStream extends OutputStream {
 
     private static final Logger log = Logger.getLogger("org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveOutputStream");
+    private static final int MIN_BUFFER_SIZE = 256;
     private final ResteasyReactiveRequestContext context;
     protected final HttpServerRequest request;
     private final int outputBufferSize;
     private ByteBuf pooledBuffer;
     private boolean committed;
+    private int written;
 
     private boolean closed;
     protected boolean waitingForDrain;
     protected boolean drainHandlerRegistered;
     protected boolean first = true;
     protected Throwable throwable;
-    private ByteArrayOutputStream overflow;
+    private CompositeByteBuf overflow;
 
     public ResteasyReactiveOutputStream(VertxResteasyReactiveRequestContext context) {
         this.context = context;
@@ -79,22 +82,17 @@ public class ResteasyReactiveOutputStream extends OutputStream {
         //do all this in the same lock
         synchronized (request.connection()) {
             try {
-                boolean bufferRequired = awaitWriteable() || (overflow != null && overflow.size() > 0);
+                boolean bufferRequired = awaitWriteable() || (overflow != null && overflow.isReadable());
                 if (bufferRequired) {
-                    //just buffer everything
+                    //just buffer everything, the overflow takes ownership of the pooled buffers so there is no copy
                     registerDrainHandler();
                     if (overflow == null) {
-                        overflow = new ByteArrayOutputStream();
-                    }
-                    if (data.hasArray()) {
-                        overflow.write(data.array(), data.arrayOffset() + data.readerIndex(), data.readableBytes());
-                    } else {
-                        data.getBytes(data.readerIndex(), overflow, data.readableBytes());
+                        overflow = PooledByteBufAllocator.DEFAULT.compositeDirectBuffer(Integer.MAX_VALUE);
                     }
                     if (last) {
                         closed = true;
                     }
-                    data.release();
+                    overflow.addComponent(true, data);
                 } else {
                     if (last) {
                         request.response().end(createBuffer(data));
@@ -151,13 +149,14 @@ public class ResteasyReactiveOutputStream extends OutputStream {
                             request.connection().notifyAll();
                         }
                         if (overflow != null) {
-                            if (overflow.size() > 0) {
-                                if (closed) {
-                                    request.response().end(Buffer.buffer(overflow.toByteArray()));
-                                } else {
-                                    request.response().write(Buffer.buffer(overflow.toByteArray()));
-                                }
-                                overflow.reset();
+                            ByteBuf data = overflow;
+                            overflow = null;
+                            if (!data.isReadable() || request.response().closed()) {
+                                data.release();
+                            } else if (closed) {
+                                request.response().end(createBuffer(data));
+                            } else {
+                                request.response().write(createBuffer(data));
                             }
                         }
                     }
@@ -198,14 +197,16 @@ public class ResteasyReactiveOutputStream extends OutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
+                pooledBuffer = buffer = allocateBuffer();
             }
+            written += len;
             while (rem > 0) {
-                int toWrite = Math.min(rem, buffer.writableBytes());
+                // the buffer grows up to outputBufferSize if the initial size was too small
+                int toWrite = Math.min(rem, buffer.maxWritableBytes());
                 buffer.writeBytes(b, idx, toWrite);
                 rem -= toWrite;
                 idx += toWrite;
-                if (!buffer.isWritable()) {
+                if (buffer.maxWritableBytes() == 0) {
                     ByteBuf tmpBuf = buffer;
                     this.pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
                     writeBlocking(tmpBuf, false);
@@ -219,6 +220,24 @@ public class ResteasyReactiveOutputStream extends OutputStream {
         }
     }
 
+    /**
+     * Allocates the first buffer of the response using the size of the previous response of the same resource method,
+     * so that small responses don't use a buffer of {@code outputBufferSize} bytes. The following buffers use
+     * {@code outputBufferSize} as the response is known to be large.
+     */
+    private ByteBuf allocateBuffer() {
+        int initialSize = outputBufferSize;
+        if (written == 0) {
+            RuntimeResource target = context.getTarget();
+            int hint = target == null ? 0 : target.getResponseSizeHint();
+            if (hint > 0 && hint < outputBufferSize) {
+                // leave some room for responses slightly larger than the previous one
+                initialSize = Math.min(outputBufferSize, Math.max(MIN_BUFFER_SIZE, Integer.highestOneBit(hint) << 1));
+            }
+        }
+        return PooledByteBufAllocator.DEFAULT.directBuffer(initialSize, outputBufferSize);
+    }
+
     public void writeBlocking(ByteBuf buffer, boolean finished) throws IOException {
         prepareWrite(buffer, finished);
         write(buffer, finished);
@@ -266,6 +285,10 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     public void close() throws IOException {
         if (closed)
             return;
+        RuntimeResource target = context.getTarget();
+        if (target != null && written > 0) {
+            target.setResponseSizeHint(written);
+        }
         try {
             writeBlocking(pooledBuffer, true);
         } catch (Exception e) {
@@ -0,0 +1,95 @@
+package org.jboss.resteasy.reactive.server.vertx.test.response;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.restassured.response.ExtractableResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * The response buffer is sized from the previous response of the same method, make sure a larger response still
+ * works and is not chunked if it fits in the output buffer.
+ */
+class ResponseBufferSizeTestCase {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest runner = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Payload.class, PayloadWriter.class, PayloadResource.class));
+
+    @Test
+    void varyingResponseSizes() {
+        for (int size : new int[] { 10, 5000, 10, 100000, 8000, 10 }) {
+            ExtractableResponse<?> response = when()
+                    .get("/payload/" + size)
+                    .then().statusCode(200)
+                    .extract();
+            assertEquals(size, response.asByteArray().length);
+            if (size < 8192) {
+                assertEquals(String.valueOf(size), response.header("Content-Length"));
+            } else {
+                assertEquals("chunked", response.header("Transfer-Encoding"));
+            }
+        }
+    }
+
+    public static class Payload {
+
+        final int size;
+
+        Payload(int size) {
+            this.size = size;
+        }
+    }
+
+    @Provider
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public static class PayloadWriter implements MessageBodyWriter<Payload> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == Payload.class;
+        }
+
+        @Override
+        public void writeTo(Payload payload, Class<?> type, Type genericType, Annotation[] annotations,
+                MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                throws IOException {
+            // write in small pieces, like a serializer would
+            byte[] piece = new byte[100];
+            Arrays.fill(piece, (byte) 'a');
+            int remaining = payload.size;
+            while (remaining > 0) {
+                int length = Math.min(remaining, piece.length);
+                entityStream.write(piece, 0, length);
+                remaining -= length;
+            }
+        }
+    }
+
+    @Path("/payload")
+    public static class PayloadResource {
+
+        @GET
+        @Path("{size}")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public Payload payload(@PathParam("size") int size) {
+            return new Payload(size);
+        }
+    }
+}
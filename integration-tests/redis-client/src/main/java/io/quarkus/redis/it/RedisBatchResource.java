@@ -0,0 +1,87 @@
+package io.quarkus.redis.it;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+@Path("/quarkus-redis-batch")
+@ApplicationScoped
+public class RedisBatchResource {
+
+    private static final int COUNT = 100;
+
+    @Inject
+    RedisClient redisClient;
+
+    @Inject
+    ReactiveRedisClient reactiveRedisClient;
+
+    @POST
+    @Path("/sync/{prefix}")
+    public String batchSync(@PathParam("prefix") String prefix) {
+        List<Request> sets = new ArrayList<>(COUNT);
+        List<Request> gets = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            sets.add(Request.cmd(Command.SET).arg(prefix + i).arg(i));
+            gets.add(Request.cmd(Command.GET).arg(prefix + i));
+        }
+        redisClient.batch(sets);
+        long sum = 0;
+        for (Response response : redisClient.batch(gets)) {
+            sum += response.toLong();
+        }
+        return Long.toString(sum);
+    }
+
+    @POST
+    @Path("/reactive/{prefix}")
+    public Uni<String> batchReactive(@PathParam("prefix") String prefix) {
+        List<io.vertx.mutiny.redis.client.Request> sets = new ArrayList<>(COUNT);
+        List<io.vertx.mutiny.redis.client.Request> gets = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            sets.add(io.vertx.mutiny.redis.client.Request.cmd(Command.SET).arg(prefix + i).arg(i));
+            gets.add(io.vertx.mutiny.redis.client.Request.cmd(Command.GET).arg(prefix + i));
+        }
+        return reactiveRedisClient.batch(sets)
+                .chain(ignored -> reactiveRedisClient.batch(gets))
+                .map(responses -> {
+                    long sum = 0;
+                    for (io.vertx.mutiny.redis.client.Response response : responses) {
+                        sum += response.toLong();
+                    }
+                    return Long.toString(sum);
+                });
+    }
+
+    @POST
+    @Path("/transaction/{key}")
+    public String transaction(@PathParam("key") String key) {
+        List<Response> responses = redisClient.transaction(List.of(
+                Request.cmd(Command.INCR).arg(key),
+                Request.cmd(Command.INCR).arg(key),
+                Request.cmd(Command.GET).arg(key)));
+        return responses.get(2).toString();
+    }
+
+    @GET
+    @Path("/transaction/{key}")
+    public Uni<String> reactiveTransaction(@PathParam("key") String key) {
+        return reactiveRedisClient.transaction(List.of(
+                io.vertx.mutiny.redis.client.Request.cmd(Command.INCR).arg(key),
+                io.vertx.mutiny.redis.client.Request.cmd(Command.GET).arg(key)))
+                .map(responses -> responses.get(1).toString());
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkus.redis.it;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.redis.client.RedisClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.redis.client.Response;
+
+@Path("/quarkus-redis-cache")
+@ApplicationScoped
+public class RedisCacheResource {
+
+    static final String CACHE_NAME = "redis-cache";
+    static final String NEAR_CACHE_NAME = "near-cache";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Inject
+    RedisClient redisClient;
+
+    @GET
+    @Path("/{key}")
+    @CacheResult(cacheName = CACHE_NAME)
+    public String get(@PathParam("key") String key) {
+        return key + "-" + invocations.incrementAndGet();
+    }
+
+    @GET
+    @Path("/near/{key}")
+    @CacheResult(cacheName = NEAR_CACHE_NAME)
+    public Uni<String> getNear(@PathParam("key") String key) {
+        return Uni.createFrom().item(() -> key + "-" + invocations.incrementAndGet());
+    }
+
+    @DELETE
+    @Path("/{key}")
+    @CacheInvalidate(cacheName = CACHE_NAME)
+    @CacheInvalidate(cacheName = NEAR_CACHE_NAME)
+    public void invalidate(@PathParam("key") String key) {
+    }
+
+    @GET
+    @Path("/raw/{key}")
+    public String getRaw(@PathParam("key") String key) {
+        Response response = redisClient.get("cache:" + CACHE_NAME + ":" + key);
+        return response == null ? null : response.toString();
+    }
+}
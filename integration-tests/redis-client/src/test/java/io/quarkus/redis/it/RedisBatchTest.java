@@ -0,0 +1,27 @@
+package io.quarkus.redis.it;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+
+@QuarkusTest
+class RedisBatchTest {
+
+    private static final String BASE_URL = "/quarkus-redis-batch";
+
+    @Test
+    public void batch() {
+        // 0 + 1 + ... + 99
+        RestAssured.when().post(BASE_URL + "/sync/batch-sync-").then().statusCode(200).body(is("4950"));
+        RestAssured.when().post(BASE_URL + "/reactive/batch-reactive-").then().statusCode(200).body(is("4950"));
+    }
+
+    @Test
+    public void transaction() {
+        RestAssured.when().post(BASE_URL + "/transaction/tx-counter").then().statusCode(200).body(is("2"));
+        RestAssured.when().get(BASE_URL + "/transaction/tx-counter").then().statusCode(200).body(is("3"));
+    }
+}
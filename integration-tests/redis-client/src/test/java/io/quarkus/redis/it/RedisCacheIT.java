@@ -0,0 +1,8 @@
+package io.quarkus.redis.it;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+@QuarkusIntegrationTest
+class RedisCacheIT extends RedisCacheTest {
+
+}
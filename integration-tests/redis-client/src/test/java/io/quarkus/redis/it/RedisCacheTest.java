@@ -0,0 +1,41 @@
+package io.quarkus.redis.it;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+
+@QuarkusTest
+class RedisCacheTest {
+
+    private static final String BASE_URL = "/quarkus-redis-cache";
+
+    @Test
+    public void cacheResult() {
+        String value = get(BASE_URL + "/cache-result-key");
+        assertEquals(value, get(BASE_URL + "/cache-result-key"));
+        // The value is stored in Redis with the default codecs
+        RestAssured.when().get(BASE_URL + "/raw/cache-result-key").then().statusCode(200).body(startsWith("v"));
+
+        RestAssured.when().delete(BASE_URL + "/cache-result-key").then().statusCode(204);
+        RestAssured.when().get(BASE_URL + "/raw/cache-result-key").then().statusCode(204);
+        assertNotEquals(value, get(BASE_URL + "/cache-result-key"));
+    }
+
+    @Test
+    public void nearCache() {
+        String value = get(BASE_URL + "/near/near-key");
+        assertEquals(value, get(BASE_URL + "/near/near-key"));
+
+        RestAssured.when().delete(BASE_URL + "/near-key").then().statusCode(204);
+        assertNotEquals(value, get(BASE_URL + "/near/near-key"));
+    }
+
+    private static String get(String path) {
+        return RestAssured.when().get(path).then().statusCode(200).extract().asString();
+    }
+}